@@ -0,0 +1,81 @@
+package com.ezroad.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+public class AsyncConfig {
+
+    @Value("${async.page.pool-size:8}")
+    private int pagePoolSize;
+
+    @Value("${async.page.queue-capacity:100}")
+    private int pageQueueCapacity;
+
+    @Value("${async.feed.pool-size:2}")
+    private int feedPoolSize;
+
+    @Value("${async.feed.queue-capacity:1000}")
+    private int feedQueueCapacity;
+
+    @Value("${async.export.pool-size:2}")
+    private int exportPoolSize;
+
+    /**
+     * 식당 상세 페이지 구성용 병렬 조회 스레드 풀
+     * - DB 커넥션 풀(Hikari 기본 10)보다 작게 유지
+     * - 큐가 가득 차면 요청 스레드에서 직접 실행 (무한 대기열/거절 대신 자연스러운 역압)
+     */
+    @Bean(name = "pageExecutor")
+    public ThreadPoolTaskExecutor pageExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(pagePoolSize);
+        executor.setMaxPoolSize(pagePoolSize);
+        executor.setQueueCapacity(pageQueueCapacity);
+        executor.setThreadNamePrefix("page-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 리뷰 작성 후 팔로워 피드 fan-out용 스레드 풀 (요청 스레드에서 팔로워 수만큼 Redis 쓰기를 하지 않도록)
+     * - 큐가 가득 차면 호출 스레드에서 직접 실행
+     */
+    @Bean(name = "feedExecutor")
+    public ThreadPoolTaskExecutor feedExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(feedPoolSize);
+        executor.setMaxPoolSize(feedPoolSize);
+        executor.setQueueCapacity(feedQueueCapacity);
+        executor.setThreadNamePrefix("feed-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 관리자 CSV/NDJSON 내보내기 전용 스레드 풀 (MVC 기본 비동기 실행기로는 쓰지 않음)
+     * - 내보내기마다 DB 커넥션을 하나씩 오래 잡으므로 작게 유지
+     * - 큐가 가득 차면 거절 (요청 스레드에서 실행하면 응답 시작 전 내용이 메모리에 쌓임)
+     */
+    @Bean(name = "exportExecutor")
+    public ThreadPoolTaskExecutor exportExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(exportPoolSize);
+        executor.setMaxPoolSize(exportPoolSize);
+        executor.setQueueCapacity(exportPoolSize * 5);
+        executor.setThreadNamePrefix("export-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+        return executor;
+    }
+}
@@ -6,6 +6,9 @@ import com.ezroad.dto.response.RestaurantResponse;
 import com.ezroad.dto.response.ReviewResponse;
 import com.ezroad.dto.response.SearchKeywordResponse;
 import com.ezroad.entity.Report.ReportStatus;
+import com.ezroad.export.AdminExportService;
+import com.ezroad.export.ExportFormat;
+import com.ezroad.search.SearchIndexUpdater;
 import com.ezroad.service.AdminService;
 import com.ezroad.service.ReportService;
 import com.ezroad.service.SearchKeywordService;
@@ -14,11 +17,18 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
 
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.Map;
 
@@ -31,6 +41,8 @@ public class AdminController {
     private final AdminService adminService;
     private final ReportService reportService;
     private final SearchKeywordService searchKeywordService;
+    private final SearchIndexUpdater searchIndexUpdater;
+    private final AdminExportService adminExportService;
 
     // ==================== 대시보드 ====================
 
@@ -49,6 +61,16 @@ public class AdminController {
         return ResponseEntity.ok(adminService.getMembers(keyword, role, pageable));
     }
 
+    // 회원 내보내기 (format: csv | ndjson, 목록과 같은 필터)
+    @GetMapping("/members/export")
+    public ResponseEntity<ResponseBodyEmitter> exportMembers(
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) String role,
+            @RequestParam(defaultValue = "csv") String format) {
+        ExportFormat exportFormat = ExportFormat.from(format);
+        return exportResponse("members", exportFormat, adminExportService.exportMembers(keyword, role, exportFormat));
+    }
+
     @GetMapping("/members/{id}")
     public ResponseEntity<MemberResponse> getMember(@PathVariable Long id) {
         return ResponseEntity.ok(adminService.getMember(id));
@@ -105,12 +127,34 @@ public class AdminController {
         return ResponseEntity.ok(adminService.getReviews(keyword, restaurantId, pageable));
     }
 
+    // 리뷰 내보내기 (format: csv | ndjson, 목록과 같은 필터)
+    @GetMapping("/reviews/export")
+    public ResponseEntity<ResponseBodyEmitter> exportReviews(
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) Long restaurantId,
+            @RequestParam(defaultValue = "csv") String format) {
+        ExportFormat exportFormat = ExportFormat.from(format);
+        return exportResponse("reviews", exportFormat, adminExportService.exportReviews(keyword, restaurantId, exportFormat));
+    }
+
     @DeleteMapping("/reviews/{id}")
     public ResponseEntity<Void> deleteReview(@PathVariable Long id) {
         adminService.deleteReview(id);
         return ResponseEntity.noContent().build();
     }
 
+    private ResponseEntity<ResponseBodyEmitter> exportResponse(String name, ExportFormat format,
+                                                              ResponseBodyEmitter body) {
+        String date = LocalDate.now(ZoneId.of("Asia/Seoul")).format(DateTimeFormatter.BASIC_ISO_DATE);
+        ContentDisposition disposition = ContentDisposition.attachment()
+                .filename(name + "-" + date + "." + format.getExtension())
+                .build();
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, disposition.toString())
+                .contentType(MediaType.parseMediaType(format.getContentType()))
+                .body(body);
+    }
+
     // ==================== Request DTOs ====================
 
     public record RoleUpdateRequest(String role) {
@@ -169,4 +213,12 @@ public class AdminController {
         searchKeywordService.deleteKeyword(id);
         return ResponseEntity.noContent().build();
     }
+
+    // ==================== 검색 색인 ====================
+
+    @PostMapping("/search/reindex")
+    public ResponseEntity<Map<String, Object>> reindexSearch() {
+        int indexed = searchIndexUpdater.reindexAll();
+        return ResponseEntity.ok(Map.of("message", "검색 색인을 재생성했습니다", "indexed", indexed));
+    }
 }
@@ -0,0 +1,29 @@
+package com.ezroad.controller;
+
+import com.ezroad.dto.response.CursorResponse;
+import com.ezroad.dto.response.ReviewResponse;
+import com.ezroad.feed.FeedService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/feed")
+@RequiredArgsConstructor
+public class FeedController {
+
+    private final FeedService feedService;
+
+    // 내 피드 (팔로우한 회원/식당의 리뷰, 최신순 커서 페이지네이션)
+    @GetMapping
+    public ResponseEntity<CursorResponse<ReviewResponse>> getMyFeed(
+            @AuthenticationPrincipal Long memberId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(feedService.getFeed(memberId, cursor, size));
+    }
+}
@@ -1,5 +1,6 @@
 package com.ezroad.controller;
 
+import com.ezroad.dto.response.CursorResponse;
 import com.ezroad.dto.response.NotificationResponse;
 import com.ezroad.service.NotificationService;
 import lombok.RequiredArgsConstructor;
@@ -31,6 +32,18 @@ public class NotificationController {
         return ResponseEntity.ok(notificationService.getNotifications(memberId, pageable));
     }
 
+    /**
+     * 내 알림 목록 조회 (커서 페이지네이션)
+     */
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorResponse<NotificationResponse>> getNotificationsByCursor(
+            @AuthenticationPrincipal Long memberId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return ResponseEntity.ok(notificationService.getNotificationsByCursor(memberId, cursor, size));
+    }
+
     /**
      * 읽지 않은 알림 수
      */
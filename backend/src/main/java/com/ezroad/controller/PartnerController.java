@@ -1,6 +1,7 @@
 package com.ezroad.controller;
 
 import com.ezroad.dto.response.RestaurantResponse;
+import com.ezroad.security.RestaurantOwnerOnly;
 import com.ezroad.service.PartnerService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -40,6 +41,7 @@ public class PartnerController {
     /**
      * 특정 식당 상세 통계
      */
+    @RestaurantOwnerOnly
     @GetMapping("/restaurants/{restaurantId}/stats")
     public ResponseEntity<Map<String, Object>> getRestaurantStats(
             @AuthenticationPrincipal Long ownerId,
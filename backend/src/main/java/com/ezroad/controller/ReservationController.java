@@ -2,6 +2,7 @@ package com.ezroad.controller;
 
 import com.ezroad.dto.request.ReservationCreateRequest;
 import com.ezroad.dto.response.ReservationResponse;
+import com.ezroad.security.RestaurantOwnerOnly;
 import com.ezroad.service.ReservationService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -29,6 +30,7 @@ public class ReservationController {
     }
 
     // 식당별 예약 목록 조회 (사업자 전용)
+    @RestaurantOwnerOnly
     @GetMapping("/restaurant/{restaurantId}")
     public ResponseEntity<Page<ReservationResponse>> getReservationsByRestaurant(
             @PathVariable Long restaurantId,
@@ -2,8 +2,15 @@ package com.ezroad.controller;
 
 import com.ezroad.dto.request.RestaurantCreateRequest;
 import com.ezroad.dto.request.RestaurantUpdateRequest;
+import com.ezroad.dto.response.CursorResponse;
+import com.ezroad.dto.response.RestaurantPageResponse;
 import com.ezroad.dto.response.RestaurantResponse;
+import com.ezroad.hours.BusinessHours;
+import com.ezroad.rating.ReviewSummary;
+import com.ezroad.rating.ReviewSummaryService;
+import com.ezroad.service.RestaurantPageService;
 import com.ezroad.service.RestaurantService;
+import com.ezroad.trending.TrendingService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -11,11 +18,14 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/restaurants")
@@ -23,6 +33,9 @@ import java.util.List;
 public class RestaurantController {
 
     private final RestaurantService restaurantService;
+    private final RestaurantPageService restaurantPageService;
+    private final TrendingService trendingService;
+    private final ReviewSummaryService reviewSummaryService;
 
     @PostMapping
     public ResponseEntity<RestaurantResponse> createRestaurant(
@@ -37,7 +50,9 @@ public class RestaurantController {
             @RequestParam(required = false) String category,
             @RequestParam(required = false, defaultValue = "avgRating") String sort,
             @RequestParam(required = false, defaultValue = "0") int page,
-            @RequestParam(required = false, defaultValue = "12") int size) {
+            @RequestParam(required = false, defaultValue = "12") int size,
+            @RequestParam(required = false, defaultValue = "false") boolean openNow,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime openAt) {
         
         // 유효한 정렬 필드 검증
         String sortField = switch (sort) {
@@ -48,14 +63,37 @@ public class RestaurantController {
         };
         
         Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, sortField));
-        return ResponseEntity.ok(restaurantService.getAllRestaurants(keyword, category, pageable));
+        return ResponseEntity.ok(restaurantService.getAllRestaurants(
+                keyword, category, resolveOpenAt(openNow, openAt), pageable));
+    }
+
+    // 커서 페이지네이션 (sort: avgRating | createdAt)
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorResponse<RestaurantResponse>> getRestaurantsByCursor(
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false, defaultValue = "avgRating") String sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false, defaultValue = "12") int size) {
+        return ResponseEntity.ok(restaurantService.getRestaurantsByCursor(category, sort, cursor, size));
     }
 
     @GetMapping("/search")
     public ResponseEntity<Page<RestaurantResponse>> searchRestaurants(
             @RequestParam String keyword,
+            @RequestParam(required = false, defaultValue = "false") boolean openNow,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime openAt,
             @PageableDefault(size = 20) Pageable pageable) {
-        return ResponseEntity.ok(restaurantService.searchRestaurants(keyword, pageable));
+        return ResponseEntity.ok(restaurantService.searchRestaurants(
+                keyword, resolveOpenAt(openNow, openAt), pageable));
+    }
+
+    // 트렌딩 식당 (최근 조회/리뷰/팔로우/대기/테마 추가 기반, 시간 감쇠)
+    @GetMapping("/trending")
+    public ResponseEntity<List<RestaurantResponse>> getTrendingRestaurants(
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) String region,
+            @RequestParam(required = false, defaultValue = "10") int limit) {
+        return ResponseEntity.ok(trendingService.getTrending(category, region, limit));
     }
 
     @GetMapping("/my")
@@ -69,6 +107,28 @@ public class RestaurantController {
         return ResponseEntity.ok(restaurantService.getRestaurantById(id));
     }
 
+    // 리뷰 요약 (별점 분포, 평균, 사진 리뷰 수, 최신 리뷰 id)
+    @GetMapping("/{id}/review-summary")
+    public ResponseEntity<ReviewSummary> getReviewSummary(@PathVariable Long id) {
+        return ResponseEntity.ok(reviewSummaryService.getSummary(id));
+    }
+
+    // 목록용 리뷰 요약 일괄 조회 (ids: 쉼표 구분, 최대 100개)
+    @GetMapping("/review-summaries")
+    public ResponseEntity<Map<Long, ReviewSummary>> getReviewSummaries(@RequestParam List<Long> ids) {
+        return ResponseEntity.ok(reviewSummaryService.getSummaries(ids));
+    }
+
+    // 상세 페이지 통합 조회 (include: menus,reviews,rating,waiting,follow / 생략 시 전체)
+    @GetMapping("/{id}/page")
+    public ResponseEntity<RestaurantPageResponse> getRestaurantPage(
+            @PathVariable Long id,
+            @AuthenticationPrincipal Long memberId,
+            @RequestParam(required = false) String include,
+            @RequestParam(required = false, defaultValue = "5") int reviewSize) {
+        return ResponseEntity.ok(restaurantPageService.getRestaurantPage(id, memberId, include, reviewSize));
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<RestaurantResponse> updateRestaurant(
             @AuthenticationPrincipal Long ownerId,
@@ -93,5 +153,10 @@ public class RestaurantController {
         return ResponseEntity.noContent().build();
     }
 
+    // 영업 중 필터 기준 시각 (openNow 우선, openAt은 한국 시간)
+    private LocalDateTime resolveOpenAt(boolean openNow, LocalDateTime openAt) {
+        return openNow ? BusinessHours.now() : openAt;
+    }
+
     public record NoticeUpdateRequest(String notice) {}
 }
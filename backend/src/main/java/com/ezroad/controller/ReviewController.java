@@ -2,6 +2,7 @@ package com.ezroad.controller;
 
 import com.ezroad.dto.request.ReviewCreateRequest;
 import com.ezroad.dto.request.ReviewUpdateRequest;
+import com.ezroad.dto.response.CursorResponse;
 import com.ezroad.dto.response.ReviewResponse;
 import com.ezroad.service.ReviewService;
 import jakarta.servlet.http.HttpServletRequest;
@@ -36,26 +37,43 @@ public class ReviewController {
         return ResponseEntity.ok(reviewService.getReviewList(pageable, photoOnly));
     }
     
+    // 리뷰 목록 조회 (커서 페이지네이션, 최신순)
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorResponse<ReviewResponse>> getReviewsByCursor(
+            @RequestParam(defaultValue = "false") boolean photoOnly,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(reviewService.getReviewListByCursor(cursor, size, photoOnly));
+    }
+
     // 리뷰 개수 조회 (전체/사진리뷰)
     @GetMapping("/counts")
     public ResponseEntity<Map<String, Long>> getReviewCounts() {
-        Long totalCount = reviewService.getTotalReviewCount();
-        Long photoCount = reviewService.getPhotoReviewCount();
-        return ResponseEntity.ok(Map.of(
-            "total", totalCount,
-            "photo", photoCount
-        ));
+        return ResponseEntity.ok(reviewService.getReviewCounts());
     }
 
-    // 식당별 리뷰 조회 (photoOnly 파라미터 추가)
+    // 식당별 리뷰 조회 (photoOnly 파라미터 추가, sort=best: 베스트 리뷰 순)
     @GetMapping("/restaurant/{restaurantId}")
     public ResponseEntity<Page<ReviewResponse>> getReviewsByRestaurant(
             @PathVariable Long restaurantId,
             @RequestParam(defaultValue = "false") boolean photoOnly,
             @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
+        if (pageable.getSort().getOrderFor("best") != null) {
+            return ResponseEntity.ok(reviewService.getBestReviewsByRestaurant(restaurantId, pageable, photoOnly));
+        }
         return ResponseEntity.ok(reviewService.getReviewsByRestaurant(restaurantId, pageable, photoOnly));
     }
 
+    // 식당별 리뷰 조회 (커서 페이지네이션, 최신순)
+    @GetMapping("/restaurant/{restaurantId}/cursor")
+    public ResponseEntity<CursorResponse<ReviewResponse>> getReviewsByRestaurantByCursor(
+            @PathVariable Long restaurantId,
+            @RequestParam(defaultValue = "false") boolean photoOnly,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(reviewService.getReviewsByRestaurantByCursor(restaurantId, cursor, size, photoOnly));
+    }
+
     // 내 리뷰 조회
     @GetMapping("/my")
     public ResponseEntity<Page<ReviewResponse>> getMyReviews(
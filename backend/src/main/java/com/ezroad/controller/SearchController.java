@@ -1,6 +1,10 @@
 package com.ezroad.controller;
 
+import com.ezroad.dto.response.AutocompleteResponse;
 import com.ezroad.dto.response.SearchKeywordResponse;
+import com.ezroad.dto.response.SearchResultResponse;
+import com.ezroad.search.AutocompleteService;
+import com.ezroad.search.SearchQueryService;
 import com.ezroad.service.SearchKeywordService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -18,6 +22,33 @@ import java.util.Map;
 public class SearchController {
 
     private final SearchKeywordService searchKeywordService;
+    private final SearchQueryService searchQueryService;
+    private final AutocompleteService autocompleteService;
+
+    /**
+     * 통합 검색 (식당/메뉴/테마)
+     * GET /api/search?q=&type=&category=&page=&size=
+     */
+    @GetMapping
+    public ResponseEntity<SearchResultResponse> search(
+            @RequestParam("q") String query,
+            @RequestParam(required = false) String type,
+            @RequestParam(required = false) String category,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(searchQueryService.search(query, type, category, page, size));
+    }
+
+    /**
+     * 검색어 자동완성 (초성 검색 지원: "ㄱㅂ" → "김밥")
+     * GET /api/search/autocomplete?q=&limit=
+     */
+    @GetMapping("/autocomplete")
+    public ResponseEntity<List<AutocompleteResponse>> autocomplete(
+            @RequestParam("q") String query,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(autocompleteService.suggest(query, limit));
+    }
 
     /**
      * 검색어 기록
@@ -4,6 +4,7 @@ import com.ezroad.dto.request.ThemeAddRestaurantRequest;
 import com.ezroad.dto.request.ThemeCreateRequest;
 import com.ezroad.dto.request.ThemeReorderRequest;
 import com.ezroad.dto.request.ThemeUpdateRequest;
+import com.ezroad.dto.response.CursorResponse;
 import com.ezroad.dto.response.ThemeDetailResponse;
 import com.ezroad.dto.response.ThemeResponse;
 import com.ezroad.service.ThemeLikeService;
@@ -24,6 +25,7 @@ import org.springframework.web.bind.annotation.*;
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -53,6 +55,14 @@ public class ThemeController {
         return ResponseEntity.ok(response);
     }
 
+    // 공개 테마 목록 (커서 페이지네이션, 최신순)
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorResponse<ThemeResponse>> getPublicThemesByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false, defaultValue = "12") int size) {
+        return ResponseEntity.ok(themeService.getPublicThemesByCursor(cursor, size));
+    }
+
     @GetMapping("/my")
     public ResponseEntity<Page<ThemeResponse>> getMyThemes(
             @AuthenticationPrincipal Long memberId,
@@ -134,8 +144,7 @@ public class ThemeController {
     public ResponseEntity<Map<String, Object>> likeTheme(
             @AuthenticationPrincipal Long memberId,
             @PathVariable Long id) {
-        themeLikeService.likeTheme(id, memberId);
-        long likeCount = themeLikeService.getLikeCount(id);
+        long likeCount = themeLikeService.likeTheme(id, memberId);
         return ResponseEntity.ok(Map.of(
                 "message", "좋아요가 등록되었습니다",
                 "likeCount", likeCount,
@@ -147,8 +156,7 @@ public class ThemeController {
     public ResponseEntity<Map<String, Object>> unlikeTheme(
             @AuthenticationPrincipal Long memberId,
             @PathVariable Long id) {
-        themeLikeService.unlikeTheme(id, memberId);
-        long likeCount = themeLikeService.getLikeCount(id);
+        long likeCount = themeLikeService.unlikeTheme(id, memberId);
         return ResponseEntity.ok(Map.of(
                 "message", "좋아요가 취소되었습니다",
                 "likeCount", likeCount,
@@ -160,14 +168,30 @@ public class ThemeController {
     public ResponseEntity<Map<String, Object>> checkLike(
             @AuthenticationPrincipal Long memberId,
             @PathVariable Long id) {
-        boolean isLiked = memberId != null && themeLikeService.isLiked(id, memberId);
-        long likeCount = themeLikeService.getLikeCount(id);
+        ThemeLikeService.LikeStatus status = themeLikeService.getLikeStatus(id, memberId);
         return ResponseEntity.ok(Map.of(
-                "isLiked", isLiked,
-                "likeCount", likeCount
+                "isLiked", status.liked(),
+                "likeCount", status.likeCount()
         ));
     }
 
+    /**
+     * 목록 페이지용 좋아요 여부 / 좋아요 수 일괄 조회 (최대 100개)
+     * 예: /api/themes/likes?ids=1,2,3
+     */
+    @GetMapping("/likes")
+    public ResponseEntity<Map<Long, Map<String, Object>>> checkLikes(
+            @AuthenticationPrincipal Long memberId,
+            @RequestParam List<Long> ids) {
+        Map<Long, Map<String, Object>> result = new LinkedHashMap<>();
+        themeLikeService.getLikeStatuses(ids, memberId).forEach((themeId, status) ->
+                result.put(themeId, Map.of(
+                        "isLiked", status.liked(),
+                        "likeCount", status.likeCount()
+                )));
+        return ResponseEntity.ok(result);
+    }
+
     @GetMapping("/my/liked")
     public ResponseEntity<List<Long>> getMyLikedThemeIds(
             @AuthenticationPrincipal Long memberId) {
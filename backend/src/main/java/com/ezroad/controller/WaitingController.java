@@ -3,6 +3,7 @@ package com.ezroad.controller;
 import com.ezroad.dto.request.WaitingCreateRequest;
 import com.ezroad.dto.response.WaitingQueueUpdateResponse;
 import com.ezroad.dto.response.WaitingResponse;
+import com.ezroad.security.RestaurantOwnerOnly;
 import com.ezroad.service.WaitingService;
 import com.ezroad.service.WaitingRedisService;
 import jakarta.validation.Valid;
@@ -42,6 +43,7 @@ public class WaitingController {
     }
 
     // 식당별 대기 목록 (사업자용)
+    @RestaurantOwnerOnly
     @GetMapping("/restaurant/{restaurantId}")
     public ResponseEntity<Page<WaitingResponse>> getRestaurantWaitings(
             @PathVariable Long restaurantId,
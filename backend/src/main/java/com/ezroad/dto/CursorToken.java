@@ -0,0 +1,80 @@
+package com.ezroad.dto;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 커서 페이지네이션 토큰 (정렬 키 + id)
+ *
+ * - 클라이언트에는 Base64URL 문자열로만 노출 (형식에 의존하지 않도록)
+ * - 같은 정렬 키 값이 여러 건이어도 id로 순서가 확정되므로 중복/누락 없음
+ */
+public record CursorToken(String sortKey, Long id) {
+
+    private static final String SEPARATOR = "|";
+
+    // 첫 페이지용 시작 커서 (모든 실제 값보다 큼 → 내림차순 첫 행부터)
+    public static final CursorToken FIRST_BY_DATE_TIME = new CursorToken("9999-12-31T23:59:59", Long.MAX_VALUE);
+    public static final CursorToken FIRST_BY_DECIMAL = new CursorToken("999999", Long.MAX_VALUE);
+
+    public static CursorToken of(LocalDateTime sortKey, Long id) {
+        return new CursorToken(sortKey.toString(), id);
+    }
+
+    public static CursorToken of(BigDecimal sortKey, Long id) {
+        return new CursorToken(sortKey.toPlainString(), id);
+    }
+
+    public String encode() {
+        String raw = sortKey + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @return 토큰이 비어 있으면 null (첫 페이지)
+     * @throws IllegalArgumentException 형식이 잘못된 토큰
+     */
+    public static CursorToken decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int sep = raw.lastIndexOf(SEPARATOR);
+            if (sep <= 0) {
+                throw new IllegalArgumentException("잘못된 커서입니다");
+            }
+            return new CursorToken(raw.substring(0, sep), Long.parseLong(raw.substring(sep + 1)));
+        } catch (IllegalArgumentException e) {
+            // Base64 디코딩 실패, NumberFormatException 포함
+            throw new IllegalArgumentException("잘못된 커서입니다", e);
+        }
+    }
+
+    /**
+     * 토큰이 비어 있으면 first 반환
+     */
+    public static CursorToken decode(String token, CursorToken first) {
+        CursorToken cursor = decode(token);
+        return cursor != null ? cursor : first;
+    }
+
+    public LocalDateTime sortKeyAsDateTime() {
+        try {
+            return LocalDateTime.parse(sortKey);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다", e);
+        }
+    }
+
+    public BigDecimal sortKeyAsDecimal() {
+        try {
+            return new BigDecimal(sortKey);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다", e);
+        }
+    }
+}
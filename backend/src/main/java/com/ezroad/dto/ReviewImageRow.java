@@ -0,0 +1,7 @@
+package com.ezroad.dto;
+
+/**
+ * 리뷰 이미지 URL (JPQL 생성자 프로젝션)
+ */
+public record ReviewImageRow(Long reviewId, String imageUrl) {
+}
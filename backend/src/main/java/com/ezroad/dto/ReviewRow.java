@@ -0,0 +1,15 @@
+package com.ezroad.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 리뷰 목록 행 (JPQL 생성자 프로젝션, 이미지 제외)
+ * 이미지는 페이지 단위로 ReviewImageRow IN 쿼리 1회로 따로 조회
+ */
+public record ReviewRow(Long id,
+                        Long restaurantId, String restaurantName, String restaurantCategory,
+                        String restaurantThumbnail, String restaurantAddress,
+                        Long memberId, String memberNickname, String memberProfileImage,
+                        Long reservationId, String title, String content, Integer rating, Integer hit,
+                        Boolean hasPhoto, LocalDateTime createdAt, LocalDateTime updatedAt) {
+}
@@ -0,0 +1,21 @@
+package com.ezroad.dto.response;
+
+import com.ezroad.search.AutocompleteIndex;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class AutocompleteResponse {
+    private String text;
+    private String type;          // KEYWORD / RESTAURANT / MENU
+    private Long restaurantId;    // 식당 후보인 경우 바로 이동용
+
+    public static AutocompleteResponse from(AutocompleteIndex.Entry entry) {
+        return AutocompleteResponse.builder()
+                .text(entry.text())
+                .type(entry.type())
+                .restaurantId(entry.refId())
+                .build();
+    }
+}
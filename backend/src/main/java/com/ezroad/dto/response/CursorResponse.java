@@ -0,0 +1,47 @@
+package com.ezroad.dto.response;
+
+import com.ezroad.dto.CursorToken;
+import lombok.Builder;
+import lombok.Getter;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서 기반 목록 응답 (전체 개수 없음)
+ * 다음 페이지는 nextCursor를 cursor 파라미터로 그대로 전달
+ */
+@Getter
+@Builder
+public class CursorResponse<T> {
+    private List<T> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;
+
+    public static <E, T> CursorResponse<T> of(Slice<E> slice,
+                                              Function<E, T> mapper,
+                                              Function<E, CursorToken> cursorOf) {
+        return of(slice, slice.getContent().stream().map(mapper).toList(), cursorOf);
+    }
+
+    /**
+     * 한 페이지를 한꺼번에 변환한 경우 (content는 slice 순서와 같아야 함)
+     */
+    public static <E, T> CursorResponse<T> of(Slice<E> slice,
+                                              List<T> content,
+                                              Function<E, CursorToken> cursorOf) {
+        List<E> rows = slice.getContent();
+        String nextCursor = slice.hasNext() && !rows.isEmpty()
+                ? cursorOf.apply(rows.get(rows.size() - 1)).encode()
+                : null;
+
+        return CursorResponse.<T>builder()
+                .content(content)
+                .size(content.size())
+                .hasNext(slice.hasNext())
+                .nextCursor(nextCursor)
+                .build();
+    }
+}
@@ -0,0 +1,48 @@
+package com.ezroad.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 식당 상세 페이지 통합 응답
+ * include로 요청하지 않았거나 조회에 실패한 섹션은 응답에서 제외됨
+ */
+@Getter
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class RestaurantPageResponse {
+
+    private RestaurantResponse restaurant;
+    private List<MenuResponse> menus;
+    private CursorResponse<ReviewResponse> reviews;   // 최신 리뷰 첫 페이지 (nextCursor로 이어서 조회)
+    private RatingSection rating;
+    private WaitingSection waiting;
+    private FollowSection follow;
+
+    @Getter
+    @Builder
+    public static class RatingSection {
+        private Double averageRating;
+        private Long reviewCount;
+        private Map<Integer, Integer> distribution;   // 별점 → 리뷰 수
+        private Long photoReviewCount;
+    }
+
+    @Getter
+    @Builder
+    public static class WaitingSection {
+        private Integer waitingCount;
+    }
+
+    @Getter
+    @Builder
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class FollowSection {
+        private Long followerCount;
+        private Boolean following;   // 비로그인 시 제외
+    }
+}
@@ -3,12 +3,14 @@ package com.ezroad.dto.response;
 import com.ezroad.entity.Restaurant;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Getter
-@Builder
+@Builder(toBuilder = true)
+@Jacksonized
 public class RestaurantResponse {
 
     private Long id;
@@ -1,5 +1,6 @@
 package com.ezroad.dto.response;
 
+import com.ezroad.dto.ReviewRow;
 import com.ezroad.entity.Review;
 import lombok.Builder;
 import lombok.Getter;
@@ -9,7 +10,7 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 @Getter
-@Builder
+@Builder(toBuilder = true)
 public class ReviewResponse {
     
     private Long id;
@@ -53,4 +54,27 @@ public class ReviewResponse {
                 .updatedAt(review.getUpdatedAt())
                 .build();
     }
+
+    // 목록용 (프로젝션 행 + 따로 조회한 이미지)
+    public static ReviewResponse from(ReviewRow row, List<String> imageUrls) {
+        return ReviewResponse.builder()
+                .id(row.id())
+                .restaurantId(row.restaurantId())
+                .restaurantName(row.restaurantName())
+                .restaurantCategory(row.restaurantCategory())
+                .restaurantThumbnail(row.restaurantThumbnail())
+                .restaurantAddress(row.restaurantAddress())
+                .memberId(row.memberId())
+                .memberNickname(row.memberNickname())
+                .memberProfileImage(row.memberProfileImage())
+                .reservationId(row.reservationId())
+                .title(row.title())
+                .content(row.content())
+                .rating(row.rating())
+                .hit(row.hit())
+                .imageUrls(imageUrls)
+                .createdAt(row.createdAt())
+                .updatedAt(row.updatedAt())
+                .build();
+    }
 }
@@ -0,0 +1,43 @@
+package com.ezroad.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 통합 검색 결과 (식당/메뉴/테마)
+ */
+@Getter
+@Builder
+public class SearchResultResponse {
+    private String query;
+    private List<Item> items;
+    private int page;
+    private int size;
+    private long totalElements;
+    private boolean hasNext;
+    // 패싯: type, category → 값별 건수 (type/category 필터 적용 전 기준)
+    private Map<String, List<FacetCount>> facets;
+
+    @Getter
+    @Builder
+    public static class Item {
+        private String type;          // RESTAURANT / MENU / THEME
+        private Long id;
+        private Long restaurantId;    // 메뉴는 소속 식당 id
+        private String title;
+        private String subtitle;
+        private String category;
+        private String thumbnail;
+        private float score;
+    }
+
+    @Getter
+    @Builder
+    public static class FacetCount {
+        private String value;
+        private long count;
+    }
+}
@@ -4,13 +4,15 @@ import com.ezroad.entity.Theme;
 import com.ezroad.entity.ThemeRestaurant;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
 
 @Getter
-@Builder
+@Builder(toBuilder = true)
+@Jacksonized
 public class ThemeDetailResponse {
 
     private Long id;
@@ -25,10 +27,15 @@ public class ThemeDetailResponse {
     private LocalDateTime createdAt;
 
     public static ThemeDetailResponse from(Theme theme) {
-        List<ThemeRestaurantResponse> restaurants = theme.getThemeRestaurants().stream()
+        return from(theme, theme.getThemeRestaurants().stream()
                 .map(ThemeRestaurantResponse::from)
-                .toList();
+                .toList());
+    }
 
+    /**
+     * 식당 목록을 따로 지정 (순서 변경 직후 테마를 다시 조회하지 않고 응답 구성)
+     */
+    public static ThemeDetailResponse from(Theme theme, List<ThemeRestaurantResponse> restaurants) {
         return ThemeDetailResponse.builder()
                 .id(theme.getId())
                 .member(MemberSimpleResponse.builder()
@@ -49,6 +56,7 @@ public class ThemeDetailResponse {
 
     @Getter
     @Builder
+    @Jacksonized
     public static class MemberSimpleResponse {
         private Long id;
         private String nickname;
@@ -56,7 +64,8 @@ public class ThemeDetailResponse {
     }
 
     @Getter
-    @Builder
+    @Builder(toBuilder = true)
+    @Jacksonized
     public static class ThemeRestaurantResponse {
         private Long id;
         private Long restaurantId;
@@ -1,5 +1,6 @@
 package com.ezroad.entity;
 
+import com.ezroad.hours.BusinessHours;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -59,6 +60,10 @@ public class Restaurant {
     @Column(name = "business_hours", length = 500)
     private String businessHours;
 
+    // businessHours를 15분 단위 주간 비트셋으로 컴파일한 값 (영업 중 필터용, BusinessHours 참고)
+    @Column(name = "business_hours_schedule")
+    private byte[] businessHoursSchedule;
+
     @Column(columnDefinition = "TEXT")
     private String notice;
 
@@ -68,12 +73,33 @@ public class Restaurant {
     @Column(name = "menu_board_image", length = 500)
     private String menuBoardImage;
 
-    @Column(name = "avg_rating", precision = 3, scale = 2)
+    // 평점 집계: 리뷰 작성/수정/삭제 시 RestaurantRatingService가 UPDATE 한 번으로 증감
+    // (엔티티 flush가 동시 갱신분을 덮어쓰지 않도록 updatable = false)
+    @Column(name = "avg_rating", precision = 3, scale = 2, updatable = false)
     private BigDecimal avgRating = BigDecimal.ZERO;
 
-    @Column(name = "review_count")
+    @Column(name = "review_count", updatable = false)
     private Integer reviewCount = 0;
 
+    @Column(name = "rating_sum", updatable = false)
+    private Long ratingSum = 0L;
+
+    // 별점별 리뷰 수 (1~5점)
+    @Column(name = "rating1_count", updatable = false)
+    private Integer rating1Count = 0;
+
+    @Column(name = "rating2_count", updatable = false)
+    private Integer rating2Count = 0;
+
+    @Column(name = "rating3_count", updatable = false)
+    private Integer rating3Count = 0;
+
+    @Column(name = "rating4_count", updatable = false)
+    private Integer rating4Count = 0;
+
+    @Column(name = "rating5_count", updatable = false)
+    private Integer rating5Count = 0;
+
     @Column(name = "view_count")
     private Integer viewCount = 0;
 
@@ -106,6 +132,7 @@ public class Restaurant {
         this.longitude = longitude;
         this.website = website;
         this.businessHours = businessHours;
+        this.businessHoursSchedule = BusinessHours.compile(businessHours);
         this.notice = notice;
         this.thumbnail = thumbnail;
         this.menuBoardImage = menuBoardImage;
@@ -122,7 +149,7 @@ public class Restaurant {
         if (address != null) this.address = address;
         if (addressDetail != null) this.addressDetail = addressDetail;
         if (website != null) this.website = website;
-        if (businessHours != null) this.businessHours = businessHours;
+        if (businessHours != null) updateBusinessHours(businessHours);
         if (notice != null) this.notice = notice;
     }
 
@@ -130,11 +157,6 @@ public class Restaurant {
         this.viewCount++;
     }
 
-    public void updateRating(BigDecimal avgRating, Integer reviewCount) {
-        this.avgRating = avgRating;
-        this.reviewCount = reviewCount;
-    }
-
     public void updateStatus(RestaurantStatus status) {
         this.status = status;
     }
@@ -176,6 +198,7 @@ public class Restaurant {
 
     public void updateBusinessHours(String businessHours) {
         this.businessHours = businessHours;
+        this.businessHoursSchedule = BusinessHours.compile(businessHours);
     }
 
     public void updateNotice(String notice) {
@@ -46,12 +46,20 @@ public class Review {
     @Column(nullable = false)
     private Integer rating;
 
-    @Column(nullable = false)
+    // 조회수는 HitCountService가 일괄 반영
+    @Column(nullable = false, updatable = false)
     private Integer hit = 0;
 
     @OneToMany(mappedBy = "review", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<ReviewImage> images = new ArrayList<>();
 
+    // 사진 리뷰 필터/개수용 비정규화 (이미지는 작성 시에만 추가됨)
+    @Column(name = "image_count")
+    private Integer imageCount = 0;
+
+    @Column(name = "has_photo")
+    private Boolean hasPhoto = false;
+
     @CreatedDate
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -83,12 +91,10 @@ public class Review {
             this.rating = rating;
     }
 
-    public void incrementHit() {
-        this.hit++;
-    }
-
     public void addImage(ReviewImage image) {
         this.images.add(image);
+        this.imageCount = this.images.size();
+        this.hasPhoto = true;
     }
 
     public void delete() {
@@ -40,10 +40,12 @@ public class Theme {
     @Column(name = "is_public")
     private Boolean isPublic = true;
 
-    @Column(name = "view_count")
+    // 조회수는 HitCountService가 일괄 반영
+    @Column(name = "view_count", updatable = false)
     private Integer viewCount = 0;
 
-    @Column(name = "like_count")
+    // 좋아요 수는 ThemeLikeService가 일괄 반영
+    @Column(name = "like_count", updatable = false)
     private Integer likeCount = 0;
 
     @OneToMany(mappedBy = "theme", cascade = CascadeType.ALL, orphanRemoval = true)
@@ -77,20 +79,6 @@ public class Theme {
         if (isPublic != null) this.isPublic = isPublic;
     }
 
-    public void incrementViewCount() {
-        this.viewCount++;
-    }
-
-    public void incrementLikeCount() {
-        this.likeCount++;
-    }
-
-    public void decrementLikeCount() {
-        if (this.likeCount > 0) {
-            this.likeCount--;
-        }
-    }
-
     public int getRestaurantCount() {
         return this.themeRestaurants.size();
     }
@@ -0,0 +1,8 @@
+package com.ezroad.event;
+
+/**
+ * 팔로우 변경 이벤트 (회원/식당 팔로우, 언팔로우, 팔로워 삭제)
+ * - followerId: 팔로우 목록이 바뀐 회원
+ */
+public record FollowChangedEvent(Long followerId) {
+}
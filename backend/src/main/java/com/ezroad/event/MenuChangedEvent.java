@@ -0,0 +1,7 @@
+package com.ezroad.event;
+
+/**
+ * 메뉴 변경 이벤트 (등록/수정/노출 변경/삭제)
+ */
+public record MenuChangedEvent(Long menuId) {
+}
@@ -0,0 +1,11 @@
+package com.ezroad.event;
+
+/**
+ * 식당 평점 집계 변경 이벤트 (리뷰 작성/별점 수정/삭제)
+ * - countDelta: 리뷰 수 증감 (1, 0, -1)
+ * - addedRating / removedRating: 더해진/빠진 별점 (없으면 0)
+ * - hasPhoto: 작성/삭제된 리뷰의 사진 여부
+ */
+public record RatingChangedEvent(Long restaurantId, Long reviewId, int countDelta,
+                                 int addedRating, int removedRating, boolean hasPhoto) {
+}
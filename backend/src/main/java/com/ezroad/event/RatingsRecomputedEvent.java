@@ -0,0 +1,10 @@
+package com.ezroad.event;
+
+import java.util.List;
+
+/**
+ * 평점 집계 일괄 복구 이벤트 (RestaurantRatingService.repair)
+ * - restaurantIds: 집계 컬럼이 바로잡힌 식당
+ */
+public record RatingsRecomputedEvent(List<Long> restaurantIds) {
+}
@@ -0,0 +1,10 @@
+package com.ezroad.event;
+
+import com.ezroad.trending.TrendingSignal;
+
+/**
+ * 식당 활동 이벤트 (리뷰 작성/팔로우/대기 등록/테마 추가)
+ * - 트렌딩 점수 반영용
+ */
+public record RestaurantActivityEvent(Long restaurantId, TrendingSignal signal) {
+}
@@ -0,0 +1,8 @@
+package com.ezroad.event;
+
+/**
+ * 식당 정보 변경 이벤트 (등록/수정/상태 변경/삭제)
+ * - 검색 색인 등 파생 데이터 동기화용
+ */
+public record RestaurantChangedEvent(Long restaurantId) {
+}
@@ -0,0 +1,7 @@
+package com.ezroad.event;
+
+/**
+ * 리뷰 변경 이벤트 (작성/수정/삭제)
+ */
+public record ReviewChangedEvent(Long reviewId, Long restaurantId) {
+}
@@ -0,0 +1,8 @@
+package com.ezroad.event;
+
+/**
+ * 리뷰 작성 이벤트
+ * - 팔로워 피드 fan-out용
+ */
+public record ReviewCreatedEvent(Long reviewId, Long memberId, Long restaurantId) {
+}
@@ -0,0 +1,7 @@
+package com.ezroad.event;
+
+/**
+ * 검색어 변경 이벤트 (검색 기록으로 횟수 증가, 관리자 삭제)
+ */
+public record SearchKeywordChangedEvent() {
+}
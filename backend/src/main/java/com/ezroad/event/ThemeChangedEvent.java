@@ -0,0 +1,8 @@
+package com.ezroad.event;
+
+/**
+ * 테마 변경 이벤트 (생성/수정/공개 여부 변경/삭제)
+ * - 식당 추가/삭제/순서 변경은 ThemeContentChangedEvent
+ */
+public record ThemeChangedEvent(Long themeId) {
+}
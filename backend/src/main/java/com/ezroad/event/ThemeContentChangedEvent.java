@@ -0,0 +1,8 @@
+package com.ezroad.event;
+
+/**
+ * 테마 구성 변경 이벤트 (식당 추가/삭제/순서 변경)
+ * - 테마 상세 캐시 무효화용, 순위/검색 색인에 쓰는 테마 정보는 바뀌지 않음
+ */
+public record ThemeContentChangedEvent(Long themeId) {
+}
@@ -0,0 +1,186 @@
+package com.ezroad.export;
+
+import com.ezroad.entity.MemberRole;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 관리자 회원/리뷰 내보내기 (CSV / NDJSON 스트리밍)
+ *
+ * - 관리자 목록 검색과 같은 필터를 한 번의 쿼리로 실행하고 커서(fetch size)로 나눠 읽으면서 바로 응답에 씀
+ *   → 페이지마다 LIKE 검색 + COUNT를 반복하지 않고, 메모리 사용은 행 수와 무관
+ * - PostgreSQL은 autocommit이 꺼져 있어야 fetch size대로 커서 조회하므로 읽기 전용 트랜잭션 안에서 실행
+ * - 클라이언트가 연결을 끊으면 다음 쓰기에서 IOException → 쿼리 중단 (커서/커넥션 반환)
+ * - 필터 검증은 스트리밍 시작 전에 해서 잘못된 요청은 일반 오류 응답으로 반환
+ * - 내보내기 전용 스레드 풀(exportExecutor)과 타임아웃은 이 응답(ResponseBodyEmitter)에만 적용
+ *   → 다른 MVC 비동기 요청의 기본 실행기/타임아웃은 그대로
+ * - 풀과 대기열이 모두 차면 요청 스레드에서 실행하지 않고 거절 (TaskRejectedException → 503)
+ */
+@Slf4j
+@Service
+public class AdminExportService {
+
+    private static final int FETCH_SIZE = 500;
+    private static final int FLUSH_EVERY = 500;
+
+    private static final List<String> MEMBER_COLUMNS = List.of(
+            "id", "email", "name", "nickname", "phone", "role", "business_number", "created_at", "deleted_at");
+
+    private static final List<String> REVIEW_COLUMNS = List.of(
+            "id", "restaurant_id", "restaurant_name", "member_id", "member_nickname",
+            "title", "content", "rating", "hit", "image_count", "created_at", "updated_at");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ObjectMapper objectMapper;
+    private final TaskExecutor exportExecutor;
+    private final long timeoutMillis;
+
+    public AdminExportService(JdbcTemplate jdbcTemplate,
+                              PlatformTransactionManager transactionManager,
+                              ObjectMapper objectMapper,
+                              @Qualifier("exportExecutor") TaskExecutor exportExecutor,
+                              @Value("${async.export.timeout-minutes:30}") long timeoutMinutes) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.objectMapper = objectMapper;
+        this.exportExecutor = exportExecutor;
+        // 컨테이너 기본 비동기 타임아웃(30초)으로는 대량 내보내기가 끊기므로 별도 지정
+        this.timeoutMillis = TimeUnit.MINUTES.toMillis(timeoutMinutes);
+    }
+
+    /**
+     * 회원 내보내기 (관리자 회원 목록과 같은 필터: 닉네임/이메일 키워드, 권한)
+     * - 목록 쿼리(MemberRepository)와 같이 (닉네임 OR 이메일) AND 권한
+     */
+    public ResponseBodyEmitter exportMembers(String keyword, String role, ExportFormat format) {
+        StringBuilder sql = new StringBuilder(
+                "SELECT m.id, m.email, m.name, m.nickname, m.phone, m.role, m.business_number, " +
+                        "m.created_at, m.deleted_at FROM members m WHERE 1 = 1");
+        List<Object> params = new ArrayList<>();
+        if (hasText(keyword)) {
+            sql.append(" AND (m.nickname LIKE ? ESCAPE '\\' OR m.email LIKE ? ESCAPE '\\')");
+            String pattern = likePattern(keyword);
+            params.add(pattern);
+            params.add(pattern);
+        }
+        if (hasText(role)) {
+            sql.append(" AND m.role = ?");
+            params.add(MemberRole.valueOf(role).name());
+        }
+        sql.append(" ORDER BY m.id");
+        return start("members", sql.toString(), params, MEMBER_COLUMNS, format);
+    }
+
+    /**
+     * 리뷰 내보내기 (관리자 리뷰 목록과 같은 필터: 내용/식당명/닉네임 키워드, 식당, 삭제되지 않은 리뷰)
+     */
+    public ResponseBodyEmitter exportReviews(String keyword, Long restaurantId, ExportFormat format) {
+        StringBuilder sql = new StringBuilder(
+                "SELECT r.id, r.restaurant_id, res.name, r.member_id, m.nickname, " +
+                        "r.title, r.content, r.rating, r.hit, r.image_count, r.created_at, r.updated_at " +
+                        "FROM reviews r JOIN restaurants res ON res.id = r.restaurant_id " +
+                        "JOIN members m ON m.id = r.member_id WHERE r.deleted_at IS NULL");
+        List<Object> params = new ArrayList<>();
+        if (hasText(keyword)) {
+            sql.append(" AND (r.content LIKE ? ESCAPE '\\' OR res.name LIKE ? ESCAPE '\\' OR m.nickname LIKE ? ESCAPE '\\')");
+            String pattern = likePattern(keyword);
+            params.add(pattern);
+            params.add(pattern);
+            params.add(pattern);
+        }
+        if (restaurantId != null) {
+            sql.append(" AND r.restaurant_id = ?");
+            params.add(restaurantId);
+        }
+        sql.append(" ORDER BY r.id");
+        return start("reviews", sql.toString(), params, REVIEW_COLUMNS, format);
+    }
+
+    private ResponseBodyEmitter start(String target, String sql, List<Object> params, List<String> columns,
+                                      ExportFormat format) {
+        ResponseBodyEmitter emitter = new ResponseBodyEmitter(timeoutMillis);
+        exportExecutor.execute(() -> {
+            try {
+                stream(target, sql, params, columns, format, new EmitterOutputStream(emitter));
+                emitter.complete();
+            } catch (IOException e) {
+                emitter.completeWithError(e);
+            } catch (RuntimeException e) {
+                log.error("관리자 내보내기 실패 - {}: {}", target, e.getMessage(), e);
+                emitter.completeWithError(e);
+            }
+        });
+        return emitter;
+    }
+
+    private void stream(String target, String sql, List<Object> params, List<String> columns,
+                        ExportFormat format, OutputStream out) throws IOException {
+        ExportWriter writer = new ExportWriter(format, columns, objectMapper, out);
+        long[] rows = {0};
+        try {
+            writer.writeHeader();
+            readOnlyTransaction.executeWithoutResult(status -> jdbcTemplate.query(con -> {
+                PreparedStatement ps = con.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                ps.setFetchSize(FETCH_SIZE);
+                for (int i = 0; i < params.size(); i++) {
+                    ps.setObject(i + 1, params.get(i));
+                }
+                return ps;
+            }, (RowCallbackHandler) rs -> {
+                try {
+                    writer.writeRow(values(rs, columns.size()));
+                    if (++rows[0] % FLUSH_EVERY == 0) {
+                        writer.flush();
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }));
+            writer.flush();
+            log.info("관리자 내보내기 완료 - {} {}건 ({})", target, rows[0], format);
+        } catch (UncheckedIOException e) {
+            log.info("관리자 내보내기 중단 (클라이언트 연결 종료) - {} {}건 출력", target, rows[0]);
+            throw e.getCause();
+        }
+    }
+
+    private static List<Object> values(ResultSet rs, int columnCount) throws SQLException {
+        List<Object> values = new ArrayList<>(columnCount);
+        for (int i = 1; i <= columnCount; i++) {
+            Object value = rs.getObject(i);
+            values.add(value instanceof Timestamp ts ? ts.toLocalDateTime().toString() : value);
+        }
+        return values;
+    }
+
+    private static String likePattern(String keyword) {
+        String escaped = keyword.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+        return "%" + escaped + "%";
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isEmpty();
+    }
+}
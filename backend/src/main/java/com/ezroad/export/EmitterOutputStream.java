@@ -0,0 +1,68 @@
+package com.ezroad.export;
+
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+/**
+ * ResponseBodyEmitter로 내보내는 OutputStream
+ *
+ * - 버퍼가 차거나 flush할 때 모아 둔 바이트를 한 번에 전송 (행마다 보내지 않음)
+ * - 타임아웃 등으로 응답이 이미 끝났으면 IOException → 내보내기 쿼리 중단
+ */
+final class EmitterOutputStream extends OutputStream {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final ResponseBodyEmitter emitter;
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private int count;
+
+    EmitterOutputStream(ResponseBodyEmitter emitter) {
+        this.emitter = emitter;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        if (count == buffer.length) {
+            flushBuffer();
+        }
+        buffer[count++] = (byte) b;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        if (len >= buffer.length) {
+            flushBuffer();
+            send(Arrays.copyOfRange(b, off, off + len));
+            return;
+        }
+        if (len > buffer.length - count) {
+            flushBuffer();
+        }
+        System.arraycopy(b, off, buffer, count, len);
+        count += len;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        flushBuffer();
+    }
+
+    private void flushBuffer() throws IOException {
+        if (count > 0) {
+            send(Arrays.copyOf(buffer, count));
+            count = 0;
+        }
+    }
+
+    private void send(byte[] bytes) throws IOException {
+        try {
+            emitter.send(bytes);
+        } catch (IllegalStateException e) {
+            throw new IOException("내보내기 응답이 이미 종료됨", e);
+        }
+    }
+}
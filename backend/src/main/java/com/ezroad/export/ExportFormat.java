@@ -0,0 +1,41 @@
+package com.ezroad.export;
+
+import java.util.Locale;
+
+/**
+ * 내보내기 형식
+ */
+public enum ExportFormat {
+    CSV("text/csv; charset=UTF-8", "csv"),
+    NDJSON("application/x-ndjson; charset=UTF-8", "ndjson");
+
+    private final String contentType;
+    private final String extension;
+
+    ExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    /**
+     * @throws IllegalArgumentException 지원하지 않는 형식
+     */
+    public static ExportFormat from(String value) {
+        if (value == null || value.isBlank()) {
+            return CSV;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("지원하지 않는 내보내기 형식입니다: " + value);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.ezroad.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 행 단위 내보내기 출력 (CSV / NDJSON)
+ *
+ * - 행을 받는 즉시 버퍼를 거쳐 출력 스트림에 씀 → 메모리 사용은 전체 행 수와 무관
+ * - CSV: 엑셀에서 한글이 깨지지 않도록 BOM + 헤더, 쉼표/따옴표/줄바꿈이 있는 값은 따옴표로 감쌈,
+ *   =, +, -, @ 로 시작하는 문자열은 수식으로 실행되지 않도록 앞에 ' 추가
+ * - NDJSON: 한 줄에 컬럼명 → 값 JSON 객체 하나
+ */
+public class ExportWriter {
+
+    private final ExportFormat format;
+    private final List<String> columns;
+    private final ObjectMapper objectMapper;
+    private final Writer writer;
+
+    public ExportWriter(ExportFormat format, List<String> columns, ObjectMapper objectMapper, OutputStream out) {
+        this.format = format;
+        this.columns = columns;
+        this.objectMapper = objectMapper;
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+    }
+
+    public void writeHeader() throws IOException {
+        if (format != ExportFormat.CSV) {
+            return;
+        }
+        writer.write('\uFEFF');
+        writeCsvLine(columns);
+    }
+
+    /**
+     * @param values columns와 같은 순서의 값 (String, Number, Boolean, null)
+     */
+    public void writeRow(List<?> values) throws IOException {
+        if (format == ExportFormat.CSV) {
+            writeCsvLine(values);
+            return;
+        }
+        Map<String, Object> row = new LinkedHashMap<>();
+        for (int i = 0; i < columns.size(); i++) {
+            row.put(columns.get(i), values.get(i));
+        }
+        writer.write(objectMapper.writeValueAsString(row));
+        writer.write('\n');
+    }
+
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+    private void writeCsvLine(List<?> values) throws IOException {
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            Object value = values.get(i);
+            if (value != null) {
+                writer.write(value instanceof String text ? csvText(text) : value.toString());
+            }
+        }
+        writer.write("\r\n");
+    }
+
+    static String csvText(String text) {
+        if (!text.isEmpty() && "=+-@".indexOf(text.charAt(0)) >= 0) {
+            text = "'" + text;
+        }
+        boolean quote = false;
+        for (int i = 0; i < text.length() && !quote; i++) {
+            char c = text.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        return quote ? '"' + text.replace("\"", "\"\"") + '"' : text;
+    }
+}
@@ -0,0 +1,295 @@
+package com.ezroad.feed;
+
+import com.ezroad.dto.response.CursorResponse;
+import com.ezroad.dto.response.ReviewResponse;
+import com.ezroad.event.FollowChangedEvent;
+import com.ezroad.event.ReviewCreatedEvent;
+import com.ezroad.repository.FollowRepository;
+import com.ezroad.repository.ReviewRepository;
+import com.ezroad.service.ReviewService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * 팔로우 피드 (팔로우한 회원/식당의 최신 리뷰)
+ *
+ * 타임라인: 회원별 Redis ZSET (score = member = 리뷰 id, 최신 N개 유지)
+ * - 작성 시 fan-out: 커밋 후 feedExecutor에서 팔로워 타임라인에 리뷰 id 추가
+ *   → 이미 있는 타임라인에만 추가 (없는 타임라인은 조회 시 DB에서 재구성)
+ * - 팔로워가 임계값 이상인 작성자/식당(heavy)은 fan-out 하지 않고 feed:heavy에 등록,
+ *   조회 시 팔로우 중인 heavy 소스의 outbox(소스별 최근 리뷰 ZSET)를 타임라인과 병합
+ * - 재구성은 임시 키에 채운 뒤 RENAMENX, 게시 후 그 사이 작성된 리뷰를 DB에서 한 번 더 보충
+ * - 팔로우/언팔로우 커밋 후 해당 회원 타임라인 삭제 → 다음 조회에서 재구성
+ * - 본문은 한 페이지 id를 모아 ReviewService.getReviewsByIds로 일괄 조회 (삭제된 리뷰는 여기서 빠짐)
+ * - 타임라인보다 오래된 페이지, Redis 장애 시에는 DB 조회로 대체
+ *
+ * 키:
+ * - feed:timeline:{memberId} → 빈 타임라인도 "있음"으로 구분하기 위해 센티널(0) 포함
+ * - feed:source:member:{id} / feed:source:restaurant:{id} → 소스별 outbox (모든 리뷰, 최근 N개)
+ * - feed:heavy → heavy 소스 목록 (member:{id}, restaurant:{id})
+ * - fan-out 스크립트가 여러 타임라인 키를 한 번에 다루므로 단일 Redis(비클러스터) 전제
+ */
+@Slf4j
+@Service
+public class FeedService {
+
+    private static final String TIMELINE_PREFIX = "feed:timeline:";
+    private static final String SOURCE_PREFIX = "feed:source:";
+    private static final String HEAVY_KEY = "feed:heavy";
+    private static final String SENTINEL = "0";
+
+    private static final int MAX_SIZE = 50;
+    private static final int FAN_OUT_CHUNK = 500;
+    private static final Duration SOURCE_TTL = Duration.ofDays(30);
+
+    // KEYS: 팔로워 타임라인, ARGV: 리뷰 id, 최대 크기 → 존재하는 타임라인에만 추가
+    private static final RedisScript<Long> FAN_OUT_SCRIPT = new DefaultRedisScript<>("""
+            local added = 0
+            for _, key in ipairs(KEYS) do
+              if redis.call('EXISTS', key) == 1 then
+                redis.call('ZADD', key, ARGV[1], ARGV[1])
+                redis.call('ZREMRANGEBYRANK', key, 0, -(tonumber(ARGV[2]) + 1))
+                added = added + 1
+              end
+            end
+            return added
+            """, Long.class);
+
+    // KEYS: 소스 outbox, ARGV: 리뷰 id, 최대 크기, TTL(초)
+    private static final RedisScript<Long> PUSH_SOURCE_SCRIPT = new DefaultRedisScript<>("""
+            for _, key in ipairs(KEYS) do
+              redis.call('ZADD', key, ARGV[1], ARGV[1])
+              redis.call('ZREMRANGEBYRANK', key, 0, -(tonumber(ARGV[2]) + 1))
+              redis.call('EXPIRE', key, ARGV[3])
+            end
+            return #KEYS
+            """, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final FollowRepository followRepository;
+    private final ReviewRepository reviewRepository;
+    private final ReviewService reviewService;
+    private final TaskExecutor feedExecutor;
+    private final int timelineSize;
+    private final Duration timelineTtl;
+    private final long heavyThreshold;
+
+    public FeedService(StringRedisTemplate stringRedisTemplate,
+                       FollowRepository followRepository,
+                       ReviewRepository reviewRepository,
+                       ReviewService reviewService,
+                       @Qualifier("feedExecutor") TaskExecutor feedExecutor,
+                       @Value("${feed.timeline-size:500}") int timelineSize,
+                       @Value("${feed.timeline-ttl-days:3}") long timelineTtlDays,
+                       @Value("${feed.heavy-follower-threshold:5000}") long heavyThreshold) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.followRepository = followRepository;
+        this.reviewRepository = reviewRepository;
+        this.reviewService = reviewService;
+        this.feedExecutor = feedExecutor;
+        this.timelineSize = timelineSize;
+        this.timelineTtl = Duration.ofDays(timelineTtlDays);
+        this.heavyThreshold = heavyThreshold;
+    }
+
+    // ==================== 조회 ====================
+
+    /**
+     * 내 피드 (최신순)
+     * @param cursor 이전 페이지의 nextCursor (마지막 리뷰 id), 첫 페이지는 null
+     */
+    public CursorResponse<ReviewResponse> getFeed(Long memberId, String cursor, int size) {
+        int limit = Math.max(1, Math.min(size, MAX_SIZE));
+        long before = parseCursor(cursor);
+
+        List<Long> ids = readIds(memberId, before, limit + 1);
+        boolean hasNext = ids.size() > limit;
+        List<Long> pageIds = hasNext ? ids.subList(0, limit) : ids;
+
+        List<ReviewResponse> content = reviewService.getReviewsByIds(pageIds);
+        return CursorResponse.<ReviewResponse>builder()
+                .content(content)
+                .size(content.size())
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? String.valueOf(pageIds.get(pageIds.size() - 1)) : null)
+                .build();
+    }
+
+    private List<Long> readIds(Long memberId, long before, int count) {
+        String key = TIMELINE_PREFIX + memberId;
+        TreeSet<Long> merged = new TreeSet<>(Comparator.reverseOrder());
+        try {
+            if (!Boolean.TRUE.equals(stringRedisTemplate.hasKey(key))) {
+                rebuild(memberId, key);
+            }
+            merged.addAll(range(key, before, count));
+            stringRedisTemplate.expire(key, timelineTtl);
+
+            // 타임라인이 잘려 있으면 그보다 오래된 리뷰는 DB에서 보충
+            Long stored = stringRedisTemplate.opsForZSet().zCard(key);
+            if (merged.size() < count && stored != null && stored >= timelineSize) {
+                long from = merged.isEmpty() ? before : merged.last();
+                merged.addAll(reviewRepository.findFeedReviewIds(memberId, from, PageRequest.of(0, count)));
+            }
+
+            for (String source : followedHeavySources(memberId)) {
+                merged.addAll(range(source, before, count));
+            }
+        } catch (Exception e) {
+            log.error("피드 타임라인 조회 실패 (DB 조회로 대체) - memberId: {}, {}", memberId, e.getMessage());
+            return reviewRepository.findFeedReviewIds(memberId, before, PageRequest.of(0, count));
+        }
+        return merged.stream().limit(count).toList();
+    }
+
+    private List<Long> range(String key, long before, int count) {
+        Set<String> members = stringRedisTemplate.opsForZSet().reverseRangeByScore(key, 1, before - 1, 0, count);
+        if (members == null) {
+            return List.of();
+        }
+        return members.stream().map(Long::valueOf).toList();
+    }
+
+    /**
+     * DB 조회 → 임시 키에 채운 뒤 RENAMENX → 조회 이후 작성된 리뷰 보충
+     * - 조회와 게시 사이에 커밋된 리뷰는 타임라인이 아직 없어 fan-out에서 빠지므로,
+     *   게시 후 재구성한 최대 id보다 큰 리뷰를 한 번 더 조회해 추가
+     *   (게시 이후 커밋된 리뷰는 fan-out이 반영)
+     */
+    private void rebuild(Long memberId, String key) {
+        List<Long> ids = reviewRepository.findFeedReviewIds(memberId, Long.MAX_VALUE, PageRequest.of(0, timelineSize));
+        Set<TypedTuple<String>> tuples = new HashSet<>(ids.size() + 1);
+        tuples.add(new DefaultTypedTuple<>(SENTINEL, 0.0));
+        ids.forEach(id -> tuples.add(new DefaultTypedTuple<>(id.toString(), id.doubleValue())));
+
+        String buildKey = key + ":build:" + UUID.randomUUID();
+        stringRedisTemplate.opsForZSet().add(buildKey, tuples);
+        stringRedisTemplate.expire(buildKey, timelineTtl);
+        if (!Boolean.TRUE.equals(stringRedisTemplate.renameIfAbsent(buildKey, key))) {
+            // 다른 요청이 먼저 구성함
+            stringRedisTemplate.delete(buildKey);
+            return;
+        }
+
+        long maxId = ids.isEmpty() ? 0 : ids.get(0);
+        List<Long> missed = reviewRepository.findFeedReviewIdsAfter(memberId, maxId, PageRequest.of(0, timelineSize));
+        for (Long id : missed) {
+            stringRedisTemplate.execute(FAN_OUT_SCRIPT, List.of(key), id.toString(), String.valueOf(timelineSize));
+        }
+    }
+
+    // 팔로우 중인 heavy 소스의 outbox 키
+    private List<String> followedHeavySources(Long memberId) {
+        Set<String> heavy = stringRedisTemplate.opsForSet().members(HEAVY_KEY);
+        if (heavy == null || heavy.isEmpty()) {
+            return List.of();
+        }
+        List<String> sources = new ArrayList<>();
+        for (Long id : followRepository.findFollowingIdsByMemberId(memberId)) {
+            addIfHeavy(sources, heavy, "member:" + id);
+        }
+        for (Long id : followRepository.findRestaurantIdsByMemberId(memberId)) {
+            addIfHeavy(sources, heavy, "restaurant:" + id);
+        }
+        return sources;
+    }
+
+    private void addIfHeavy(List<String> sources, Set<String> heavy, String source) {
+        if (heavy.contains(source)) {
+            sources.add(SOURCE_PREFIX + source);
+        }
+    }
+
+    private long parseCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return Long.MAX_VALUE;
+        }
+        try {
+            return Long.parseLong(cursor);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다", e);
+        }
+    }
+
+    // ==================== fan-out ====================
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onReviewCreated(ReviewCreatedEvent event) {
+        feedExecutor.execute(() -> fanOut(event));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onFollowChanged(FollowChangedEvent event) {
+        try {
+            stringRedisTemplate.delete(TIMELINE_PREFIX + event.followerId());
+        } catch (Exception e) {
+            log.error("피드 타임라인 삭제 실패 - memberId: {}, {}", event.followerId(), e.getMessage());
+        }
+    }
+
+    private void fanOut(ReviewCreatedEvent event) {
+        try {
+            String reviewId = event.reviewId().toString();
+            String memberSource = "member:" + event.memberId();
+            String restaurantSource = "restaurant:" + event.restaurantId();
+            stringRedisTemplate.execute(PUSH_SOURCE_SCRIPT,
+                    List.of(SOURCE_PREFIX + memberSource, SOURCE_PREFIX + restaurantSource),
+                    reviewId, String.valueOf(timelineSize), String.valueOf(SOURCE_TTL.toSeconds()));
+
+            Set<Long> followers = new HashSet<>();
+            collectFollowers(followers, memberSource, followRepository.countFollowersByMemberId(event.memberId()),
+                    () -> followRepository.findFollowerIdsByMemberId(event.memberId()));
+            collectFollowers(followers, restaurantSource, followRepository.countByRestaurantId(event.restaurantId()),
+                    () -> followRepository.findFollowerIdsByRestaurantId(event.restaurantId()));
+            followers.remove(event.memberId());
+
+            List<String> keys = followers.stream().map(id -> TIMELINE_PREFIX + id).toList();
+            long added = 0;
+            for (int i = 0; i < keys.size(); i += FAN_OUT_CHUNK) {
+                Long n = stringRedisTemplate.execute(FAN_OUT_SCRIPT,
+                        keys.subList(i, Math.min(i + FAN_OUT_CHUNK, keys.size())),
+                        reviewId, String.valueOf(timelineSize));
+                added += n != null ? n : 0;
+            }
+            log.debug("피드 fan-out - reviewId: {}, 팔로워: {}, 반영: {}", reviewId, keys.size(), added);
+        } catch (Exception e) {
+            // 반영되지 않은 타임라인은 TTL 만료 후 재구성 시 DB에서 채워짐
+            log.error("피드 fan-out 실패 - reviewId: {}, {}", event.reviewId(), e.getMessage());
+        }
+    }
+
+    // 팔로워가 임계값 이상이면 heavy로 등록하고 fan-out 대상에서 제외
+    private void collectFollowers(Set<Long> followers, String source, Long followerCount,
+                                  Supplier<List<Long>> loader) {
+        long count = followerCount != null ? followerCount : 0;
+        if (count >= heavyThreshold) {
+            stringRedisTemplate.opsForSet().add(HEAVY_KEY, source);
+            return;
+        }
+        stringRedisTemplate.opsForSet().remove(HEAVY_KEY, source);
+        if (count > 0) {
+            followers.addAll(loader.get());
+        }
+    }
+}
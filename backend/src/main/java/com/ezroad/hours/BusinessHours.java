@@ -0,0 +1,58 @@
+package com.ezroad.hours;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * 주간 영업시간 비트셋 (15분 슬롯 × 7일 = 672비트, 84바이트)
+ *
+ * - 슬롯 번호: 요일(월=0) * 96 + (시 * 60 + 분) / 15, 한국 시간 기준
+ * - 저장 형식: BitSet.toByteArray()와 같은 LSB 우선 → PostgreSQL get_bit(bytea, 슬롯)과 비트 위치 일치
+ * - 해석할 수 없는 영업시간은 전부 0 (항상 영업 종료로 취급)
+ */
+public final class BusinessHours {
+
+    public static final int SLOT_MINUTES = 15;
+    public static final int SLOTS_PER_DAY = 24 * 60 / SLOT_MINUTES;
+    public static final int WEEK_SLOTS = SLOTS_PER_DAY * 7;
+    public static final int BYTES = WEEK_SLOTS / 8;
+
+    private static final ZoneId KOREA_ZONE = ZoneId.of("Asia/Seoul");
+
+    private BusinessHours() {
+    }
+
+    /**
+     * 영업시간 문자열 → 저장용 바이트 배열 (항상 84바이트)
+     */
+    public static byte[] compile(String businessHours) {
+        return BusinessHoursParser.parse(businessHours)
+                .map(bits -> Arrays.copyOf(bits.toByteArray(), BYTES))
+                .orElseGet(() -> new byte[BYTES]);
+    }
+
+    public static boolean isOpen(byte[] schedule, int slot) {
+        if (schedule == null || schedule.length != BYTES) {
+            return false;
+        }
+        return BitSet.valueOf(schedule).get(slot);
+    }
+
+    /**
+     * 현재 한국 시간 (openNow 필터 기준)
+     */
+    public static LocalDateTime now() {
+        return LocalDateTime.now(KOREA_ZONE);
+    }
+
+    /**
+     * 한국 시간 기준 일시 → 슬롯
+     */
+    public static int slotOf(LocalDateTime dateTime) {
+        int day = dateTime.getDayOfWeek().getValue() - 1;
+        int minuteOfDay = dateTime.getHour() * 60 + dateTime.getMinute();
+        return day * SLOTS_PER_DAY + minuteOfDay / SLOT_MINUTES;
+    }
+}
@@ -0,0 +1,57 @@
+package com.ezroad.hours;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 영업시간 비트셋 백필
+ *
+ * - 컬럼 추가 이전에 등록된 식당(business_hours_schedule IS NULL)을 기동 시 id 순 청크로 컴파일
+ * - 이후 등록/수정분은 엔티티에서 바로 컴파일되므로 대상이 없으면 조회 1회로 끝남
+ * - updated_at은 건드리지 않도록 JDBC로 컬럼만 갱신
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BusinessHoursBackfill {
+
+    private static final int CHUNK_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        try {
+            long lastId = 0;
+            int total = 0;
+            while (true) {
+                List<Object[]> rows = jdbcTemplate.query(
+                        "SELECT id, business_hours FROM restaurants " +
+                        "WHERE business_hours_schedule IS NULL AND id > ? ORDER BY id LIMIT ?",
+                        (rs, rowNum) -> new Object[]{rs.getLong("id"), rs.getString("business_hours")},
+                        lastId, CHUNK_SIZE);
+                if (rows.isEmpty()) {
+                    break;
+                }
+                jdbcTemplate.batchUpdate(
+                        "UPDATE restaurants SET business_hours_schedule = ? WHERE id = ?",
+                        rows.stream()
+                                .map(row -> new Object[]{BusinessHours.compile((String) row[1]), row[0]})
+                                .toList());
+                lastId = (Long) rows.get(rows.size() - 1)[0];
+                total += rows.size();
+            }
+            if (total > 0) {
+                log.info("영업시간 비트셋 백필 완료 - {}건", total);
+            }
+        } catch (Exception e) {
+            log.error("영업시간 비트셋 백필 실패: {}", e.getMessage());
+        }
+    }
+}
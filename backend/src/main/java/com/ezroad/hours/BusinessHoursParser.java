@@ -0,0 +1,251 @@
+package com.ezroad.hours;
+
+import java.util.BitSet;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 자유 형식 영업시간 문자열 → 주간 15분 슬롯 비트셋
+ *
+ * 지원 형태 (조합 가능):
+ * - "11:00-22:00", "매일 10:00 ~ 22:00 (라스트오더 21:00)", "11시~21시 30분", "오후 6시 - 새벽 2시"
+ * - "평일 11:00-22:00, 주말 12:00-21:00", "월~금 11:00-21:00 / 토 12:00-20:00 / 일 휴무", "월,수,금 ..."
+ * - "브레이크타임 15:00-17:00" (해당 요일에서 제외), "매주 월요일 휴무", "정기휴무: 화", "24시간"
+ * - 종료가 시작보다 이르면 다음 날로 이어짐 (일요일 → 월요일로 순환)
+ *
+ * 요일 지정은 다음 시간 구간/휴무 표기까지 유지되며, 지정이 없으면 매일로 간주.
+ * 앞에 오는 휴무 표기("월요일 휴무, 11:00-22:00", "휴무일: 일요일, 월-토 09:00-18:00")는 휴무 요일에만 적용,
+ * 요일이 뒤에 오는 휴무는 "/"·줄바꿈 또는 시간 구간이 붙은 요일이 나오면 끝남.
+ * 시간 구간을 하나도 찾지 못하면 해석 불가(empty).
+ */
+public final class BusinessHoursParser {
+
+    private static final String DAY_CHARS = "월화수목금토일";
+
+    // 앞 글자가 요일이 아닌 한글이면 요일로 보지 않음 (영업일, 휴일 등)
+    private static final String NOT_AFTER_WORD = "(?<![가-힣&&[^" + DAY_CHARS + "]])";
+
+    private static final Pattern TOKEN = Pattern.compile(
+            "(?<range>" + time("S") + "\\s*(?:-|~|–|부터)\\s*" + time("E") + ")"
+                    + "|(?<allDay>24\\s*시간)"
+                    + "|(?<closed>정기\\s*휴무|휴무|휴점|쉽니다|closed)"
+                    + "|(?<breakTime>브레이크\\s*타임|브레이크|break\\s*time|쉬는\\s*시간)"
+                    + "|(?<lastOrder>라스트\\s*오더|\\bL\\.?\\s*O\\b\\.?)"
+                    + "|(?<holiday>공휴일|휴일)"
+                    + "|(?<everyDay>매일|everyday)"
+                    + "|(?<weekday>평일|주중)"
+                    + "|(?<weekend>주말)"
+                    + "|" + NOT_AFTER_WORD + "(?<dayRange>[" + DAY_CHARS + "])(?:요일)?\\s*[-~]\\s*(?<dayRangeEnd>[" + DAY_CHARS + "])(?:요일)?"
+                    + "|" + NOT_AFTER_WORD + "(?<day>[" + DAY_CHARS + "])(?:요일|(?=[" + DAY_CHARS + "]|[^가-힣]|$))"
+                    + "|(?<single>" + time("T") + ")",
+            Pattern.CASE_INSENSITIVE);
+
+    private BusinessHoursParser() {
+    }
+
+    /**
+     * @return 슬롯 i = 요일(월=0) * 96 + 분/15 가 영업 중이면 set. 해석 불가 시 empty
+     */
+    public static Optional<BitSet> parse(String text) {
+        if (text == null || text.isBlank()) {
+            return Optional.empty();
+        }
+
+        BitSet open = new BitSet(BusinessHours.WEEK_SLOTS);
+        BitSet breaks = new BitSet(BusinessHours.WEEK_SLOTS);
+        boolean[] closedDays = new boolean[7];
+        boolean[] selected = allDays();
+
+        boolean inDayRun = false;      // 직전 토큰이 요일 → 요일 누적
+        boolean daysPending = false;   // 요일 지정 후 아직 시간/휴무가 오지 않음
+        boolean closedPending = false; // "휴무: 월" 처럼 요일이 뒤에 오는 휴무
+        boolean breakNext = false;
+        boolean skipNext = false;
+        boolean found = false;
+
+        Matcher m = TOKEN.matcher(text);
+        int previousEnd = 0;
+        while (m.find()) {
+            if (closedPending && hasHardSeparator(text, previousEnd, m.start())) {
+                closedPending = false;
+            }
+            previousEnd = m.end();
+            boolean isDayToken = m.group("day") != null || m.group("dayRange") != null
+                    || m.group("everyDay") != null || m.group("weekday") != null
+                    || m.group("weekend") != null || m.group("holiday") != null;
+
+            if (isDayToken) {
+                boolean[] days = daysOf(m);
+                if (closedPending && segmentHasTime(text, m.end())) {
+                    // "휴무일: 일요일, 월-토 09:00-18:00" → 월-토는 영업 요일
+                    closedPending = false;
+                }
+                if (closedPending) {
+                    or(closedDays, days);
+                    continue;
+                }
+                if (!inDayRun) {
+                    selected = new boolean[7];
+                }
+                or(selected, days);
+                inDayRun = true;
+                daysPending = true;
+                continue;
+            }
+            inDayRun = false;
+
+            if (m.group("range") != null || m.group("allDay") != null) {
+                closedPending = false;
+                daysPending = false;
+                if (skipNext) {
+                    skipNext = false;
+                    continue;
+                }
+                int start = 0;
+                int end = BusinessHours.SLOTS_PER_DAY;
+                if (m.group("range") != null) {
+                    start = slotOfDay(m, "S");
+                    end = slotOfDay(m, "E");
+                    if (start < 0 || end < 0) {
+                        continue;
+                    }
+                    if (end <= start) {
+                        end += BusinessHours.SLOTS_PER_DAY; // 자정 넘김
+                    }
+                }
+                fill(breakNext ? breaks : open, selected, start, end);
+                found |= !breakNext;
+                breakNext = false;
+            } else if (m.group("closed") != null) {
+                if (daysPending) {
+                    or(closedDays, selected);
+                    daysPending = false;
+                    // 휴무 요일 지정은 여기서 끝 → 이후 요일 없는 구간은 매일
+                    selected = allDays();
+                } else {
+                    closedPending = true;
+                }
+            } else if (m.group("breakTime") != null) {
+                breakNext = true;
+            } else if (m.group("lastOrder") != null) {
+                skipNext = true;
+            } else if (m.group("single") != null) {
+                // 단독 시각 (라스트오더 21:00 등)은 구간이 아니므로 무시
+                skipNext = false;
+            }
+        }
+
+        if (!found) {
+            return Optional.empty();
+        }
+        open.andNot(breaks);
+        for (int day = 0; day < 7; day++) {
+            if (closedDays[day]) {
+                open.clear(day * BusinessHours.SLOTS_PER_DAY, (day + 1) * BusinessHours.SLOTS_PER_DAY);
+            }
+        }
+        return Optional.of(open);
+    }
+
+    // 휴무 요일 목록을 끝내는 구분자 ("/", 줄바꿈)
+    private static boolean hasHardSeparator(String text, int from, int to) {
+        for (int i = from; i < to; i++) {
+            char c = text.charAt(i);
+            if (c == '/' || c == '\n') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 요일 뒤 다음 구분자(",", "/", 줄바꿈)까지 시간 구간이 있는지
+    private static boolean segmentHasTime(String text, int from) {
+        int to = from;
+        while (to < text.length() && ",/\n".indexOf(text.charAt(to)) < 0) {
+            to++;
+        }
+        Matcher m = TOKEN.matcher(text).region(from, to);
+        while (m.find()) {
+            if (m.group("range") != null || m.group("allDay") != null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void fill(BitSet target, boolean[] days, int start, int end) {
+        for (int day = 0; day < 7; day++) {
+            if (!days[day]) {
+                continue;
+            }
+            int base = day * BusinessHours.SLOTS_PER_DAY;
+            for (int slot = start; slot < end; slot++) {
+                target.set((base + slot) % BusinessHours.WEEK_SLOTS);
+            }
+        }
+    }
+
+    // 시각 표현: [오전|오후|새벽|저녁|밤] HH:MM | HH시 [MM분|반]
+    private static String time(String name) {
+        return "(?:(?<period" + name + ">오전|오후|새벽|저녁|밤)\\s*)?(?<hour" + name + ">\\d{1,2})\\s*"
+                + "(?::\\s*(?<minute" + name + ">\\d{2})|시(?:\\s*(?<minuteKo" + name + ">\\d{1,2})\\s*분|\\s*(?<half" + name + ">반))?)";
+    }
+
+    /**
+     * @return 하루 내 슬롯 (0~96), 잘못된 시각이면 -1
+     */
+    private static int slotOfDay(Matcher m, String name) {
+        String period = m.group("period" + name);
+        int hour = Integer.parseInt(m.group("hour" + name));
+        int minute = 0;
+        if (m.group("minute" + name) != null) {
+            minute = Integer.parseInt(m.group("minute" + name));
+        } else if (m.group("minuteKo" + name) != null) {
+            minute = Integer.parseInt(m.group("minuteKo" + name));
+        } else if (m.group("half" + name) != null) {
+            minute = 30;
+        }
+        if (period != null && hour < 12 && (period.equals("오후") || period.equals("저녁") || period.equals("밤"))) {
+            hour += 12;
+        }
+        if (hour > 24 || minute > 59 || (hour == 24 && minute > 0)) {
+            return -1;
+        }
+        return (hour * 60 + minute) / BusinessHours.SLOT_MINUTES;
+    }
+
+    private static boolean[] daysOf(Matcher m) {
+        boolean[] days = new boolean[7];
+        if (m.group("everyDay") != null) {
+            return allDays();
+        }
+        if (m.group("weekday") != null) {
+            for (int i = 0; i < 5; i++) days[i] = true;
+        } else if (m.group("weekend") != null) {
+            days[5] = true;
+            days[6] = true;
+        } else if (m.group("dayRange") != null) {
+            int from = DAY_CHARS.indexOf(m.group("dayRange"));
+            int to = DAY_CHARS.indexOf(m.group("dayRangeEnd"));
+            for (int i = from; ; i = (i + 1) % 7) {
+                days[i] = true;
+                if (i == to) break;
+            }
+        } else if (m.group("day") != null) {
+            days[DAY_CHARS.indexOf(m.group("day"))] = true;
+        }
+        // 공휴일: 요일로 표현할 수 없으므로 빈 선택
+        return days;
+    }
+
+    private static boolean[] allDays() {
+        return new boolean[]{true, true, true, true, true, true, true};
+    }
+
+    private static void or(boolean[] target, boolean[] source) {
+        for (int i = 0; i < 7; i++) {
+            target[i] |= source[i];
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package com.ezroad.ranking;
+
+import com.ezroad.event.ReviewChangedEvent;
+import com.ezroad.repository.ReviewRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 식당별 베스트 리뷰 순위 (Redis Sorted Set)
+ *
+ * 점수: 품질 · e^{-(now - 작성시각)/τ}  (τ = 반감기 / ln2)
+ * - 품질 = 1 + 2·별점 + 1.5·ln(1 + 조회수) + (사진 있으면 2) + min(본문 길이, 500)/100
+ * - 같은 식당 안에서는 now가 공통이므로 ln(품질) + 작성시각/τ 로 저장해도 순위가 같음
+ *   → 시간이 지나도 점수를 다시 계산할 필요 없이 리뷰가 바뀔 때만 갱신
+ * - 리뷰 작성/수정/삭제 커밋 후, 조회수 일괄 반영(HitCountService) 후 해당 리뷰만 다시 계산
+ * - 키가 없으면 첫 조회 시 식당 리뷰 전체로 구성, TTL마다 다시 구성 (구성 중 반영이 빠진 경우 보정)
+ * - 갱신은 키가 있을 때만 (Lua) → 일부 리뷰만 든 순위가 만들어지지 않음
+ * - 리뷰가 없는 식당도 구성 여부를 알 수 있도록 두 키에 센티널 "0"(점수 -inf)을 넣어 둠 → 개수는 ZCARD - 1
+ *
+ * 키: review:best:{restaurantId} (전체), review:best:{restaurantId}:photo (사진 리뷰)
+ */
+@Slf4j
+@Service
+public class BestReviewService {
+
+    private static final String KEY_PREFIX = "review:best:";
+    private static final String PHOTO_SUFFIX = ":photo";
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    private static final String SENTINEL = "0";
+
+    // KEYS: 전체, 사진 / ARGV: 리뷰 id, 점수, 사진 여부(1/0), 센티널
+    private static final RedisScript<Long> UPSERT_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then return 0 end
+            redis.call('ZADD', KEYS[1], ARGV[2], ARGV[1])
+            if ARGV[3] == '1' then
+              if redis.call('EXISTS', KEYS[2]) == 0 then redis.call('ZADD', KEYS[2], '-inf', ARGV[4]) end
+              redis.call('ZADD', KEYS[2], ARGV[2], ARGV[1])
+              local ttl = redis.call('TTL', KEYS[1])
+              if ttl > 0 then redis.call('EXPIRE', KEYS[2], ttl) end
+            else
+              redis.call('ZREM', KEYS[2], ARGV[1])
+            end
+            return 1
+            """, Long.class);
+
+    /**
+     * 한 페이지 분량의 리뷰 id (순위순)와 전체 개수
+     */
+    public record RankedPage(List<Long> reviewIds, long total) {
+    }
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ReviewRepository reviewRepository;
+    private final double tauSeconds;
+    private final Duration ttl;
+
+    public BestReviewService(StringRedisTemplate stringRedisTemplate,
+                             ReviewRepository reviewRepository,
+                             @Value("${best-review.half-life-days:30}") double halfLifeDays,
+                             @Value("${best-review.ttl-hours:24}") long ttlHours) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.reviewRepository = reviewRepository;
+        this.tauSeconds = halfLifeDays * 86400 / Math.log(2);
+        this.ttl = Duration.ofHours(ttlHours);
+    }
+
+    /**
+     * 베스트 순 페이지 (offset부터 size개)
+     */
+    public RankedPage getPage(Long restaurantId, boolean photoOnly, long offset, int size) {
+        String key = photoOnly ? photoKey(restaurantId) : key(restaurantId);
+        try {
+            if (!Boolean.TRUE.equals(stringRedisTemplate.hasKey(key(restaurantId)))) {
+                rebuild(restaurantId);
+            }
+            Set<String> members = stringRedisTemplate.opsForZSet().reverseRange(key, offset, offset + size - 1);
+            Long count = stringRedisTemplate.opsForZSet().zCard(key);
+            List<Long> ids = members == null ? List.of() : members.stream()
+                    .filter(member -> !SENTINEL.equals(member))
+                    .map(Long::valueOf)
+                    .toList();
+            return new RankedPage(ids, count != null ? Math.max(count - 1, 0) : 0);
+        } catch (Exception e) {
+            log.error("베스트 리뷰 조회 실패 (DB에서 계산) - restaurantId: {}, {}", restaurantId, e.getMessage());
+            List<BestReviewTarget> targets = reviewRepository.findBestReviewTargetsByRestaurantId(restaurantId).stream()
+                    .filter(t -> !photoOnly || Boolean.TRUE.equals(t.hasPhoto()))
+                    .sorted(Comparator.comparingDouble(this::score).reversed()
+                            .thenComparing(BestReviewTarget::id, Comparator.reverseOrder()))
+                    .toList();
+            List<Long> ids = targets.stream().skip(offset).limit(size).map(BestReviewTarget::id).toList();
+            return new RankedPage(ids, targets.size());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onReviewChanged(ReviewChangedEvent event) {
+        try {
+            if (refresh(List.of(event.reviewId())) == 0) {
+                // 완전히 삭제된 리뷰 (관리자 삭제)
+                remove(event.restaurantId(), event.reviewId());
+            }
+        } catch (Exception e) {
+            log.error("베스트 리뷰 갱신 실패 - reviewId: {}, {}", event.reviewId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 조회수 반영 후 호출 (해당 리뷰 점수만 다시 계산)
+     */
+    public void onHitsFlushed(Collection<Long> reviewIds) {
+        try {
+            refresh(reviewIds);
+        } catch (Exception e) {
+            log.error("베스트 리뷰 조회수 반영 실패 - {}건, {}", reviewIds.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * @return DB에서 찾은 리뷰 수
+     */
+    private int refresh(Collection<Long> reviewIds) {
+        if (reviewIds.isEmpty()) {
+            return 0;
+        }
+        List<BestReviewTarget> targets = reviewRepository.findBestReviewTargetsByIdIn(reviewIds);
+        for (BestReviewTarget target : targets) {
+            if (target.deletedAt() != null) {
+                remove(target.restaurantId(), target.id());
+                continue;
+            }
+            stringRedisTemplate.execute(UPSERT_SCRIPT,
+                    List.of(key(target.restaurantId()), photoKey(target.restaurantId())),
+                    target.id().toString(), String.valueOf(score(target)),
+                    Boolean.TRUE.equals(target.hasPhoto()) ? "1" : "0", SENTINEL);
+        }
+        return targets.size();
+    }
+
+    private void rebuild(Long restaurantId) {
+        List<BestReviewTarget> targets = reviewRepository.findBestReviewTargetsByRestaurantId(restaurantId);
+        String key = key(restaurantId);
+        String photoKey = photoKey(restaurantId);
+        stringRedisTemplate.delete(List.of(key, photoKey));
+
+        // 센티널은 빈 순위도 다시 구성하지 않도록 항상 넣음 (리뷰 없는 식당)
+        TypedTuple<String> sentinel = new DefaultTypedTuple<>(SENTINEL, Double.NEGATIVE_INFINITY);
+        Set<TypedTuple<String>> all = new HashSet<>(targets.size() + 1);
+        Set<TypedTuple<String>> photos = new HashSet<>();
+        all.add(sentinel);
+        photos.add(sentinel);
+        for (BestReviewTarget target : targets) {
+            TypedTuple<String> tuple = new DefaultTypedTuple<>(target.id().toString(), score(target));
+            all.add(tuple);
+            if (Boolean.TRUE.equals(target.hasPhoto())) {
+                photos.add(tuple);
+            }
+        }
+        stringRedisTemplate.opsForZSet().add(photoKey, photos);
+        stringRedisTemplate.expire(photoKey, ttl);
+        stringRedisTemplate.opsForZSet().add(key, all);
+        stringRedisTemplate.expire(key, ttl);
+        log.debug("베스트 리뷰 순위 구성 - restaurantId: {}, {}건", restaurantId, targets.size());
+    }
+
+    private void remove(Long restaurantId, Long reviewId) {
+        String member = reviewId.toString();
+        stringRedisTemplate.opsForZSet().remove(key(restaurantId), member);
+        stringRedisTemplate.opsForZSet().remove(photoKey(restaurantId), member);
+    }
+
+    double score(BestReviewTarget target) {
+        double quality = 1.0
+                + 2.0 * orZero(target.rating())
+                + 1.5 * Math.log1p(orZero(target.hit()))
+                + (Boolean.TRUE.equals(target.hasPhoto()) ? 2.0 : 0.0)
+                + Math.min(orZero(target.contentLength()), 500) / 100.0;
+        long createdAt = target.createdAt() != null ? target.createdAt().atZone(ZONE).toEpochSecond() : 0;
+        return Math.log(quality) + createdAt / tauSeconds;
+    }
+
+    private static int orZero(Integer value) {
+        return value != null ? value : 0;
+    }
+
+    private static String key(Long restaurantId) {
+        return KEY_PREFIX + restaurantId;
+    }
+
+    private static String photoKey(Long restaurantId) {
+        return KEY_PREFIX + restaurantId + PHOTO_SUFFIX;
+    }
+}
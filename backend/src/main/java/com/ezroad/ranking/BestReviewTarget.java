@@ -0,0 +1,10 @@
+package com.ezroad.ranking;
+
+import java.time.LocalDateTime;
+
+/**
+ * 베스트 리뷰 점수 계산용 리뷰 정보 (JPQL 생성자 프로젝션)
+ */
+public record BestReviewTarget(Long id, Long restaurantId, Integer rating, Integer hit, Boolean hasPhoto,
+                               Integer contentLength, LocalDateTime createdAt, LocalDateTime deletedAt) {
+}
@@ -0,0 +1,321 @@
+package com.ezroad.ranking;
+
+import com.ezroad.event.ThemeChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 인기 테마 순위 (Redis Sorted Set: 조회수 / 좋아요 수 / 최근 증가량)
+ *
+ * - 공개 테마만 순위에 포함, 조회수·좋아요 수가 바뀔 때 해당 테마 점수만 갱신
+ *   (조회수: HitCountService 일괄 반영 후, 좋아요: ThemeLikeService 반영 직후)
+ * - 공개 여부 변경/삭제는 커밋 후 ThemeChangedEvent로 추가/제거 (이미 있는 테마의 점수는 그대로)
+ * - 조회수/좋아요 순위가 없으면 첫 조회 시 공개 테마 전체로 구성 (임시 키에 채운 뒤 RENAME),
+ *   빈 순위도 구성 여부를 알 수 있도록 센티널 "0"(점수 -inf)을 넣어 둠 → 개수는 ZCARD - 1
+ * - 갱신은 순위에 이미 있는 테마만 (Lua) → 비공개 테마가 섞이지 않음, TTL마다 다시 구성해 누락분 보정
+ * - 최근 증가량: 일별 버킷(조회 1, 좋아요 3)에 더해 두고 최근 N일 버킷을 주기적으로 ZUNIONSTORE
+ *   (버킷에는 순위에 있는 공개 테마만, 합산 결과에도 센티널을 넣어 빈 결과를 매 요청 다시 합산하지 않음)
+ * - 센티널 점수는 -inf라 항상 맨 뒤 → 페이지를 자른 뒤 센티널을 빼도 마지막 페이지 외에는 개수가 줄지 않음
+ *
+ * 키: theme:rank:views, theme:rank:likes, theme:rank:growth, theme:rank:growth:{yyyyMMdd}
+ */
+@Slf4j
+@Service
+public class ThemeLeaderboardService {
+
+    private static final String KEY_PREFIX = "theme:rank:";
+    private static final String VIEWS_KEY = KEY_PREFIX + "views";
+    private static final String LIKES_KEY = KEY_PREFIX + "likes";
+    private static final String GROWTH_KEY = KEY_PREFIX + "growth";
+    private static final String GROWTH_BUCKET_PREFIX = GROWTH_KEY + ":";
+    private static final String SENTINEL = "0";
+    private static final int BUILD_CHUNK = 1000;
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    private static final DateTimeFormatter BUCKET_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+
+    private static final double VIEW_WEIGHT = 1.0;
+    private static final double LIKE_WEIGHT = 3.0;
+
+    // KEYS: 조회수 순위, 오늘 버킷 / ARGV: 버킷 TTL(초), 순위 갱신 여부(1/0), [테마 id, 증가분]...
+    // 순위에 있는(공개) 테마만 버킷에 더함 → 최근 증가량 순위에 비공개 테마가 섞이지 않음
+    private static final RedisScript<Long> VIEWS_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then return 0 end
+            for i = 3, #ARGV, 2 do
+              if redis.call('ZSCORE', KEYS[1], ARGV[i]) then
+                if ARGV[2] == '1' then redis.call('ZINCRBY', KEYS[1], ARGV[i + 1], ARGV[i]) end
+                redis.call('ZINCRBY', KEYS[2], ARGV[i + 1], ARGV[i])
+              end
+            end
+            redis.call('EXPIRE', KEYS[2], ARGV[1])
+            return 1
+            """, Long.class);
+
+    // KEYS: 좋아요 순위, 오늘 버킷 / ARGV: 버킷 TTL(초), 테마 id, 좋아요 수, 증가량
+    private static final RedisScript<Long> LIKES_SCRIPT = new DefaultRedisScript<>("""
+            if not redis.call('ZSCORE', KEYS[1], ARGV[2]) then return 0 end
+            redis.call('ZADD', KEYS[1], ARGV[3], ARGV[2])
+            redis.call('ZINCRBY', KEYS[2], ARGV[4], ARGV[2])
+            redis.call('EXPIRE', KEYS[2], ARGV[1])
+            return 1
+            """, Long.class);
+
+    // KEYS: 조회수 순위, 좋아요 순위 / ARGV: 테마 id, 공개 여부(1/0), 조회수, 좋아요 수
+    // 이미 순위에 있는 테마는 점수를 덮어쓰지 않음 (DB 값에는 아직 반영되지 않은 조회수가 빠져 있음)
+    private static final RedisScript<Long> UPSERT_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then return 0 end
+            if ARGV[2] == '1' then
+              redis.call('ZADD', KEYS[1], 'NX', ARGV[3], ARGV[1])
+              redis.call('ZADD', KEYS[2], 'NX', ARGV[4], ARGV[1])
+            else
+              redis.call('ZREM', KEYS[1], ARGV[1])
+              redis.call('ZREM', KEYS[2], ARGV[1])
+            end
+            return 1
+            """, Long.class);
+
+    // KEYS: 임시 조회수, 임시 좋아요, 조회수 순위, 좋아요 순위 / ARGV: TTL(초)
+    private static final RedisScript<Long> SWAP_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('RENAME', KEYS[1], KEYS[3])
+            redis.call('RENAME', KEYS[2], KEYS[4])
+            redis.call('EXPIRE', KEYS[3], ARGV[1])
+            redis.call('EXPIRE', KEYS[4], ARGV[1])
+            return 1
+            """, Long.class);
+
+    // KEYS: 최근 증가량 순위, 조회수 순위, 버킷... / ARGV: 센티널, TTL(초)
+    // 조회수 순위가 있으면 그 사이 비공개 전환/삭제된 테마를 교집합으로 제외, 빈 결과도 센티널로 구성 여부 표시
+    private static final RedisScript<Long> GROWTH_SCRIPT = new DefaultRedisScript<>("""
+            local buckets = {}
+            for i = 3, #KEYS do buckets[#buckets + 1] = KEYS[i] end
+            redis.call('ZUNIONSTORE', KEYS[1], #buckets, unpack(buckets))
+            if redis.call('EXISTS', KEYS[2]) == 1 then
+              redis.call('ZINTERSTORE', KEYS[1], 2, KEYS[1], KEYS[2], 'WEIGHTS', 1, 0)
+            end
+            redis.call('ZADD', KEYS[1], '-inf', ARGV[1])
+            redis.call('EXPIRE', KEYS[1], ARGV[2])
+            return 1
+            """, Long.class);
+
+    private static final String LOAD_ALL_SQL = "SELECT id, view_count, like_count FROM themes WHERE is_public = true";
+
+    private static final String LOAD_ONE_SQL = "SELECT id, is_public, view_count, like_count FROM themes WHERE id = ?";
+
+    /**
+     * 순위 종류
+     */
+    public enum Board {
+        VIEWS, LIKES, GROWTH
+    }
+
+    /**
+     * 한 페이지 분량의 테마 id (순위순)와 전체 개수
+     */
+    public record RankedPage(List<Long> themeIds, long total) {
+    }
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final JdbcTemplate jdbcTemplate;
+    private final Duration ttl;
+    private final int growthDays;
+
+    public ThemeLeaderboardService(StringRedisTemplate stringRedisTemplate,
+                                   JdbcTemplate jdbcTemplate,
+                                   @Value("${theme-leaderboard.ttl-hours:24}") long ttlHours,
+                                   @Value("${theme-leaderboard.growth-days:7}") int growthDays) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.jdbcTemplate = jdbcTemplate;
+        this.ttl = Duration.ofHours(ttlHours);
+        this.growthDays = growthDays;
+    }
+
+    /**
+     * 순위 페이지 (offset부터 size개)
+     * @return Redis를 쓸 수 없으면 null (호출부에서 DB 정렬로 대체)
+     */
+    public RankedPage getPage(Board board, long offset, int size) {
+        try {
+            String key;
+            if (board == Board.GROWTH) {
+                key = GROWTH_KEY;
+                if (!Boolean.TRUE.equals(stringRedisTemplate.hasKey(key))) {
+                    refreshGrowth();
+                }
+            } else {
+                key = board == Board.LIKES ? LIKES_KEY : VIEWS_KEY;
+                if (!Boolean.TRUE.equals(stringRedisTemplate.hasKey(VIEWS_KEY))) {
+                    rebuild();
+                }
+            }
+            Long count = stringRedisTemplate.opsForZSet().zCard(key);
+            long total = count != null ? Math.max(count - 1, 0) : 0;
+            Set<String> members = stringRedisTemplate.opsForZSet().reverseRange(key, offset, offset + size - 1);
+            List<Long> ids = members == null ? List.of() : members.stream()
+                    .filter(member -> !SENTINEL.equals(member))
+                    .map(Long::valueOf)
+                    .toList();
+            return new RankedPage(ids, total);
+        } catch (Exception e) {
+            log.error("인기 테마 순위 조회 실패 (DB 정렬로 대체) - {}, {}", board, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 테마 조회수 일괄 반영 후 호출 (themeId → 증가분)
+     */
+    public void onViewsFlushed(Map<Long, Long> views) {
+        if (views.isEmpty()) {
+            return;
+        }
+        try {
+            // 순위가 없으면 먼저 구성 (방금 반영된 조회수까지 DB에서 읽으므로 순위 점수는 더하지 않음)
+            boolean rebuilt = false;
+            if (!Boolean.TRUE.equals(stringRedisTemplate.hasKey(VIEWS_KEY))) {
+                rebuild();
+                rebuilt = true;
+            }
+            List<String> args = new ArrayList<>(views.size() * 2 + 2);
+            args.add(String.valueOf(bucketTtlSeconds()));
+            args.add(rebuilt ? "0" : "1");
+            views.forEach((themeId, delta) -> {
+                args.add(themeId.toString());
+                args.add(String.valueOf(delta * VIEW_WEIGHT));
+            });
+            stringRedisTemplate.execute(VIEWS_SCRIPT, List.of(VIEWS_KEY, todayBucket()), args.toArray());
+        } catch (Exception e) {
+            log.error("인기 테마 조회수 반영 실패 - {}건, {}", views.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * 좋아요/취소 반영 직후 호출
+     * @param likeCount 반영 후 좋아요 수
+     * @param delta     +1 (좋아요) / -1 (취소)
+     */
+    public void onLikeCountChanged(Long themeId, long likeCount, int delta) {
+        try {
+            stringRedisTemplate.execute(LIKES_SCRIPT, List.of(LIKES_KEY, todayBucket()),
+                    String.valueOf(bucketTtlSeconds()), themeId.toString(),
+                    String.valueOf(likeCount), String.valueOf(delta * LIKE_WEIGHT));
+        } catch (Exception e) {
+            log.error("인기 테마 좋아요 반영 실패 - themeId: {}, {}", themeId, e.getMessage());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onThemeChanged(ThemeChangedEvent event) {
+        String themeId = event.themeId().toString();
+        try {
+            List<String[]> rows = jdbcTemplate.query(LOAD_ONE_SQL, (rs, rowNum) -> new String[]{
+                    rs.getBoolean("is_public") ? "1" : "0",
+                    String.valueOf(rs.getLong("view_count")),
+                    String.valueOf(rs.getLong("like_count"))}, event.themeId());
+            String[] row = rows.isEmpty() ? new String[]{"0", "0", "0"} : rows.get(0);
+            stringRedisTemplate.execute(UPSERT_SCRIPT, List.of(VIEWS_KEY, LIKES_KEY),
+                    themeId, row[0], row[1], row[2]);
+            if ("0".equals(row[0])) {
+                // 비공개 전환/삭제 → 최근 증가량 순위와 버킷에서도 제거
+                List<String> keys = new ArrayList<>(growthBuckets());
+                keys.add(GROWTH_KEY);
+                for (String key : keys) {
+                    stringRedisTemplate.opsForZSet().remove(key, themeId);
+                }
+            }
+        } catch (Exception e) {
+            log.error("인기 테마 순위 갱신 실패 - themeId: {}, {}", themeId, e.getMessage());
+        }
+    }
+
+    /**
+     * 최근 N일 버킷 합산 (여러 인스턴스가 실행해도 결과가 같음)
+     */
+    @Scheduled(fixedDelayString = "${theme-leaderboard.growth-refresh-interval-ms:600000}")
+    public void refreshGrowth() {
+        try {
+            List<String> keys = new ArrayList<>();
+            keys.add(GROWTH_KEY);
+            keys.add(VIEWS_KEY);
+            keys.addAll(growthBuckets());
+            stringRedisTemplate.execute(GROWTH_SCRIPT, keys, SENTINEL, String.valueOf(ttl.toSeconds()));
+        } catch (Exception e) {
+            log.error("인기 테마 최근 증가량 합산 실패: {}", e.getMessage());
+        }
+    }
+
+    private void rebuild() {
+        String suffix = ":build:" + UUID.randomUUID();
+        String viewsBuild = VIEWS_KEY + suffix;
+        String likesBuild = LIKES_KEY + suffix;
+        Set<TypedTuple<String>> views = new HashSet<>();
+        Set<TypedTuple<String>> likes = new HashSet<>();
+        views.add(new DefaultTypedTuple<>(SENTINEL, Double.NEGATIVE_INFINITY));
+        likes.add(new DefaultTypedTuple<>(SENTINEL, Double.NEGATIVE_INFINITY));
+        long[] count = {0};
+        try {
+            jdbcTemplate.query(LOAD_ALL_SQL, (RowCallbackHandler) rs -> {
+                String themeId = String.valueOf(rs.getLong("id"));
+                views.add(new DefaultTypedTuple<>(themeId, (double) rs.getLong("view_count")));
+                likes.add(new DefaultTypedTuple<>(themeId, (double) rs.getLong("like_count")));
+                if (views.size() >= BUILD_CHUNK) {
+                    addAndClear(viewsBuild, views);
+                    addAndClear(likesBuild, likes);
+                }
+                count[0]++;
+            });
+            addAndClear(viewsBuild, views);
+            addAndClear(likesBuild, likes);
+            stringRedisTemplate.execute(SWAP_SCRIPT, List.of(viewsBuild, likesBuild, VIEWS_KEY, LIKES_KEY),
+                    String.valueOf(ttl.toSeconds()));
+            log.debug("인기 테마 순위 구성 - {}건", count[0]);
+        } catch (Exception e) {
+            stringRedisTemplate.delete(List.of(viewsBuild, likesBuild));
+            throw e;
+        }
+    }
+
+    private void addAndClear(String key, Set<TypedTuple<String>> tuples) {
+        if (!tuples.isEmpty()) {
+            stringRedisTemplate.opsForZSet().add(key, tuples);
+            tuples.clear();
+        }
+    }
+
+    private List<String> growthBuckets() {
+        LocalDate today = LocalDate.now(ZONE);
+        List<String> buckets = new ArrayList<>(growthDays);
+        for (int i = 0; i < Math.max(growthDays, 1); i++) {
+            buckets.add(GROWTH_BUCKET_PREFIX + today.minusDays(i).format(BUCKET_FORMAT));
+        }
+        return buckets;
+    }
+
+    private String todayBucket() {
+        return GROWTH_BUCKET_PREFIX + LocalDate.now(ZONE).format(BUCKET_FORMAT);
+    }
+
+    private long bucketTtlSeconds() {
+        return Duration.ofDays(growthDays + 1L).toSeconds();
+    }
+}
@@ -0,0 +1,39 @@
+package com.ezroad.rating;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 식당 평점 집계 (JPQL 생성자 프로젝션)
+ * 집계 컬럼 추가 직후 복구 작업 전에는 null일 수 있으므로 0으로 취급
+ */
+public record RatingSummary(Integer reviewCount, Long ratingSum,
+                            Integer rating1Count, Integer rating2Count, Integer rating3Count,
+                            Integer rating4Count, Integer rating5Count) {
+
+    public long count() {
+        return reviewCount != null ? reviewCount : 0;
+    }
+
+    public double average() {
+        long count = count();
+        return count > 0 && ratingSum != null ? (double) ratingSum / count : 0.0;
+    }
+
+    /**
+     * @return 별점(5→1) → 리뷰 수
+     */
+    public Map<Integer, Integer> distribution() {
+        Map<Integer, Integer> distribution = new LinkedHashMap<>();
+        distribution.put(5, orZero(rating5Count));
+        distribution.put(4, orZero(rating4Count));
+        distribution.put(3, orZero(rating3Count));
+        distribution.put(2, orZero(rating2Count));
+        distribution.put(1, orZero(rating1Count));
+        return distribution;
+    }
+
+    private static int orZero(Integer value) {
+        return value != null ? value : 0;
+    }
+}
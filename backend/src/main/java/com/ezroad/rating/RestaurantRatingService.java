@@ -0,0 +1,85 @@
+package com.ezroad.rating;
+
+import com.ezroad.event.RatingChangedEvent;
+import com.ezroad.event.RatingsRecomputedEvent;
+import com.ezroad.event.RestaurantChangedEvent;
+import com.ezroad.exception.ResourceNotFoundException;
+import com.ezroad.repository.RestaurantRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
+
+import java.util.List;
+
+/**
+ * 식당 평점 집계 (restaurants.review_count / rating_sum / rating{1..5}_count / avg_rating)
+ *
+ * - 리뷰 작성/별점 수정/삭제 시 호출 측 트랜잭션 안에서 UPDATE 1회로 증감 (행 락으로 동시 갱신 직렬화)
+ * - 조회(평점 API, 목록 카드, 파트너 통계)는 AVG/COUNT 대신 집계 컬럼을 읽음
+ * - 기동 시 + 매일 한 번 reviews 전체를 식당별로 집계해 어긋난 식당만 바로잡음
+ *   (복구 중 반영된 리뷰가 덮일 수 있으나 다음 복구에서 다시 맞춰짐)
+ * - 집계가 바뀌면 RatingChangedEvent(리뷰 요약 캐시), RestaurantChangedEvent(상세 캐시/검색 색인) 발행
+ *   (복구로 바로잡힌 식당은 RatingsRecomputedEvent + 식당마다 RestaurantChangedEvent)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class RestaurantRatingService {
+
+    private final RestaurantRepository restaurantRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public RatingSummary getSummary(Long restaurantId) {
+        return restaurantRepository.findRatingSummaryById(restaurantId)
+                .orElseThrow(() -> new ResourceNotFoundException("존재하지 않는 식당입니다"));
+    }
+
+    @Transactional
+    public void reviewAdded(Long restaurantId, Long reviewId, int rating, boolean hasPhoto) {
+        apply(new RatingChangedEvent(restaurantId, reviewId, 1, rating, 0, hasPhoto));
+    }
+
+    @Transactional
+    public void reviewRemoved(Long restaurantId, Long reviewId, int rating, boolean hasPhoto) {
+        apply(new RatingChangedEvent(restaurantId, reviewId, -1, 0, rating, hasPhoto));
+    }
+
+    @Transactional
+    public void ratingChanged(Long restaurantId, Long reviewId, int from, int to) {
+        if (from != to) {
+            apply(new RatingChangedEvent(restaurantId, reviewId, 0, to, from, false));
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${rating.repair-cron:0 30 4 * * *}", zone = "Asia/Seoul")
+    @Transactional
+    public void repair() {
+        try {
+            List<Long> fixed = restaurantRepository.recomputeRatings();
+            if (!fixed.isEmpty()) {
+                log.info("식당 평점 집계 복구 - {}건", fixed.size());
+                eventPublisher.publishEvent(new RatingsRecomputedEvent(fixed));
+                fixed.forEach(id -> eventPublisher.publishEvent(new RestaurantChangedEvent(id)));
+            }
+        } catch (Exception e) {
+            // 직접 롤백 표시 → 커밋 시 UnexpectedRollbackException 없이 롤백 (기동 중 실패가 전파되지 않도록)
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+            log.error("식당 평점 집계 복구 실패: {}", e.getMessage());
+        }
+    }
+
+    private void apply(RatingChangedEvent change) {
+        restaurantRepository.applyRatingChange(change.restaurantId(), change.countDelta(),
+                change.addedRating(), change.removedRating());
+        eventPublisher.publishEvent(change);
+        eventPublisher.publishEvent(new RestaurantChangedEvent(change.restaurantId()));
+    }
+}
@@ -0,0 +1,57 @@
+package com.ezroad.rating;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 식당 리뷰 요약 (별점 분포, 평균, 사진 리뷰 수, 최신 리뷰 id)
+ * Redis 해시 review:summary:{restaurantId} 필드와 1:1 (count, sum, r1~r5, photo, latest)
+ */
+public record ReviewSummary(Long restaurantId,
+                            long reviewCount,
+                            long ratingSum,
+                            Map<Integer, Integer> distribution,
+                            long photoReviewCount,
+                            List<Long> latestReviewIds) {
+
+    public double getAverageRating() {
+        return reviewCount > 0 ? (double) ratingSum / reviewCount : 0.0;
+    }
+
+    static ReviewSummary fromHash(Long restaurantId, Map<String, String> hash) {
+        Map<Integer, Integer> distribution = new LinkedHashMap<>();
+        for (int star = 5; star >= 1; star--) {
+            distribution.put(star, (int) number(hash.get("r" + star)));
+        }
+        return new ReviewSummary(restaurantId, number(hash.get("count")), number(hash.get("sum")),
+                distribution, number(hash.get("photo")), parseIds(hash.get("latest")));
+    }
+
+    Map<String, String> toHash() {
+        Map<String, String> hash = new HashMap<>();
+        hash.put("count", String.valueOf(reviewCount));
+        hash.put("sum", String.valueOf(ratingSum));
+        distribution.forEach((star, count) -> hash.put("r" + star, String.valueOf(count)));
+        hash.put("photo", String.valueOf(photoReviewCount));
+        hash.put("latest", latestReviewIds.stream().map(String::valueOf).collect(Collectors.joining(",")));
+        return hash;
+    }
+
+    static List<Long> parseIds(String csv) {
+        List<Long> ids = new ArrayList<>();
+        if (csv != null && !csv.isEmpty()) {
+            for (String id : csv.split(",")) {
+                ids.add(Long.valueOf(id));
+            }
+        }
+        return ids;
+    }
+
+    private static long number(String value) {
+        return value != null ? Long.parseLong(value) : 0;
+    }
+}
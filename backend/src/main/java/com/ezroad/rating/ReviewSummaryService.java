@@ -0,0 +1,239 @@
+package com.ezroad.rating;
+
+import com.ezroad.event.RatingChangedEvent;
+import com.ezroad.event.RatingsRecomputedEvent;
+import com.ezroad.exception.ResourceNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 식당 리뷰 요약 캐시 (별점 분포, 평균, 사진 리뷰 수, 최신 리뷰 id N개)
+ *
+ * - 식당별 Redis 해시 review:summary:{restaurantId} 한 번 조회로 응답, 목록용 일괄 조회는 파이프라인 HGETALL
+ * - 없는 식당만 모아 DB에서 한 번에 적재 (평점 집계 컬럼 + 사진 리뷰 부분 인덱스 COUNT + 최신 리뷰 id)
+ * - 리뷰 작성/별점 수정은 커밋 후 RatingChangedEvent로 해시에 바로 증감 (Lua, 해시가 있을 때만)
+ * - 리뷰 삭제는 최신 목록을 다시 채워야 하므로 해시 삭제 → 다음 조회에서 재적재
+ * - 적재와 반영이 겹쳐 이전 값이 저장될 수 있으므로 TTL(review.summary-ttl-minutes)로 상한을 둠
+ */
+@Slf4j
+@Service
+public class ReviewSummaryService {
+
+    private static final String KEY_PREFIX = "review:summary:";
+    private static final int MAX_BULK = 100;
+
+    // ARGV: 리뷰 수 증감, 더해진 별점, 빠진 별점, 사진 리뷰 증감, 리뷰 id, 최신 목록 크기
+    private static final RedisScript<Long> APPLY_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then return 0 end
+            local added = tonumber(ARGV[2])
+            local removed = tonumber(ARGV[3])
+            redis.call('HINCRBY', KEYS[1], 'count', ARGV[1])
+            redis.call('HINCRBY', KEYS[1], 'sum', added - removed)
+            if added > 0 then redis.call('HINCRBY', KEYS[1], 'r' .. added, 1) end
+            if removed > 0 then redis.call('HINCRBY', KEYS[1], 'r' .. removed, -1) end
+            redis.call('HINCRBY', KEYS[1], 'photo', ARGV[4])
+            if tonumber(ARGV[1]) > 0 then
+              local ids = {ARGV[5]}
+              local latest = redis.call('HGET', KEYS[1], 'latest') or ''
+              for id in string.gmatch(latest, '[^,]+') do
+                if #ids >= tonumber(ARGV[6]) then break end
+                if id ~= ARGV[5] then table.insert(ids, id) end
+              end
+              redis.call('HSET', KEYS[1], 'latest', table.concat(ids, ','))
+            end
+            return 1
+            """, Long.class);
+
+    private static final String LOAD_SQL = "SELECT r.id, r.review_count, r.rating_sum, " +
+            "r.rating1_count, r.rating2_count, r.rating3_count, r.rating4_count, r.rating5_count, " +
+            "(SELECT COUNT(*) FROM reviews v WHERE v.restaurant_id = r.id " +
+            "AND v.deleted_at IS NULL AND v.has_photo = true) AS photo_count, " +
+            "(SELECT string_agg(CAST(l.id AS VARCHAR), ',' ORDER BY l.created_at DESC, l.id DESC) " +
+            "FROM (SELECT v.id, v.created_at FROM reviews v WHERE v.restaurant_id = r.id AND v.deleted_at IS NULL " +
+            "ORDER BY v.created_at DESC, v.id DESC LIMIT :latest) l) AS latest_ids " +
+            "FROM restaurants r WHERE r.id IN (:ids)";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final int latestSize;
+    private final Duration ttl;
+
+    public ReviewSummaryService(StringRedisTemplate stringRedisTemplate,
+                                NamedParameterJdbcTemplate jdbcTemplate,
+                                @Value("${review.summary-latest-size:5}") int latestSize,
+                                @Value("${review.summary-ttl-minutes:30}") long ttlMinutes) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.jdbcTemplate = jdbcTemplate;
+        this.latestSize = latestSize;
+        this.ttl = Duration.ofMinutes(ttlMinutes);
+    }
+
+    public ReviewSummary getSummary(Long restaurantId) {
+        ReviewSummary summary = getSummaries(List.of(restaurantId)).get(restaurantId);
+        if (summary == null) {
+            throw new ResourceNotFoundException("존재하지 않는 식당입니다");
+        }
+        return summary;
+    }
+
+    /**
+     * 여러 식당 요약 일괄 조회 (최대 100개, 요청 순서 유지, 존재하지 않는 식당은 제외)
+     */
+    public Map<Long, ReviewSummary> getSummaries(Collection<Long> restaurantIds) {
+        List<Long> ids = restaurantIds.stream().filter(Objects::nonNull).distinct().limit(MAX_BULK).toList();
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Long, ReviewSummary> found = new HashMap<>();
+        List<Long> misses = new ArrayList<>();
+        try {
+            List<Object> hashes = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (Long id : ids) {
+                    connection.hashCommands().hGetAll(keyBytes(id));
+                }
+                return null;
+            });
+            for (int i = 0; i < ids.size(); i++) {
+                @SuppressWarnings("unchecked")
+                Map<String, String> hash = (Map<String, String>) hashes.get(i);
+                if (hash == null || hash.isEmpty()) {
+                    misses.add(ids.get(i));
+                } else {
+                    found.put(ids.get(i), ReviewSummary.fromHash(ids.get(i), hash));
+                }
+            }
+        } catch (Exception e) {
+            log.error("리뷰 요약 캐시 조회 실패 (DB 조회로 대체): {}", e.getMessage());
+            found.clear();
+            misses = ids;
+        }
+
+        if (!misses.isEmpty()) {
+            Map<Long, ReviewSummary> loaded = load(misses);
+            found.putAll(loaded);
+            cache(loaded.values());
+        }
+
+        Map<Long, ReviewSummary> result = new LinkedHashMap<>();
+        for (Long id : ids) {
+            ReviewSummary summary = found.get(id);
+            if (summary != null) {
+                result.put(id, summary);
+            }
+        }
+        return result;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onRatingChanged(RatingChangedEvent event) {
+        String key = key(event.restaurantId());
+        try {
+            if (event.countDelta() < 0) {
+                stringRedisTemplate.delete(key);
+                return;
+            }
+            stringRedisTemplate.execute(APPLY_SCRIPT, List.of(key),
+                    String.valueOf(event.countDelta()),
+                    String.valueOf(event.addedRating()),
+                    String.valueOf(event.removedRating()),
+                    event.hasPhoto() && event.countDelta() > 0 ? "1" : "0",
+                    String.valueOf(event.reviewId()),
+                    String.valueOf(latestSize));
+        } catch (Exception e) {
+            log.error("리뷰 요약 반영 실패 - restaurantId: {}, {}", event.restaurantId(), e.getMessage());
+            evictQuietly(key);
+        }
+    }
+
+    /**
+     * 평점 집계 복구 후 해당 식당 요약 삭제 (다음 조회 때 DB에서 다시 적재)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onRatingsRecomputed(RatingsRecomputedEvent event) {
+        try {
+            stringRedisTemplate.delete(event.restaurantIds().stream().map(ReviewSummaryService::key).toList());
+        } catch (Exception e) {
+            log.error("리뷰 요약 일괄 삭제 실패 - {}건, {}", event.restaurantIds().size(), e.getMessage());
+        }
+    }
+
+    private Map<Long, ReviewSummary> load(List<Long> ids) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("ids", ids)
+                .addValue("latest", latestSize);
+        Map<Long, ReviewSummary> loaded = new HashMap<>();
+        jdbcTemplate.query(LOAD_SQL, params, (RowCallbackHandler) rs -> {
+            Map<Integer, Integer> distribution = new LinkedHashMap<>();
+            for (int star = 5; star >= 1; star--) {
+                distribution.put(star, rs.getInt("rating" + star + "_count"));
+            }
+            long id = rs.getLong("id");
+            loaded.put(id, new ReviewSummary(id, rs.getLong("review_count"), rs.getLong("rating_sum"),
+                    distribution, rs.getLong("photo_count"), ReviewSummary.parseIds(rs.getString("latest_ids"))));
+        });
+        return loaded;
+    }
+
+    private void cache(Collection<ReviewSummary> summaries) {
+        if (summaries.isEmpty()) {
+            return;
+        }
+        try {
+            stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (ReviewSummary summary : summaries) {
+                    write(connection, summary);
+                }
+                return null;
+            });
+        } catch (Exception e) {
+            log.error("리뷰 요약 캐시 저장 실패 - {}건, {}", summaries.size(), e.getMessage());
+        }
+    }
+
+    private void write(RedisConnection connection, ReviewSummary summary) {
+        byte[] key = keyBytes(summary.restaurantId());
+        Map<byte[], byte[]> hash = new HashMap<>();
+        summary.toHash().forEach((field, value) ->
+                hash.put(field.getBytes(StandardCharsets.UTF_8), value.getBytes(StandardCharsets.UTF_8)));
+        connection.hashCommands().hMSet(key, hash);
+        connection.keyCommands().expire(key, ttl.toSeconds());
+    }
+
+    private void evictQuietly(String key) {
+        try {
+            stringRedisTemplate.delete(key);
+        } catch (Exception ignored) {
+            // TTL로 정리됨
+        }
+    }
+
+    private static String key(Long restaurantId) {
+        return KEY_PREFIX + restaurantId;
+    }
+
+    private static byte[] keyBytes(Long restaurantId) {
+        return key(restaurantId).getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -54,6 +54,20 @@ public interface FollowRepository extends JpaRepository<Follow, Long> {
     @Query("SELECT f FROM Follow f JOIN FETCH f.following WHERE f.follower.id = :memberId AND f.following IS NOT NULL")
     Page<Follow> findFollowingsByMemberId(@Param("memberId") Long memberId, Pageable pageable);
     
+    // ==================== 피드 fan-out ====================
+    
+    // 회원을 팔로우하는 회원 id
+    @Query("SELECT f.follower.id FROM Follow f WHERE f.following.id = :memberId")
+    List<Long> findFollowerIdsByMemberId(@Param("memberId") Long memberId);
+    
+    // 식당을 팔로우하는 회원 id
+    @Query("SELECT f.follower.id FROM Follow f WHERE f.restaurant.id = :restaurantId")
+    List<Long> findFollowerIdsByRestaurantId(@Param("restaurantId") Long restaurantId);
+    
+    // 내가 팔로우하는 회원 id
+    @Query("SELECT f.following.id FROM Follow f WHERE f.follower.id = :memberId AND f.following IS NOT NULL")
+    List<Long> findFollowingIdsByMemberId(@Param("memberId") Long memberId);
+    
     // ==================== 통계 관련 ====================
     
     // 내가 팔로우하는 회원 수
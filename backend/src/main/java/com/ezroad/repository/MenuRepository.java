@@ -1,7 +1,13 @@
 package com.ezroad.repository;
 
 import com.ezroad.entity.Menu;
+import com.ezroad.entity.RestaurantStatus;
+import com.ezroad.search.AutocompleteSource;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -14,4 +20,24 @@ public interface MenuRepository extends JpaRepository<Menu, Long> {
     List<Menu> findByRestaurantIdOrderBySortOrderAsc(Long restaurantId);
     
     List<Menu> findByRestaurantId(Long restaurantId);
+
+    // ==================== 검색 색인용 ====================
+
+    // 변경된 메뉴 일괄 조회 (식당 함께 로딩)
+    @Query("SELECT m FROM Menu m JOIN FETCH m.restaurant WHERE m.id IN :ids")
+    List<Menu> findWithRestaurantByIdIn(@Param("ids") List<Long> ids);
+
+    // 식당 변경 시 소속 메뉴 재색인용 id 조회
+    @Query("SELECT m.id FROM Menu m WHERE m.restaurant.id IN :restaurantIds")
+    List<Long> findIdsByRestaurantIdIn(@Param("restaurantIds") List<Long> restaurantIds);
+
+    // 전체 재색인 (id 순 청크)
+    @Query("SELECT m FROM Menu m JOIN FETCH m.restaurant WHERE m.id > :lastId ORDER BY m.id ASC")
+    Slice<Menu> findChunkForIndexing(@Param("lastId") Long lastId, Pageable pageable);
+
+    // 자동완성 색인용 (메뉴명별 대표 식당 id, 해당 메뉴를 가진 식당 수)
+    @Query("SELECT new com.ezroad.search.AutocompleteSource(m.name, MIN(r.id), COUNT(m)) " +
+           "FROM Menu m JOIN m.restaurant r " +
+           "WHERE m.isVisible = true AND r.status = :status GROUP BY m.name")
+    List<AutocompleteSource> findAutocompleteSources(@Param("status") RestaurantStatus status);
 }
@@ -3,6 +3,7 @@ package com.ezroad.repository;
 import com.ezroad.entity.Notification;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -13,6 +14,15 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
     // 사용자의 알림 목록 (최신순)
     Page<Notification> findByReceiverIdOrderByCreatedAtDesc(Long receiverId, Pageable pageable);
 
+    // 사용자의 알림 목록 (커서 페이지네이션)
+    @Query("SELECT n FROM Notification n LEFT JOIN FETCH n.sender WHERE n.receiver.id = :receiverId " +
+           "AND n.createdAt <= :createdAt AND (n.createdAt < :createdAt OR n.id < :id) " +
+           "ORDER BY n.createdAt DESC, n.id DESC")
+    Slice<Notification> findSliceByReceiverId(@Param("receiverId") Long receiverId,
+                                              @Param("createdAt") java.time.LocalDateTime createdAt,
+                                              @Param("id") Long id,
+                                              Pageable pageable);
+
     // 읽지 않은 알림 수
     long countByReceiverIdAndIsReadFalse(Long receiverId);
 
@@ -2,14 +2,23 @@ package com.ezroad.repository;
 
 import com.ezroad.entity.Restaurant;
 import com.ezroad.entity.RestaurantStatus;
+import com.ezroad.rating.RatingSummary;
+import com.ezroad.search.AutocompleteSource;
+import com.ezroad.trending.TrendingTarget;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -29,24 +38,97 @@ public interface RestaurantRepository extends JpaRepository<Restaurant, Long> {
     @EntityGraph(attributePaths = {"owner"})
     Page<Restaurant> findByStatusAndCategory(RestaurantStatus status, String category, Pageable pageable);
     
-    @EntityGraph(attributePaths = {"owner"})
-    Page<Restaurant> findByStatusAndNameContaining(RestaurantStatus status, String name, Pageable pageable);
-    
-    @EntityGraph(attributePaths = {"owner"})
-    Page<Restaurant> findByStatusAndNameContainingAndCategory(RestaurantStatus status, String name, String category, Pageable pageable);
-    
     // 내 식당 목록 (owner 불필요 - 본인 것)
     List<Restaurant> findByOwnerId(Long ownerId);
     
     // 검색 쿼리 (owner 함께 로딩)
+    // - openSlot: 영업 중 필터 (영업시간 비트셋의 해당 슬롯 비트, null이면 미적용)
     @Query("SELECT r FROM Restaurant r JOIN FETCH r.owner WHERE r.status = :status " +
            "AND (:category IS NULL OR r.category = :category) " +
-           "AND (:keyword IS NULL OR r.name LIKE %:keyword% OR r.address LIKE %:keyword% OR r.description LIKE %:keyword%)")
+           "AND (:keyword IS NULL OR r.name LIKE %:keyword% OR r.address LIKE %:keyword% OR r.description LIKE %:keyword%) " +
+           "AND (:openSlot IS NULL OR function('get_bit', r.businessHoursSchedule, :openSlot) = 1)")
     Page<Restaurant> searchRestaurants(@Param("status") RestaurantStatus status,
                                        @Param("category") String category,
                                        @Param("keyword") String keyword,
+                                       @Param("openSlot") Integer openSlot,
+                                       Pageable pageable);
+
+    // 키워드 검색 (pg_trgm GIN 인덱스 사용, 관련도순 정렬) - 3글자 이상 키워드
+    // - pattern/prefix는 서비스에서 LIKE 특수문자를 이스케이프한 값 ('%키워드%', '키워드%')
+    // - 이름 일치에 가중치를 두고, 이름이 키워드로 시작하면 추가 점수
+    // - id만 조회 (owner는 서비스에서 findWithOwnerByIdIn으로 한 번에 로딩)
+    // - native 쿼리이므로 pageable은 정렬 없이 전달해야 함
+    @Query(value = "SELECT r.id FROM restaurants r " +
+                   "WHERE r.status = :status " +
+                   "AND (CAST(:category AS VARCHAR) IS NULL OR r.category = :category) " +
+                   "AND (CAST(:openSlot AS INTEGER) IS NULL OR get_bit(r.business_hours_schedule, CAST(:openSlot AS INTEGER)) = 1) " +
+                   "AND (r.name ILIKE :pattern OR r.address ILIKE :pattern OR r.description ILIKE :pattern) " +
+                   "ORDER BY (word_similarity(:keyword, r.name) * 3 " +
+                   "+ word_similarity(:keyword, COALESCE(r.address, '')) " +
+                   "+ word_similarity(:keyword, COALESCE(r.description, '')) * 0.5 " +
+                   "+ CASE WHEN r.name ILIKE :prefix THEN 1 ELSE 0 END) DESC, r.id DESC",
+           countQuery = "SELECT COUNT(*) FROM restaurants r " +
+                        "WHERE r.status = :status " +
+                        "AND (CAST(:category AS VARCHAR) IS NULL OR r.category = :category) " +
+                        "AND (CAST(:openSlot AS INTEGER) IS NULL OR get_bit(r.business_hours_schedule, CAST(:openSlot AS INTEGER)) = 1) " +
+                        "AND (r.name ILIKE :pattern OR r.address ILIKE :pattern OR r.description ILIKE :pattern)",
+           nativeQuery = true)
+    Page<Long> searchIdsByRelevance(@Param("status") String status,
+                                    @Param("category") String category,
+                                    @Param("openSlot") Integer openSlot,
+                                    @Param("keyword") String keyword,
+                                    @Param("pattern") String pattern,
+                                    @Param("prefix") String prefix,
+                                    Pageable pageable);
+
+    // 1~2글자 키워드 검색 (trigram 인덱스를 쓸 수 없으므로 short_grams GIN 인덱스 사용, V10)
+    // - 이름/주소의 부분 문자열만 대상 (설명은 제외), 이름 시작 일치 → 이름 포함 → 주소 포함 순
+    @Query(value = "SELECT r.id FROM restaurants r " +
+                   "WHERE r.status = :status " +
+                   "AND (CAST(:category AS VARCHAR) IS NULL OR r.category = :category) " +
+                   "AND (CAST(:openSlot AS INTEGER) IS NULL OR get_bit(r.business_hours_schedule, CAST(:openSlot AS INTEGER)) = 1) " +
+                   "AND (short_grams(r.name) @> ARRAY[lower(CAST(:keyword AS TEXT))] " +
+                   "OR short_grams(r.address) @> ARRAY[lower(CAST(:keyword AS TEXT))]) " +
+                   "ORDER BY CASE WHEN r.name ILIKE :prefix THEN 2 " +
+                   "WHEN short_grams(r.name) @> ARRAY[lower(CAST(:keyword AS TEXT))] THEN 1 ELSE 0 END DESC, r.id DESC",
+           countQuery = "SELECT COUNT(*) FROM restaurants r " +
+                        "WHERE r.status = :status " +
+                        "AND (CAST(:category AS VARCHAR) IS NULL OR r.category = :category) " +
+                        "AND (CAST(:openSlot AS INTEGER) IS NULL OR get_bit(r.business_hours_schedule, CAST(:openSlot AS INTEGER)) = 1) " +
+                        "AND (short_grams(r.name) @> ARRAY[lower(CAST(:keyword AS TEXT))] " +
+                        "OR short_grams(r.address) @> ARRAY[lower(CAST(:keyword AS TEXT))])",
+           nativeQuery = true)
+    Page<Long> searchIdsByShortKeyword(@Param("status") String status,
+                                       @Param("category") String category,
+                                       @Param("openSlot") Integer openSlot,
+                                       @Param("keyword") String keyword,
+                                       @Param("prefix") String prefix,
                                        Pageable pageable);
     
+    // ==================== 커서 페이지네이션 ====================
+    // (정렬키 <= :key AND (정렬키 < :key OR id < :id)) 형태로 써야 정렬키 조건이 인덱스 범위 조건으로 쓰임
+    // owner 함께 로딩 (목록 응답에 사장님 닉네임 포함)
+    
+    @Query("SELECT r FROM Restaurant r JOIN FETCH r.owner WHERE r.status = :status " +
+           "AND (:category IS NULL OR r.category = :category) " +
+           "AND r.createdAt <= :createdAt AND (r.createdAt < :createdAt OR r.id < :id) " +
+           "ORDER BY r.createdAt DESC, r.id DESC")
+    Slice<Restaurant> findSliceByCreatedAt(@Param("status") RestaurantStatus status,
+                                           @Param("category") String category,
+                                           @Param("createdAt") LocalDateTime createdAt,
+                                           @Param("id") Long id,
+                                           Pageable pageable);
+    
+    @Query("SELECT r FROM Restaurant r JOIN FETCH r.owner WHERE r.status = :status " +
+           "AND (:category IS NULL OR r.category = :category) " +
+           "AND r.avgRating <= :avgRating AND (r.avgRating < :avgRating OR r.id < :id) " +
+           "ORDER BY r.avgRating DESC, r.id DESC")
+    Slice<Restaurant> findSliceByAvgRating(@Param("status") RestaurantStatus status,
+                                           @Param("category") String category,
+                                           @Param("avgRating") BigDecimal avgRating,
+                                           @Param("id") Long id,
+                                           Pageable pageable);
+    
     // ==================== 관리자용 ====================
     
     @EntityGraph(attributePaths = {"owner"})
@@ -56,4 +138,66 @@ public interface RestaurantRepository extends JpaRepository<Restaurant, Long> {
     Page<Restaurant> findByNameContainingAndStatus(String name, RestaurantStatus status, Pageable pageable);
     
     Long countByStatus(RestaurantStatus status);
+    
+    // ==================== 검색 색인용 ====================
+    
+    // 전체 재색인 (id 순 청크)
+    Slice<Restaurant> findByIdGreaterThanOrderByIdAsc(Long lastId, Pageable pageable);
+    
+    // 자동완성 색인용 (식당명, id, 리뷰 수)
+    @Query("SELECT new com.ezroad.search.AutocompleteSource(r.name, r.id, r.reviewCount) " +
+           "FROM Restaurant r WHERE r.status = :status")
+    List<AutocompleteSource> findAutocompleteSources(@Param("status") RestaurantStatus status);
+
+    // ==================== 트렌딩 ====================
+
+    @Query("SELECT new com.ezroad.trending.TrendingTarget(r.id, r.category, r.address) " +
+           "FROM Restaurant r WHERE r.id IN :ids")
+    List<TrendingTarget> findTrendingTargetsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @EntityGraph(attributePaths = {"owner"})
+    List<Restaurant> findWithOwnerByIdIn(Collection<Long> ids);
+
+    // ==================== 평점 집계 ====================
+
+    @Query("SELECT new com.ezroad.rating.RatingSummary(r.reviewCount, r.ratingSum, " +
+           "r.rating1Count, r.rating2Count, r.rating3Count, r.rating4Count, r.rating5Count) " +
+           "FROM Restaurant r WHERE r.id = :id")
+    Optional<RatingSummary> findRatingSummaryById(@Param("id") Long id);
+
+    // 리뷰 1건 반영 (added: 추가된 별점, removed: 빠진 별점, 없으면 0). SET 우변은 모두 갱신 전 값 기준
+    @Modifying
+    @Query(value = "UPDATE restaurants SET " +
+           "review_count = COALESCE(review_count, 0) + :countDelta, " +
+           "rating_sum = COALESCE(rating_sum, 0) + :added - :removed, " +
+           "rating1_count = COALESCE(rating1_count, 0) + CAST(:added = 1 AS INTEGER) - CAST(:removed = 1 AS INTEGER), " +
+           "rating2_count = COALESCE(rating2_count, 0) + CAST(:added = 2 AS INTEGER) - CAST(:removed = 2 AS INTEGER), " +
+           "rating3_count = COALESCE(rating3_count, 0) + CAST(:added = 3 AS INTEGER) - CAST(:removed = 3 AS INTEGER), " +
+           "rating4_count = COALESCE(rating4_count, 0) + CAST(:added = 4 AS INTEGER) - CAST(:removed = 4 AS INTEGER), " +
+           "rating5_count = COALESCE(rating5_count, 0) + CAST(:added = 5 AS INTEGER) - CAST(:removed = 5 AS INTEGER), " +
+           "avg_rating = CASE WHEN COALESCE(review_count, 0) + :countDelta > 0 " +
+           "THEN ROUND(CAST(COALESCE(rating_sum, 0) + :added - :removed AS NUMERIC) " +
+           "/ (COALESCE(review_count, 0) + :countDelta), 2) ELSE 0 END " +
+           "WHERE id = :id", nativeQuery = true)
+    int applyRatingChange(@Param("id") Long id, @Param("countDelta") int countDelta,
+                          @Param("added") int added, @Param("removed") int removed);
+
+    // reviews 전체를 식당별로 한 번 집계해 값이 다른 식당만 갱신, 갱신한 식당 id 반환 (RETURNING → 조회 쿼리로 실행)
+    @Transactional
+    @Query(value = "UPDATE restaurants r SET review_count = a.cnt, rating_sum = a.total, " +
+           "rating1_count = a.c1, rating2_count = a.c2, rating3_count = a.c3, " +
+           "rating4_count = a.c4, rating5_count = a.c5, " +
+           "avg_rating = CASE WHEN a.cnt > 0 THEN ROUND(CAST(a.total AS NUMERIC) / a.cnt, 2) ELSE 0 END " +
+           "FROM (SELECT res.id, COUNT(rv.id) AS cnt, COALESCE(SUM(rv.rating), 0) AS total, " +
+           "COUNT(rv.id) FILTER (WHERE rv.rating = 1) AS c1, COUNT(rv.id) FILTER (WHERE rv.rating = 2) AS c2, " +
+           "COUNT(rv.id) FILTER (WHERE rv.rating = 3) AS c3, COUNT(rv.id) FILTER (WHERE rv.rating = 4) AS c4, " +
+           "COUNT(rv.id) FILTER (WHERE rv.rating = 5) AS c5 " +
+           "FROM restaurants res LEFT JOIN reviews rv ON rv.restaurant_id = res.id AND rv.deleted_at IS NULL " +
+           "GROUP BY res.id) a " +
+           "WHERE r.id = a.id AND (r.review_count IS DISTINCT FROM a.cnt OR r.rating_sum IS DISTINCT FROM a.total " +
+           "OR r.rating1_count IS DISTINCT FROM a.c1 OR r.rating2_count IS DISTINCT FROM a.c2 " +
+           "OR r.rating3_count IS DISTINCT FROM a.c3 OR r.rating4_count IS DISTINCT FROM a.c4 " +
+           "OR r.rating5_count IS DISTINCT FROM a.c5 OR r.avg_rating IS NULL) " +
+           "RETURNING r.id", nativeQuery = true)
+    List<Long> recomputeRatings();
 }
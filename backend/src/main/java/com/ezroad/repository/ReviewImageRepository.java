@@ -1,9 +1,13 @@
 package com.ezroad.repository;
 
+import com.ezroad.dto.ReviewImageRow;
 import com.ezroad.entity.ReviewImage;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -12,4 +16,9 @@ public interface ReviewImageRepository extends JpaRepository<ReviewImage, Long>
     List<ReviewImage> findByReviewIdOrderBySortOrderAsc(Long reviewId);
     
     void deleteByReviewId(Long reviewId);
+
+    // 리뷰 목록 한 페이지의 이미지 일괄 조회 (리뷰 id, 정렬 순)
+    @Query("SELECT new com.ezroad.dto.ReviewImageRow(ri.review.id, ri.imageUrl) FROM ReviewImage ri " +
+           "WHERE ri.review.id IN :reviewIds ORDER BY ri.review.id, ri.sortOrder")
+    List<ReviewImageRow> findUrlsByReviewIdIn(@Param("reviewIds") Collection<Long> reviewIds);
 }
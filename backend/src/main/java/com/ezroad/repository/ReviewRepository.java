@@ -1,64 +1,134 @@
 package com.ezroad.repository;
 
+import com.ezroad.dto.ReviewRow;
 import com.ezroad.entity.Review;
+import com.ezroad.ranking.BestReviewTarget;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface ReviewRepository extends JpaRepository<Review, Long> {
 
-       // ==================== N+1 최적화 쿼리 ====================
+       // ==================== 목록 (프로젝션) ====================
+       // 목록은 ReviewRow로 필요한 컬럼만 조회하고 이미지는 ReviewImageRepository.findUrlsByReviewIdIn으로 따로 조회
+       // → 페이지당 목록 1회 + (Page면 count 1회) + 이미지 1회
 
-       // 리뷰 전체 조회 (member, restaurant 함께 로딩)
-       @EntityGraph(attributePaths = { "member", "restaurant" })
-       Page<Review> findAllByDeletedAtIsNull(Pageable pageable);
+       String ROW_SELECT = "SELECT new com.ezroad.dto.ReviewRow(r.id, " +
+                     "res.id, res.name, res.category, res.thumbnail, res.address, " +
+                     "m.id, m.nickname, m.profileImage, " +
+                     "r.reservation.id, r.title, r.content, r.rating, r.hit, r.hasPhoto, r.createdAt, r.updatedAt) " +
+                     "FROM Review r JOIN r.restaurant res JOIN r.member m ";
 
-       // 사진이 있는 리뷰만 조회
-       @Query("SELECT DISTINCT r FROM Review r LEFT JOIN FETCH r.member LEFT JOIN FETCH r.restaurant " +
-                     "WHERE r.deletedAt IS NULL AND EXISTS (SELECT 1 FROM ReviewImage ri WHERE ri.review = r)")
-       Page<Review> findAllWithImagesByDeletedAtIsNull(Pageable pageable);
+       @Query(value = ROW_SELECT + "WHERE r.deletedAt IS NULL",
+                     countQuery = "SELECT COUNT(r) FROM Review r WHERE r.deletedAt IS NULL")
+       Page<ReviewRow> findRows(Pageable pageable);
 
-       // 사진이 있는 리뷰 개수
-       @Query("SELECT COUNT(DISTINCT r) FROM Review r " +
-                     "WHERE r.deletedAt IS NULL AND EXISTS (SELECT 1 FROM ReviewImage ri WHERE ri.review = r)")
-       Long countWithImages();
+       // 사진이 있는 리뷰만 (has_photo 부분 인덱스)
+       @Query(value = ROW_SELECT + "WHERE r.deletedAt IS NULL AND r.hasPhoto = true",
+                     countQuery = "SELECT COUNT(r) FROM Review r WHERE r.deletedAt IS NULL AND r.hasPhoto = true")
+       Page<ReviewRow> findPhotoRows(Pageable pageable);
 
-       // 식당별 리뷰 조회 (member 함께 로딩)
-       @EntityGraph(attributePaths = { "member" })
-       Page<Review> findByRestaurantIdAndDeletedAtIsNull(Long restaurantId, Pageable pageable);
+       @Query(value = ROW_SELECT + "WHERE r.restaurant.id = :restaurantId AND r.deletedAt IS NULL",
+                     countQuery = "SELECT COUNT(r) FROM Review r " +
+                                   "WHERE r.restaurant.id = :restaurantId AND r.deletedAt IS NULL")
+       Page<ReviewRow> findRowsByRestaurantId(@Param("restaurantId") Long restaurantId, Pageable pageable);
 
-       // 식당별 사진리뷰 조회
-       @Query("SELECT DISTINCT r FROM Review r LEFT JOIN FETCH r.member " +
-                     "WHERE r.restaurant.id = :restaurantId AND r.deletedAt IS NULL " +
-                     "AND EXISTS (SELECT 1 FROM ReviewImage ri WHERE ri.review = r)")
-       Page<Review> findByRestaurantIdWithImagesByDeletedAtIsNull(@Param("restaurantId") Long restaurantId,
-                     Pageable pageable);
+       @Query(value = ROW_SELECT + "WHERE r.restaurant.id = :restaurantId AND r.deletedAt IS NULL AND r.hasPhoto = true",
+                     countQuery = "SELECT COUNT(r) FROM Review r " +
+                                   "WHERE r.restaurant.id = :restaurantId AND r.deletedAt IS NULL AND r.hasPhoto = true")
+       Page<ReviewRow> findPhotoRowsByRestaurantId(@Param("restaurantId") Long restaurantId, Pageable pageable);
 
-       // 회원별 리뷰 조회 (restaurant 함께 로딩)
-       @EntityGraph(attributePaths = { "restaurant" })
-       Page<Review> findByMemberIdAndDeletedAtIsNull(Long memberId, Pageable pageable);
+       @Query(value = ROW_SELECT + "WHERE r.member.id = :memberId AND r.deletedAt IS NULL",
+                     countQuery = "SELECT COUNT(r) FROM Review r WHERE r.member.id = :memberId AND r.deletedAt IS NULL")
+       Page<ReviewRow> findRowsByMemberId(@Param("memberId") Long memberId, Pageable pageable);
+
+       // 사진이 있는 리뷰 개수
+       Long countByHasPhotoTrueAndDeletedAtIsNull();
 
        // 리뷰 상세 조회 (모든 관계 로딩)
        @EntityGraph(attributePaths = { "member", "restaurant", "images" })
        Optional<Review> findWithDetailsById(Long id);
 
-       // ==================== 통계 쿼리 ====================
+       // ==================== 커서 페이지네이션 ====================
+       // (createdAt <= :createdAt AND (createdAt < :createdAt OR id < :id)) 형태로 써야 인덱스 범위 조건으로 쓰임
+
+       @Query(ROW_SELECT + "WHERE r.deletedAt IS NULL " +
+                     "AND r.createdAt <= :createdAt AND (r.createdAt < :createdAt OR r.id < :id) " +
+                     "ORDER BY r.createdAt DESC, r.id DESC")
+       Slice<ReviewRow> findRowSliceByCreatedAt(@Param("createdAt") LocalDateTime createdAt,
+                     @Param("id") Long id, Pageable pageable);
+
+       @Query(ROW_SELECT + "WHERE r.deletedAt IS NULL " +
+                     "AND r.hasPhoto = true " +
+                     "AND r.createdAt <= :createdAt AND (r.createdAt < :createdAt OR r.id < :id) " +
+                     "ORDER BY r.createdAt DESC, r.id DESC")
+       Slice<ReviewRow> findPhotoRowSliceByCreatedAt(@Param("createdAt") LocalDateTime createdAt,
+                     @Param("id") Long id, Pageable pageable);
+
+       @Query(ROW_SELECT + "WHERE r.restaurant.id = :restaurantId AND r.deletedAt IS NULL " +
+                     "AND r.createdAt <= :createdAt AND (r.createdAt < :createdAt OR r.id < :id) " +
+                     "ORDER BY r.createdAt DESC, r.id DESC")
+       Slice<ReviewRow> findRowSliceByRestaurantIdAndCreatedAt(@Param("restaurantId") Long restaurantId,
+                     @Param("createdAt") LocalDateTime createdAt,
+                     @Param("id") Long id, Pageable pageable);
+
+       @Query(ROW_SELECT + "WHERE r.restaurant.id = :restaurantId AND r.deletedAt IS NULL " +
+                     "AND r.hasPhoto = true " +
+                     "AND r.createdAt <= :createdAt AND (r.createdAt < :createdAt OR r.id < :id) " +
+                     "ORDER BY r.createdAt DESC, r.id DESC")
+       Slice<ReviewRow> findPhotoRowSliceByRestaurantIdAndCreatedAt(@Param("restaurantId") Long restaurantId,
+                     @Param("createdAt") LocalDateTime createdAt,
+                     @Param("id") Long id, Pageable pageable);
+
+       // id 목록으로 조회 (피드 등, 삭제된 리뷰 제외)
+       @Query(ROW_SELECT + "WHERE r.id IN :ids AND r.deletedAt IS NULL")
+       List<ReviewRow> findRowsByIdIn(@Param("ids") Collection<Long> ids);
+
+       // ==================== 피드 ====================
+
+       // 팔로우한 회원/식당의 리뷰 id (최신순, :before 미만). 타임라인 재구성/보충용
+       @Query("SELECT r.id FROM Review r WHERE r.deletedAt IS NULL AND r.id < :before AND (" +
+                     "r.member.id IN (SELECT f.following.id FROM Follow f WHERE f.follower.id = :memberId) " +
+                     "OR r.restaurant.id IN (SELECT f.restaurant.id FROM Follow f WHERE f.follower.id = :memberId)) " +
+                     "ORDER BY r.id DESC")
+       List<Long> findFeedReviewIds(@Param("memberId") Long memberId, @Param("before") Long before,
+                     Pageable pageable);
 
-       // 식당별 평균 평점 계산
-       @Query("SELECT AVG(r.rating) FROM Review r WHERE r.restaurant.id = :restaurantId AND r.deletedAt IS NULL")
-       Optional<Double> findAverageRatingByRestaurantId(@Param("restaurantId") Long restaurantId);
+       // 팔로우한 회원/식당의 리뷰 id (최신순, :after 초과). 타임라인 재구성 중 작성된 리뷰 보충용
+       @Query("SELECT r.id FROM Review r WHERE r.deletedAt IS NULL AND r.id > :after AND (" +
+                     "r.member.id IN (SELECT f.following.id FROM Follow f WHERE f.follower.id = :memberId) " +
+                     "OR r.restaurant.id IN (SELECT f.restaurant.id FROM Follow f WHERE f.follower.id = :memberId)) " +
+                     "ORDER BY r.id DESC")
+       List<Long> findFeedReviewIdsAfter(@Param("memberId") Long memberId, @Param("after") Long after,
+                     Pageable pageable);
+
+       // ==================== 베스트 리뷰 ====================
+
+       @Query("SELECT new com.ezroad.ranking.BestReviewTarget(r.id, r.restaurant.id, r.rating, r.hit, r.hasPhoto, " +
+                     "LENGTH(r.content), r.createdAt, r.deletedAt) FROM Review r WHERE r.id IN :ids")
+       List<BestReviewTarget> findBestReviewTargetsByIdIn(@Param("ids") Collection<Long> ids);
+
+       @Query("SELECT new com.ezroad.ranking.BestReviewTarget(r.id, r.restaurant.id, r.rating, r.hit, r.hasPhoto, " +
+                     "LENGTH(r.content), r.createdAt, r.deletedAt) FROM Review r " +
+                     "WHERE r.restaurant.id = :restaurantId AND r.deletedAt IS NULL")
+       List<BestReviewTarget> findBestReviewTargetsByRestaurantId(@Param("restaurantId") Long restaurantId);
 
-       // 식당별 리뷰 개수
-       Long countByRestaurantIdAndDeletedAtIsNull(Long restaurantId);
+       // ==================== 통계 쿼리 ====================
+
+       // 식당별 평균 평점/리뷰 개수는 restaurants 집계 컬럼 사용 (RestaurantRatingService)
 
        // 전체 리뷰 개수
        Long countByDeletedAtIsNull();
@@ -97,4 +167,15 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
 
        // 해당 예약에 리뷰가 있는지 확인
        boolean existsByReservationIdAndDeletedAtIsNull(Long reservationId);
+
+       // ==================== 사진 플래그 ====================
+
+       // 컬럼 추가 이전 리뷰의 image_count/has_photo 채우기 (대상이 없으면 갱신 0건)
+       @Modifying
+       @Transactional
+       @Query(value = "UPDATE reviews r SET " +
+                     "image_count = (SELECT COUNT(*) FROM review_images ri WHERE ri.review_id = r.id), " +
+                     "has_photo = EXISTS (SELECT 1 FROM review_images ri WHERE ri.review_id = r.id) " +
+                     "WHERE r.has_photo IS NULL OR r.image_count IS NULL", nativeQuery = true)
+       int backfillPhotoFlags();
 }
@@ -1,6 +1,7 @@
 package com.ezroad.repository;
 
 import com.ezroad.entity.SearchKeyword;
+import com.ezroad.search.AutocompleteSource;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -30,4 +31,8 @@ public interface SearchKeywordRepository extends JpaRepository<SearchKeyword, Lo
 
     // 키워드 삭제 (관리자용)
     void deleteByKeyword(String keyword);
+
+    // 자동완성 색인용 (검색어, id, 검색 횟수)
+    @Query("SELECT new com.ezroad.search.AutocompleteSource(s.keyword, s.id, s.searchCount) FROM SearchKeyword s")
+    List<AutocompleteSource> findAutocompleteSources();
 }
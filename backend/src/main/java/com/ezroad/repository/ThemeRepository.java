@@ -3,11 +3,13 @@ package com.ezroad.repository;
 import com.ezroad.entity.Theme;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -28,6 +30,14 @@ public interface ThemeRepository extends JpaRepository<Theme, Long> {
     @EntityGraph(attributePaths = {"member"})
     Page<Theme> findByIsPublicTrueOrderByCreatedAtDesc(Pageable pageable);
 
+    // 공개 테마 목록 (커서 페이지네이션, 최신순)
+    @Query("SELECT t FROM Theme t JOIN FETCH t.member WHERE t.isPublic = true " +
+           "AND t.createdAt <= :createdAt AND (t.createdAt < :createdAt OR t.id < :id) " +
+           "ORDER BY t.createdAt DESC, t.id DESC")
+    Slice<Theme> findPublicSliceByCreatedAt(@Param("createdAt") LocalDateTime createdAt,
+                                            @Param("id") Long id,
+                                            Pageable pageable);
+
     // 공개 테마 검색 (member 함께 로딩)
     @Query("SELECT t FROM Theme t JOIN FETCH t.member WHERE t.isPublic = true AND " +
            "(LOWER(t.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
@@ -52,4 +62,12 @@ public interface ThemeRepository extends JpaRepository<Theme, Long> {
 
     // 내 테마인지 확인
     boolean existsByIdAndMemberId(Long id, Long memberId);
+
+    // ==================== 검색 색인용 ====================
+
+    @EntityGraph(attributePaths = {"member"})
+    List<Theme> findByIdIn(List<Long> ids);
+
+    @EntityGraph(attributePaths = {"member"})
+    Slice<Theme> findByIdGreaterThanOrderByIdAsc(Long lastId, Pageable pageable);
 }
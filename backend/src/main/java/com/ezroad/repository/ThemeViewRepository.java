@@ -5,33 +5,18 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.util.Optional;
 
+// 조회수 중복 방지는 ViewDeduplicator(Redis)로 이전, 기존 기록은 ThemeViewRetentionService가 정리
 public interface ThemeViewRepository extends JpaRepository<ThemeView, Long> {
 
-    // 최근 조회 기록 존재 여부 확인
-    @Query("SELECT CASE WHEN COUNT(tv) > 0 THEN true ELSE false END " +
-           "FROM ThemeView tv " +
-           "WHERE tv.theme.id = :themeId " +
-           "AND tv.viewerIdentifier = :viewerIdentifier " +
-           "AND tv.viewedAt > :since")
-    boolean existsRecentView(@Param("themeId") Long themeId,
-                             @Param("viewerIdentifier") String viewerIdentifier,
-                             @Param("since") LocalDateTime since);
-
-    // 최근 조회 기록 조회
-    @Query("SELECT tv FROM ThemeView tv " +
-           "WHERE tv.theme.id = :themeId " +
-           "AND tv.viewerIdentifier = :viewerIdentifier " +
-           "AND tv.viewedAt > :since")
-    Optional<ThemeView> findRecentView(@Param("themeId") Long themeId,
-                                       @Param("viewerIdentifier") String viewerIdentifier,
-                                       @Param("since") LocalDateTime since);
-
-    // 오래된 조회 기록 삭제 (스케줄러용)
+    // 오래된 조회 기록 삭제 (청크 단위, 한 번에 잡는 행 락을 limit으로 제한)
     @Modifying
-    @Query("DELETE FROM ThemeView tv WHERE tv.viewedAt < :before")
-    int deleteOldViews(@Param("before") LocalDateTime before);
+    @Transactional
+    @Query(value = "DELETE FROM theme_views WHERE id IN (" +
+           "SELECT id FROM theme_views WHERE viewed_at < :before ORDER BY viewed_at, id LIMIT :limit)",
+           nativeQuery = true)
+    int deleteOldViews(@Param("before") LocalDateTime before, @Param("limit") int limit);
 }
@@ -0,0 +1,233 @@
+package com.ezroad.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.Function;
+
+/**
+ * 자동완성 인메모리 색인 (불변)
+ *
+ * - 자모 키/초성 키를 각각 정렬된 배열로 보관 → 접두사 범위를 이진 탐색으로 찾음
+ * - 범위 내 가중치 최댓값을 sparse table(RMQ)로 O(1) 조회하고
+ *   우선순위 큐로 범위를 쪼개며 상위 k개를 뽑음 → 범위 크기와 무관하게 O(k log k)
+ * - 단어 시작 위치마다 키를 추가해 "강남" 입력 시 "김밥천국 강남점"도 매칭
+ */
+public final class AutocompleteIndex {
+
+    private static final int MAX_WORD_KEYS = 4;
+
+    private final List<Entry> entries;
+    private final KeyTable jamoTable;
+    private final KeyTable chosungTable;
+
+    private AutocompleteIndex(List<Entry> entries) {
+        this.entries = entries;
+        this.jamoTable = KeyTable.build(entries, HangulUtils::toJamo);
+        this.chosungTable = KeyTable.build(entries, HangulUtils::toChosung);
+    }
+
+    public static AutocompleteIndex of(List<Entry> entries) {
+        return new AutocompleteIndex(List.copyOf(entries));
+    }
+
+    public static AutocompleteIndex empty() {
+        return new AutocompleteIndex(List.of());
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * 접두사 자동완성 (가중치 내림차순, 동률이면 짧은/사전순 키 우선)
+     */
+    public List<Entry> suggest(String query, int limit) {
+        if (query == null || limit <= 0) {
+            return List.of();
+        }
+        String trimmed = query.trim();
+        if (trimmed.isEmpty()) {
+            return List.of();
+        }
+
+        // 자음만 입력된 경우 초성 키, 그 외(완성형/자모 혼합)는 자모 키로 매칭
+        return HangulUtils.isChosungOnly(trimmed)
+                ? chosungTable.topK(HangulUtils.toChosung(trimmed), limit, entries)
+                : jamoTable.topK(HangulUtils.toJamo(trimmed), limit, entries);
+    }
+
+    /**
+     * 자동완성 후보
+     * @param text     화면 표시 문자열
+     * @param type     KEYWORD / RESTAURANT / MENU
+     * @param refId    식당 id (식당 후보인 경우)
+     * @param weight   정렬 가중치 (클수록 상위)
+     */
+    public record Entry(String text, String type, Long refId, long weight) {
+    }
+
+    // ==================== 정렬 키 테이블 ====================
+
+    private static final class KeyTable {
+
+        private final String[] keys;
+        private final int[] entryIds;
+        private final long[] weights;
+        private final int[][] sparse;   // sparse[j][i] = [i, i + 2^j) 구간 최대 가중치 위치
+
+        private KeyTable(String[] keys, int[] entryIds, long[] weights) {
+            this.keys = keys;
+            this.entryIds = entryIds;
+            this.weights = weights;
+            this.sparse = buildSparseTable();
+        }
+
+        static KeyTable build(List<Entry> entries, Function<String, String> keyFn) {
+            List<Object[]> rows = new ArrayList<>();
+            for (int id = 0; id < entries.size(); id++) {
+                for (String key : keysOf(entries.get(id).text(), keyFn)) {
+                    rows.add(new Object[]{key, id});
+                }
+            }
+            rows.sort(Comparator.comparing(row -> (String) row[0]));
+
+            String[] keys = new String[rows.size()];
+            int[] entryIds = new int[rows.size()];
+            long[] weights = new long[rows.size()];
+            for (int i = 0; i < rows.size(); i++) {
+                keys[i] = (String) rows.get(i)[0];
+                entryIds[i] = (Integer) rows.get(i)[1];
+                weights[i] = entries.get(entryIds[i]).weight();
+            }
+            return new KeyTable(keys, entryIds, weights);
+        }
+
+        // 전체 문자열 + 단어 시작 위치부터의 접미 문자열
+        private static List<String> keysOf(String text, Function<String, String> keyFn) {
+            List<String> keys = new ArrayList<>();
+            String full = keyFn.apply(text);
+            if (!full.isEmpty()) {
+                keys.add(full);
+            }
+            for (int i = 1; i < text.length() && keys.size() < MAX_WORD_KEYS; i++) {
+                if (Character.isWhitespace(text.charAt(i - 1)) && !Character.isWhitespace(text.charAt(i))) {
+                    String suffix = keyFn.apply(text.substring(i));
+                    if (!suffix.isEmpty() && !keys.contains(suffix)) {
+                        keys.add(suffix);
+                    }
+                }
+            }
+            return keys;
+        }
+
+        private int[][] buildSparseTable() {
+            int n = keys.length;
+            int levels = n <= 1 ? 1 : 32 - Integer.numberOfLeadingZeros(n);
+            int[][] table = new int[levels][];
+            table[0] = new int[n];
+            for (int i = 0; i < n; i++) {
+                table[0][i] = i;
+            }
+            for (int j = 1; j < levels; j++) {
+                int half = 1 << (j - 1);
+                int len = n - (1 << j) + 1;
+                table[j] = new int[Math.max(len, 0)];
+                for (int i = 0; i < len; i++) {
+                    table[j][i] = better(table[j - 1][i], table[j - 1][i + half]);
+                }
+            }
+            return table;
+        }
+
+        // 가중치가 크고, 같으면 앞쪽(사전순으로 짧은) 위치
+        private int better(int a, int b) {
+            if (weights[a] != weights[b]) {
+                return weights[a] > weights[b] ? a : b;
+            }
+            return Math.min(a, b);
+        }
+
+        // [lo, hi] 구간 최대 가중치 위치
+        private int argMax(int lo, int hi) {
+            int level = 31 - Integer.numberOfLeadingZeros(hi - lo + 1);
+            return better(sparse[level][lo], sparse[level][hi - (1 << level) + 1]);
+        }
+
+        List<Entry> topK(String prefix, int limit, List<Entry> entries) {
+            if (prefix.isEmpty() || keys.length == 0) {
+                return List.of();
+            }
+            int lo = lowerBound(prefix);
+            int hi = prefixEnd(prefix, lo) - 1;
+            if (lo > hi) {
+                return List.of();
+            }
+
+            // {lo, hi, argMax}
+            PriorityQueue<int[]> queue = new PriorityQueue<>((a, b) -> {
+                int best = better(a[2], b[2]);
+                return best == a[2] ? -1 : 1;
+            });
+            queue.add(new int[]{lo, hi, argMax(lo, hi)});
+
+            List<Entry> result = new ArrayList<>(limit);
+            int[] picked = new int[limit];
+            while (!queue.isEmpty() && result.size() < limit) {
+                int[] range = queue.poll();
+                int pos = range[2];
+                int entryId = entryIds[pos];
+
+                // 한 후보가 여러 키(전체/단어 시작)로 같은 범위에 걸릴 수 있으므로 중복 제거
+                if (!contains(picked, result.size(), entryId)) {
+                    picked[result.size()] = entryId;
+                    result.add(entries.get(entryId));
+                }
+                if (range[0] <= pos - 1) {
+                    queue.add(new int[]{range[0], pos - 1, argMax(range[0], pos - 1)});
+                }
+                if (pos + 1 <= range[1]) {
+                    queue.add(new int[]{pos + 1, range[1], argMax(pos + 1, range[1])});
+                }
+            }
+            return result;
+        }
+
+        private static boolean contains(int[] values, int length, int value) {
+            for (int i = 0; i < length; i++) {
+                if (values[i] == value) return true;
+            }
+            return false;
+        }
+
+        private int lowerBound(String prefix) {
+            int lo = 0;
+            int hi = keys.length;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (keys[mid].compareTo(prefix) < 0) {
+                    lo = mid + 1;
+                } else {
+                    hi = mid;
+                }
+            }
+            return lo;
+        }
+
+        // lowerBound 이후 prefix로 시작하는 키가 끝나는 위치 (exclusive)
+        private int prefixEnd(String prefix, int from) {
+            int lo = from;
+            int hi = keys.length;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (keys[mid].startsWith(prefix)) {
+                    lo = mid + 1;
+                } else {
+                    hi = mid;
+                }
+            }
+            return lo;
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.ezroad.search;
+
+import com.ezroad.dto.response.AutocompleteResponse;
+import com.ezroad.entity.RestaurantStatus;
+import com.ezroad.event.MenuChangedEvent;
+import com.ezroad.event.RestaurantChangedEvent;
+import com.ezroad.event.SearchKeywordChangedEvent;
+import com.ezroad.repository.MenuRepository;
+import com.ezroad.repository.RestaurantRepository;
+import com.ezroad.repository.SearchKeywordRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 검색창 자동완성
+ *
+ * - 식당명/메뉴명/검색어를 합쳐 AutocompleteIndex를 만들고 volatile 참조로 교체 (조회는 락 없음)
+ * - 검색 횟수/식당/메뉴 변경 시 dirty 표시 → 백그라운드에서 주기적으로 재생성
+ * - 정렬: 검색 횟수 우선, 동률이면 보조 인기도(리뷰 수, 메뉴 보유 식당 수)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AutocompleteService {
+
+    private static final int DEFAULT_LIMIT = 10;
+    private static final int MAX_LIMIT = 20;
+    private static final long POPULARITY_CAP = 999L;
+
+    private final RestaurantRepository restaurantRepository;
+    private final MenuRepository menuRepository;
+    private final SearchKeywordRepository searchKeywordRepository;
+
+    private volatile AutocompleteIndex index = AutocompleteIndex.empty();
+    private final AtomicBoolean dirty = new AtomicBoolean(true);
+
+    public List<AutocompleteResponse> suggest(String query, Integer limit) {
+        int safeLimit = limit == null ? DEFAULT_LIMIT : Math.max(1, Math.min(limit, MAX_LIMIT));
+        return index.suggest(query, safeLimit).stream()
+                .map(AutocompleteResponse::from)
+                .toList();
+    }
+
+    // ==================== 색인 재생성 ====================
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        rebuildIfDirty();
+    }
+
+    @Scheduled(fixedDelayString = "${search.autocomplete-rebuild-interval-ms:60000}")
+    public void rebuildIfDirty() {
+        if (!dirty.compareAndSet(true, false)) {
+            return;
+        }
+        try {
+            long start = System.currentTimeMillis();
+            AutocompleteIndex rebuilt = AutocompleteIndex.of(loadEntries());
+            index = rebuilt;
+            log.info("자동완성 색인 재생성 - 후보: {}, 소요: {}ms", rebuilt.size(), System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            // 실패 시 기존 색인 유지, 다음 주기에 재시도
+            dirty.set(true);
+            log.error("자동완성 색인 재생성 실패: {}", e.getMessage());
+        }
+    }
+
+    @EventListener
+    public void onSearchKeywordChanged(SearchKeywordChangedEvent event) {
+        dirty.set(true);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onRestaurantChanged(RestaurantChangedEvent event) {
+        dirty.set(true);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMenuChanged(MenuChangedEvent event) {
+        dirty.set(true);
+    }
+
+    /**
+     * 같은 문자열(대소문자/공백 무시)은 하나의 후보로 합침
+     * 표시 유형 우선순위: 식당 > 메뉴 > 검색어
+     */
+    private List<AutocompleteIndex.Entry> loadEntries() {
+        Map<String, Candidate> candidates = new LinkedHashMap<>();
+
+        for (AutocompleteSource source : restaurantRepository.findAutocompleteSources(RestaurantStatus.ACTIVE)) {
+            merge(candidates, source, "RESTAURANT", source.refId());
+        }
+        for (AutocompleteSource source : menuRepository.findAutocompleteSources(RestaurantStatus.ACTIVE)) {
+            merge(candidates, source, "MENU", null);
+        }
+
+        Map<String, Long> searchCounts = new HashMap<>();
+        for (AutocompleteSource source : searchKeywordRepository.findAutocompleteSources()) {
+            String key = normalize(source.text());
+            if (key.isEmpty()) continue;
+            searchCounts.merge(key, countOf(source), Long::sum);
+            candidates.putIfAbsent(key, new Candidate(source.text().trim(), "KEYWORD", null, 0L));
+        }
+
+        List<AutocompleteIndex.Entry> entries = new ArrayList<>(candidates.size());
+        candidates.forEach((key, candidate) -> {
+            long weight = searchCounts.getOrDefault(key, 0L) * (POPULARITY_CAP + 1)
+                    + Math.min(candidate.popularity(), POPULARITY_CAP);
+            entries.add(new AutocompleteIndex.Entry(candidate.text(), candidate.type(), candidate.refId(), weight));
+        });
+        return entries;
+    }
+
+    private void merge(Map<String, Candidate> candidates, AutocompleteSource source, String type, Long refId) {
+        String key = normalize(source.text());
+        if (key.isEmpty()) return;
+        candidates.merge(key, new Candidate(source.text().trim(), type, refId, countOf(source)),
+                (existing, added) -> new Candidate(existing.text(), existing.type(), existing.refId(),
+                        existing.popularity() + added.popularity()));
+    }
+
+    private long countOf(AutocompleteSource source) {
+        return source.count() == null ? 0L : source.count().longValue();
+    }
+
+    private String normalize(String text) {
+        return text == null ? "" : text.trim().replaceAll("\\s+", " ").toLowerCase();
+    }
+
+    private record Candidate(String text, String type, Long refId, long popularity) {
+    }
+}
@@ -0,0 +1,10 @@
+package com.ezroad.search;
+
+/**
+ * 자동완성 색인 원천 데이터 (JPQL 생성자 프로젝션)
+ * @param text  식당명 / 메뉴명 / 검색어
+ * @param refId 식당 id (메뉴는 대표 식당 id, 검색어는 검색어 id)
+ * @param count 보조 인기도 (식당 리뷰 수 / 메뉴를 가진 식당 수 / 검색 횟수)
+ */
+public record AutocompleteSource(String text, Long refId, Number count) {
+}
@@ -0,0 +1,125 @@
+package com.ezroad.search;
+
+/**
+ * 한글 자모 분해 유틸
+ *
+ * - toJamo: 음절을 초/중/종성 호환 자모로 풀어쓴 키 ("김밥" → "ㄱㅣㅁㅂㅏㅂ")
+ *   겹모음/겹받침도 기본 자모로 분해하여 입력 중인 글자("닭" 입력 도중 "달")도 접두사로 매칭되도록 함
+ * - toChosung: 음절을 초성으로 치환한 키 ("김밥" → "ㄱㅂ")
+ * - 공백은 제거하고 영문은 소문자로 정규화
+ */
+public final class HangulUtils {
+
+    private static final char SYLLABLE_BASE = 0xAC00;
+    private static final char SYLLABLE_END = 0xD7A3;
+    private static final int JUNGSEONG_COUNT = 21;
+    private static final int JONGSEONG_COUNT = 28;
+
+    private static final String[] CHOSEONG = {
+            "ㄱ", "ㄲ", "ㄴ", "ㄷ", "ㄸ", "ㄹ", "ㅁ", "ㅂ", "ㅃ", "ㅅ",
+            "ㅆ", "ㅇ", "ㅈ", "ㅉ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+
+    private static final String[] JUNGSEONG = {
+            "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ",
+            "ㅗㅐ", "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ",
+            "ㅣ"
+    };
+
+    private static final String[] JONGSEONG = {
+            "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ",
+            "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ",
+            "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+
+    private HangulUtils() {
+    }
+
+    public static String toJamo(String text) {
+        StringBuilder sb = new StringBuilder(text.length() * 3);
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isWhitespace(c)) {
+                continue;
+            }
+            if (isSyllable(c)) {
+                int offset = c - SYLLABLE_BASE;
+                sb.append(CHOSEONG[offset / (JUNGSEONG_COUNT * JONGSEONG_COUNT)]);
+                sb.append(JUNGSEONG[(offset / JONGSEONG_COUNT) % JUNGSEONG_COUNT]);
+                sb.append(JONGSEONG[offset % JONGSEONG_COUNT]);
+            } else {
+                sb.append(decomposeCompatibilityJamo(Character.toLowerCase(c)));
+            }
+        }
+        return sb.toString();
+    }
+
+    public static String toChosung(String text) {
+        StringBuilder sb = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isWhitespace(c)) {
+                continue;
+            }
+            if (isSyllable(c)) {
+                sb.append(CHOSEONG[(c - SYLLABLE_BASE) / (JUNGSEONG_COUNT * JONGSEONG_COUNT)]);
+            } else {
+                sb.append(Character.toLowerCase(c));
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 공백을 제외한 모든 글자가 자음(ㄱ~ㅎ)인지 (초성 검색어 판별)
+     */
+    public static boolean isChosungOnly(String text) {
+        boolean hasConsonant = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isWhitespace(c)) {
+                continue;
+            }
+            if (!isConsonant(c)) {
+                return false;
+            }
+            hasConsonant = true;
+        }
+        return hasConsonant;
+    }
+
+    private static boolean isSyllable(char c) {
+        return c >= SYLLABLE_BASE && c <= SYLLABLE_END;
+    }
+
+    private static boolean isConsonant(char c) {
+        return c >= 'ㄱ' && c <= 'ㅎ';
+    }
+
+    /**
+     * 단독 입력된 겹자모(ㄳ, ㅘ 등)를 기본 자모로 분해
+     */
+    private static String decomposeCompatibilityJamo(char c) {
+        return switch (c) {
+            case 'ㄳ' -> "ㄱㅅ";
+            case 'ㄵ' -> "ㄴㅈ";
+            case 'ㄶ' -> "ㄴㅎ";
+            case 'ㄺ' -> "ㄹㄱ";
+            case 'ㄻ' -> "ㄹㅁ";
+            case 'ㄼ' -> "ㄹㅂ";
+            case 'ㄽ' -> "ㄹㅅ";
+            case 'ㄾ' -> "ㄹㅌ";
+            case 'ㄿ' -> "ㄹㅍ";
+            case 'ㅀ' -> "ㄹㅎ";
+            case 'ㅄ' -> "ㅂㅅ";
+            case 'ㅘ' -> "ㅗㅏ";
+            case 'ㅙ' -> "ㅗㅐ";
+            case 'ㅚ' -> "ㅗㅣ";
+            case 'ㅝ' -> "ㅜㅓ";
+            case 'ㅞ' -> "ㅜㅔ";
+            case 'ㅟ' -> "ㅜㅣ";
+            case 'ㅢ' -> "ㅡㅣ";
+            default -> String.valueOf(c);
+        };
+    }
+}
@@ -0,0 +1,102 @@
+package com.ezroad.search;
+
+import com.ezroad.entity.Menu;
+import com.ezroad.entity.Restaurant;
+import com.ezroad.entity.RestaurantStatus;
+import com.ezroad.entity.Theme;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.facet.sortedset.SortedSetDocValuesFacetField;
+
+/**
+ * 엔티티 → Lucene 문서 변환
+ * 검색 대상이 아닌 경우(비활성 식당, 숨김 메뉴, 비공개 테마) null 반환 → 색인에서 삭제
+ */
+final class SearchDocumentFactory {
+
+    private SearchDocumentFactory() {
+    }
+
+    static Document fromRestaurant(Restaurant restaurant) {
+        if (restaurant.getStatus() != RestaurantStatus.ACTIVE) {
+            return null;
+        }
+
+        Document doc = base(SearchDocumentType.RESTAURANT, restaurant.getId(), restaurant.getId());
+        addText(doc, SearchFields.TITLE, restaurant.getName());
+        addText(doc, SearchFields.SUBTITLE, restaurant.getAddress());
+        addText(doc, SearchFields.BODY, join(restaurant.getDescription(), restaurant.getNotice()));
+        addCategory(doc, restaurant.getCategory());
+        addStored(doc, SearchFields.THUMBNAIL, restaurant.getThumbnail());
+        return doc;
+    }
+
+    static Document fromMenu(Menu menu) {
+        Restaurant restaurant = menu.getRestaurant();
+        if (!Boolean.TRUE.equals(menu.getIsVisible()) || restaurant.getStatus() != RestaurantStatus.ACTIVE) {
+            return null;
+        }
+
+        Document doc = base(SearchDocumentType.MENU, menu.getId(), restaurant.getId());
+        addText(doc, SearchFields.TITLE, menu.getName());
+        addText(doc, SearchFields.SUBTITLE, restaurant.getName());
+        addText(doc, SearchFields.BODY, menu.getDescription());
+        // 메뉴는 소속 식당 카테고리로 패싯 집계
+        addCategory(doc, restaurant.getCategory());
+        addStored(doc, SearchFields.THUMBNAIL, menu.getThumbnail());
+        return doc;
+    }
+
+    static Document fromTheme(Theme theme) {
+        if (!Boolean.TRUE.equals(theme.getIsPublic())) {
+            return null;
+        }
+
+        Document doc = base(SearchDocumentType.THEME, theme.getId(), null);
+        addText(doc, SearchFields.TITLE, theme.getTitle());
+        addText(doc, SearchFields.SUBTITLE, theme.getMember() != null ? theme.getMember().getNickname() : null);
+        addText(doc, SearchFields.BODY, theme.getDescription());
+        addStored(doc, SearchFields.THUMBNAIL, theme.getThumbnail());
+        return doc;
+    }
+
+    private static Document base(SearchDocumentType type, Long id, Long restaurantId) {
+        Document doc = new Document();
+        doc.add(new StringField(SearchFields.UID, SearchFields.uid(type, id), Field.Store.YES));
+        doc.add(new StringField(SearchFields.TYPE, type.name(), Field.Store.YES));
+        doc.add(new StoredField(SearchFields.ID, id));
+        if (restaurantId != null) {
+            doc.add(new StoredField(SearchFields.RESTAURANT_ID, restaurantId));
+        }
+        doc.add(new SortedSetDocValuesFacetField(SearchFields.TYPE, type.name()));
+        return doc;
+    }
+
+    private static void addText(Document doc, String field, String value) {
+        if (value != null && !value.isBlank()) {
+            doc.add(new TextField(field, value, Field.Store.YES));
+        }
+    }
+
+    private static void addStored(Document doc, String field, String value) {
+        if (value != null && !value.isBlank()) {
+            doc.add(new StoredField(field, value));
+        }
+    }
+
+    private static void addCategory(Document doc, String category) {
+        if (category != null && !category.isBlank()) {
+            doc.add(new StringField(SearchFields.CATEGORY, category, Field.Store.YES));
+            doc.add(new SortedSetDocValuesFacetField(SearchFields.CATEGORY, category));
+        }
+    }
+
+    private static String join(String first, String second) {
+        if (first == null || first.isBlank()) return second;
+        if (second == null || second.isBlank()) return first;
+        return first + "\n" + second;
+    }
+}
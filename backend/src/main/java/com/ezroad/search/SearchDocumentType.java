@@ -0,0 +1,7 @@
+package com.ezroad.search;
+
+public enum SearchDocumentType {
+    RESTAURANT,
+    MENU,
+    THEME
+}
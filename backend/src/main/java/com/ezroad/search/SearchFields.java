@@ -0,0 +1,25 @@
+package com.ezroad.search;
+
+/**
+ * Lucene 문서 필드명
+ */
+public final class SearchFields {
+
+    public static final String UID = "uid";               // {type}:{id}
+    public static final String TYPE = "type";             // RESTAURANT / MENU / THEME
+    public static final String ID = "id";
+    public static final String RESTAURANT_ID = "restaurantId";
+    public static final String TITLE = "title";           // 식당명 / 메뉴명 / 테마 제목
+    public static final String SUBTITLE = "subtitle";     // 주소 / 식당명 / 작성자 닉네임
+    public static final String BODY = "body";             // 설명 등 본문
+    public static final String CATEGORY = "category";
+    public static final String THUMBNAIL = "thumbnail";
+    public static final String REINDEX_TOKEN = "reindexToken"; // 전체 재색인 회차 (재색인되지 않은 문서 정리용)
+
+    private SearchFields() {
+    }
+
+    public static String uid(SearchDocumentType type, Long id) {
+        return type.name() + ":" + id;
+    }
+}
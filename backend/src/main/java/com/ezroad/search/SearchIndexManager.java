@@ -0,0 +1,189 @@
+package com.ezroad.search;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.ko.KoreanAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.facet.FacetsConfig;
+import org.apache.lucene.facet.sortedset.DefaultSortedSetDocValuesReaderState;
+import org.apache.lucene.facet.sortedset.SortedSetDocValuesReaderState;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * 로컬 디스크 Lucene 색인 관리
+ *
+ * - IndexWriter 1개를 애플리케이션 수명 동안 유지
+ * - SearcherManager로 NRT(near-real-time) 검색기 제공 (refresh 시점부터 변경 반영)
+ * - commit은 주기적으로만 수행 (재시작 시 미커밋분은 이벤트 재처리/전체 재색인으로 복구)
+ */
+@Slf4j
+@Component
+public class SearchIndexManager {
+
+    private final Path indexPath;
+    private final Analyzer analyzer = new KoreanAnalyzer();
+    private final FacetsConfig facetsConfig = new FacetsConfig();
+
+    private Directory directory;
+    private IndexWriter writer;
+    private SearcherManager searcherManager;
+
+    // 패싯 상태는 reader 단위로 생성 비용이 크므로 reader가 바뀔 때만 재생성
+    private volatile FacetStateHolder facetState;
+
+    public SearchIndexManager(@Value("${search.index-path}") String indexPath) {
+        this.indexPath = Path.of(indexPath);
+    }
+
+    @PostConstruct
+    public void open() throws IOException {
+        Files.createDirectories(indexPath);
+        directory = FSDirectory.open(indexPath);
+
+        IndexWriterConfig config = new IndexWriterConfig(analyzer);
+        config.setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND);
+        writer = new IndexWriter(directory, config);
+        searcherManager = new SearcherManager(writer, null);
+
+        log.info("검색 색인 열기 - path: {}, docs: {}", indexPath, writer.getDocStats().numDocs);
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        try {
+            if (searcherManager != null) searcherManager.close();
+            if (writer != null) {
+                writer.commit();
+                writer.close();
+            }
+        } finally {
+            if (directory != null) directory.close();
+        }
+        log.info("검색 색인 닫기 - path: {}", indexPath);
+    }
+
+    public Analyzer getAnalyzer() {
+        return analyzer;
+    }
+
+    public FacetsConfig getFacetsConfig() {
+        return facetsConfig;
+    }
+
+    public int numDocs() {
+        return writer.getDocStats().numDocs;
+    }
+
+    /**
+     * 문서 추가/교체 (uid 기준)
+     */
+    public void upsert(String uid, Document document) {
+        try {
+            writer.updateDocument(new Term(SearchFields.UID, uid), facetsConfig.build(document));
+        } catch (IOException e) {
+            throw new UncheckedIOException("검색 문서 색인 실패: " + uid, e);
+        }
+    }
+
+    public void delete(String uid) {
+        try {
+            writer.deleteDocuments(new Term(SearchFields.UID, uid));
+        } catch (IOException e) {
+            throw new UncheckedIOException("검색 문서 삭제 실패: " + uid, e);
+        }
+    }
+
+    /**
+     * field 값이 value가 아닌 문서 전체 삭제 (전체 재색인 후 남은 문서 정리)
+     */
+    public void deleteAllExcept(String field, String value) {
+        try {
+            writer.deleteDocuments(new BooleanQuery.Builder()
+                    .add(new MatchAllDocsQuery(), BooleanClause.Occur.FILTER)
+                    .add(new TermQuery(new Term(field, value)), BooleanClause.Occur.MUST_NOT)
+                    .build());
+        } catch (IOException e) {
+            throw new UncheckedIOException("검색 색인 정리 실패", e);
+        }
+    }
+
+    /**
+     * 변경분을 검색기에 반영 (NRT refresh)
+     */
+    public void refresh() {
+        try {
+            searcherManager.maybeRefreshBlocking();
+        } catch (IOException e) {
+            throw new UncheckedIOException("검색기 갱신 실패", e);
+        }
+    }
+
+    /**
+     * 변경분을 디스크에 영구 반영
+     */
+    public void commitIfChanged() {
+        try {
+            if (writer.hasUncommittedChanges()) {
+                writer.commit();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("검색 색인 커밋 실패", e);
+        }
+    }
+
+    public IndexSearcher acquire() {
+        try {
+            return searcherManager.acquire();
+        } catch (IOException e) {
+            throw new UncheckedIOException("검색기 획득 실패", e);
+        }
+    }
+
+    public void release(IndexSearcher searcher) {
+        try {
+            searcherManager.release(searcher);
+        } catch (IOException e) {
+            log.warn("검색기 반환 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 현재 reader에 대한 패싯 상태 (문서가 없으면 null)
+     */
+    public SortedSetDocValuesReaderState facetState(IndexSearcher searcher) throws IOException {
+        IndexReader reader = searcher.getIndexReader();
+        if (reader.numDocs() == 0) {
+            return null;
+        }
+
+        FacetStateHolder holder = facetState;
+        if (holder == null || holder.reader() != reader) {
+            holder = new FacetStateHolder(reader, new DefaultSortedSetDocValuesReaderState(reader, facetsConfig));
+            facetState = holder;
+        }
+        return holder.state();
+    }
+
+    private record FacetStateHolder(IndexReader reader, SortedSetDocValuesReaderState state) {
+    }
+}
@@ -0,0 +1,340 @@
+package com.ezroad.search;
+
+import com.ezroad.entity.Menu;
+import com.ezroad.entity.Restaurant;
+import com.ezroad.entity.Theme;
+import com.ezroad.event.MenuChangedEvent;
+import com.ezroad.event.RestaurantChangedEvent;
+import com.ezroad.event.ThemeChangedEvent;
+import com.ezroad.repository.MenuRepository;
+import com.ezroad.repository.RestaurantRepository;
+import com.ezroad.repository.ThemeRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.LongFunction;
+import java.util.stream.Collectors;
+
+/**
+ * 서비스 쓰기 이벤트 → 검색 색인 반영
+ *
+ * - 커밋 이후 이벤트만 대기열에 적재 (롤백된 변경은 색인하지 않음)
+ * - 같은 문서의 연속 변경은 uid 단위로 합쳐서 1회만 색인
+ * - 주기적으로 대기열을 비우며 DB 최신 상태를 읽어 upsert/delete 후 NRT refresh
+ */
+@Slf4j
+@Component
+public class SearchIndexUpdater {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final SearchIndexManager indexManager;
+    private final RestaurantRepository restaurantRepository;
+    private final MenuRepository menuRepository;
+    private final ThemeRepository themeRepository;
+    private final TransactionTemplate readOnlyTx;
+    private final Timer drainTimer;
+    private final Timer reindexTimer;
+
+    // uid → 최초 적재 시각 (ms). 색인 지연 지표 계산에 사용
+    private final Map<String, Long> pending = new ConcurrentHashMap<>();
+
+    // drain과 전체 재색인이 동시에 IndexWriter를 건드리지 않도록 직렬화
+    private final ReentrantLock indexLock = new ReentrantLock();
+
+    public SearchIndexUpdater(SearchIndexManager indexManager,
+                              RestaurantRepository restaurantRepository,
+                              MenuRepository menuRepository,
+                              ThemeRepository themeRepository,
+                              PlatformTransactionManager transactionManager,
+                              MeterRegistry meterRegistry) {
+        this.indexManager = indexManager;
+        this.restaurantRepository = restaurantRepository;
+        this.menuRepository = menuRepository;
+        this.themeRepository = themeRepository;
+
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+
+        Gauge.builder("search.index.lag", this, SearchIndexUpdater::lagSeconds)
+                .description("가장 오래 대기 중인 색인 변경의 경과 시간")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("search.index.pending", pending, Map::size)
+                .description("색인 대기 중인 문서 수")
+                .register(meterRegistry);
+        Gauge.builder("search.index.docs", indexManager, SearchIndexManager::numDocs)
+                .description("색인된 문서 수")
+                .register(meterRegistry);
+        this.drainTimer = Timer.builder("search.index.drain").register(meterRegistry);
+        this.reindexTimer = Timer.builder("search.index.reindex").register(meterRegistry);
+    }
+
+    // ==================== 이벤트 수신 ====================
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onRestaurantChanged(RestaurantChangedEvent event) {
+        enqueue(SearchDocumentType.RESTAURANT, event.restaurantId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMenuChanged(MenuChangedEvent event) {
+        enqueue(SearchDocumentType.MENU, event.menuId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onThemeChanged(ThemeChangedEvent event) {
+        enqueue(SearchDocumentType.THEME, event.themeId());
+    }
+
+    private void enqueue(SearchDocumentType type, Long id) {
+        if (id != null) {
+            pending.putIfAbsent(SearchFields.uid(type, id), System.currentTimeMillis());
+        }
+    }
+
+    // ==================== 대기열 반영 ====================
+
+    @Scheduled(fixedDelayString = "${search.drain-interval-ms:1000}")
+    public void drain() {
+        if (pending.isEmpty() || !indexLock.tryLock()) {
+            return;
+        }
+        try {
+            drainTimer.record(this::drainPending);
+        } finally {
+            indexLock.unlock();
+        }
+    }
+
+    private void drainPending() {
+        // 먼저 대기열에서 제거한 뒤 DB를 읽음 → 처리 중 들어온 변경은 다음 주기에 다시 반영됨
+        Map<String, Long> batch = new ConcurrentHashMap<>();
+        for (String uid : new ArrayList<>(pending.keySet())) {
+            Long enqueuedAt = pending.remove(uid);
+            if (enqueuedAt != null) {
+                batch.put(uid, enqueuedAt);
+            }
+            if (batch.size() >= BATCH_SIZE) {
+                break;
+            }
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        Set<Long> restaurantIds = new HashSet<>();
+        Set<Long> menuIds = new HashSet<>();
+        Set<Long> themeIds = new HashSet<>();
+        for (String uid : batch.keySet()) {
+            int sep = uid.indexOf(':');
+            Long id = Long.valueOf(uid.substring(sep + 1));
+            switch (SearchDocumentType.valueOf(uid.substring(0, sep))) {
+                case RESTAURANT -> restaurantIds.add(id);
+                case MENU -> menuIds.add(id);
+                case THEME -> themeIds.add(id);
+            }
+        }
+
+        try {
+            readOnlyTx.executeWithoutResult(status -> {
+                applyRestaurants(restaurantIds);
+                // 식당명/상태/카테고리가 메뉴 문서에도 들어가므로 소속 메뉴도 함께 재색인
+                if (!restaurantIds.isEmpty()) {
+                    menuIds.addAll(menuRepository.findIdsByRestaurantIdIn(new ArrayList<>(restaurantIds)));
+                }
+                applyMenus(menuIds);
+                applyThemes(themeIds);
+            });
+            indexManager.refresh();
+            log.debug("검색 색인 반영 - 식당: {}, 메뉴: {}, 테마: {}",
+                    restaurantIds.size(), menuIds.size(), themeIds.size());
+        } catch (Exception e) {
+            // 실패분은 최초 적재 시각을 유지한 채 다시 대기열로
+            batch.forEach(pending::putIfAbsent);
+            log.error("검색 색인 반영 실패 - {}건 재시도 예정: {}", batch.size(), e.getMessage());
+        }
+    }
+
+    private void applyRestaurants(Set<Long> ids) {
+        if (ids.isEmpty()) return;
+        Map<Long, Restaurant> found = restaurantRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Restaurant::getId, Function.identity()));
+        for (Long id : ids) {
+            Restaurant restaurant = found.get(id);
+            apply(SearchDocumentType.RESTAURANT, id,
+                    restaurant != null ? SearchDocumentFactory.fromRestaurant(restaurant) : null);
+        }
+    }
+
+    private void applyMenus(Set<Long> ids) {
+        if (ids.isEmpty()) return;
+        Map<Long, Menu> found = menuRepository.findWithRestaurantByIdIn(new ArrayList<>(ids)).stream()
+                .collect(Collectors.toMap(Menu::getId, Function.identity()));
+        for (Long id : ids) {
+            Menu menu = found.get(id);
+            apply(SearchDocumentType.MENU, id, menu != null ? SearchDocumentFactory.fromMenu(menu) : null);
+        }
+    }
+
+    private void applyThemes(Set<Long> ids) {
+        if (ids.isEmpty()) return;
+        Map<Long, Theme> found = themeRepository.findByIdIn(new ArrayList<>(ids)).stream()
+                .collect(Collectors.toMap(Theme::getId, Function.identity()));
+        for (Long id : ids) {
+            Theme theme = found.get(id);
+            apply(SearchDocumentType.THEME, id, theme != null ? SearchDocumentFactory.fromTheme(theme) : null);
+        }
+    }
+
+    private void apply(SearchDocumentType type, Long id, Document document) {
+        String uid = SearchFields.uid(type, id);
+        if (document == null) {
+            indexManager.delete(uid);
+        } else {
+            indexManager.upsert(uid, document);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${search.commit-interval-ms:30000}")
+    public void commit() {
+        try {
+            indexManager.commitIfChanged();
+        } catch (Exception e) {
+            log.error("검색 색인 커밋 실패: {}", e.getMessage());
+        }
+    }
+
+    // ==================== 전체 재색인 ====================
+
+    /**
+     * 색인이 비어 있으면 기동 직후 전체 재색인 (최초 배포, 색인 디렉토리 유실 시)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void reindexIfEmpty() {
+        if (indexManager.numDocs() > 0) {
+            return;
+        }
+        try {
+            reindexAll();
+        } catch (Exception e) {
+            log.error("초기 검색 색인 생성 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * DB 기준으로 색인 전체 재생성
+     * - 청크마다 별도 읽기 전용 트랜잭션 → 청크 사이에 영속성 컨텍스트가 비워져 메모리 사용이 테이블 크기와 무관
+     * - 기존 색인을 지우지 않고 uid 기준으로 덮어쓰며 이번 회차 토큰을 붙임,
+     *   모든 청크가 끝난 뒤에만 토큰이 다른 문서(삭제/비공개 전환된 대상)를 삭제
+     *   → 중간에 실패해도 검색에는 이전 색인 + 이미 갱신된 문서가 보임 (일부만 있는 색인이 노출되지 않음)
+     * @return 색인된 문서 수
+     */
+    public int reindexAll() {
+        indexLock.lock();
+        try {
+            return reindexTimer.record(() -> {
+                long start = System.currentTimeMillis();
+                // 시작 시점의 대기열은 재색인이 DB를 읽으며 반영하므로 꺼내 둠 (drain과 같이 제거 후 읽기)
+                // → 재색인 중 들어온 변경은 대기열에 남고, 실패하면 꺼낸 항목을 되돌려 다음 drain에서 반영
+                Map<String, Long> snapshot = new HashMap<>();
+                for (String uid : new ArrayList<>(pending.keySet())) {
+                    Long enqueuedAt = pending.remove(uid);
+                    if (enqueuedAt != null) {
+                        snapshot.put(uid, enqueuedAt);
+                    }
+                }
+                int count;
+                try {
+                    String token = UUID.randomUUID().toString();
+
+                    count = reindex(SearchDocumentType.RESTAURANT, token,
+                            lastId -> restaurantRepository.findByIdGreaterThanOrderByIdAsc(lastId, PageRequest.of(0, BATCH_SIZE)),
+                            Restaurant::getId, SearchDocumentFactory::fromRestaurant)
+                            + reindex(SearchDocumentType.MENU, token,
+                            lastId -> menuRepository.findChunkForIndexing(lastId, PageRequest.of(0, BATCH_SIZE)),
+                            Menu::getId, SearchDocumentFactory::fromMenu)
+                            + reindex(SearchDocumentType.THEME, token,
+                            lastId -> themeRepository.findByIdGreaterThanOrderByIdAsc(lastId, PageRequest.of(0, BATCH_SIZE)),
+                            Theme::getId, SearchDocumentFactory::fromTheme);
+
+                    indexManager.deleteAllExcept(SearchFields.REINDEX_TOKEN, token);
+                    indexManager.commitIfChanged();
+                    indexManager.refresh();
+                } catch (RuntimeException e) {
+                    snapshot.forEach((uid, enqueuedAt) -> pending.merge(uid, enqueuedAt, Math::min));
+                    throw e;
+                }
+                log.info("검색 색인 전체 재생성 완료 - 문서: {}, 소요: {}ms",
+                        count, System.currentTimeMillis() - start);
+                return count;
+            });
+        } finally {
+            indexLock.unlock();
+        }
+    }
+
+    private <T> int reindex(SearchDocumentType type, String token, LongFunction<Slice<T>> chunk,
+                            Function<T, Long> idOf, Function<T, Document> toDocument) {
+        int count = 0;
+        long[] lastId = {0L};
+        ReindexChunk result;
+        do {
+            result = readOnlyTx.execute(status -> {
+                Slice<T> slice = chunk.apply(lastId[0]);
+                int added = 0;
+                for (T entity : slice) {
+                    added += addIfIndexable(type, idOf.apply(entity), toDocument.apply(entity), token);
+                    lastId[0] = idOf.apply(entity);
+                }
+                return new ReindexChunk(added, slice.hasNext());
+            });
+            count += result.added();
+        } while (result.hasNext());
+        return count;
+    }
+
+    private int addIfIndexable(SearchDocumentType type, Long id, Document document, String token) {
+        if (document == null) {
+            return 0;
+        }
+        document.add(new StringField(SearchFields.REINDEX_TOKEN, token, Field.Store.NO));
+        indexManager.upsert(SearchFields.uid(type, id), document);
+        return 1;
+    }
+
+    private record ReindexChunk(int added, boolean hasNext) {
+    }
+
+    // ==================== 지표 ====================
+
+    private double lagSeconds() {
+        long now = System.currentTimeMillis();
+        long oldest = pending.values().stream().mapToLong(Long::longValue).min().orElse(now);
+        return (now - oldest) / 1000.0;
+    }
+}
@@ -0,0 +1,210 @@
+package com.ezroad.search;
+
+import com.ezroad.dto.response.SearchResultResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.facet.FacetResult;
+import org.apache.lucene.facet.Facets;
+import org.apache.lucene.facet.FacetsCollector;
+import org.apache.lucene.facet.LabelAndValue;
+import org.apache.lucene.facet.sortedset.SortedSetDocValuesFacetCounts;
+import org.apache.lucene.facet.sortedset.SortedSetDocValuesReaderState;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.util.QueryBuilder;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Lucene 색인 통합 검색
+ *
+ * - 제목(식당명/메뉴명/테마 제목) 가중치 3, 부제목 1.5, 본문 1
+ * - type/category는 점수에 영향 없는 필터로 적용
+ * - 패싯은 필터 적용 전 검색어 기준으로 집계 (필터를 바꿔도 다른 값의 건수가 보이도록)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SearchQueryService {
+
+    private static final int MAX_SIZE = 50;
+    private static final int MAX_WINDOW = 1000;   // 깊은 페이지 제한
+    private static final int FACET_TOP_N = 30;
+
+    private final SearchIndexManager indexManager;
+
+    public SearchResultResponse search(String keyword, String type, String category, int page, int size) {
+        int safeSize = Math.max(1, Math.min(size, MAX_SIZE));
+        int safePage = Math.max(0, page);
+        String trimmed = keyword == null ? "" : keyword.trim();
+
+        Query baseQuery = buildTextQuery(trimmed);
+        if (baseQuery == null || (safePage + 1) * safeSize > MAX_WINDOW) {
+            return empty(trimmed, safePage, safeSize);
+        }
+        Query query = applyFilters(baseQuery, parseType(type), category);
+
+        IndexSearcher searcher = indexManager.acquire();
+        try {
+            int window = (safePage + 1) * safeSize;
+            TopDocs topDocs = searcher.search(query, window);
+            long total = searcher.count(query);
+
+            StoredFields storedFields = searcher.storedFields();
+            ScoreDoc[] hits = topDocs.scoreDocs;
+            List<SearchResultResponse.Item> items = new ArrayList<>();
+            for (int i = safePage * safeSize; i < hits.length; i++) {
+                items.add(toItem(storedFields.document(hits[i].doc), hits[i].score));
+            }
+
+            return SearchResultResponse.builder()
+                    .query(trimmed)
+                    .items(items)
+                    .page(safePage)
+                    .size(safeSize)
+                    .totalElements(total)
+                    .hasNext((long) window < total)
+                    .facets(collectFacets(searcher, baseQuery))
+                    .build();
+        } catch (IOException e) {
+            throw new UncheckedIOException("검색 실패", e);
+        } finally {
+            indexManager.release(searcher);
+        }
+    }
+
+    private Query buildTextQuery(String keyword) {
+        if (keyword.isEmpty()) {
+            return null;
+        }
+        QueryBuilder builder = new QueryBuilder(indexManager.getAnalyzer());
+        BooleanQuery.Builder query = new BooleanQuery.Builder();
+        boolean hasClause = false;
+
+        hasClause |= addShould(query, builder.createBooleanQuery(SearchFields.TITLE, keyword), 3f);
+        hasClause |= addShould(query, builder.createBooleanQuery(SearchFields.SUBTITLE, keyword), 1.5f);
+        hasClause |= addShould(query, builder.createBooleanQuery(SearchFields.BODY, keyword), 1f);
+
+        // 형태소 분석 후 토큰이 하나도 없으면 (불용어/기호만 입력) 결과 없음
+        return hasClause ? query.build() : null;
+    }
+
+    private boolean addShould(BooleanQuery.Builder builder, Query query, float boost) {
+        if (query == null) {
+            return false;
+        }
+        builder.add(boost == 1f ? query : new BoostQuery(query, boost), BooleanClause.Occur.SHOULD);
+        return true;
+    }
+
+    private Query applyFilters(Query baseQuery, SearchDocumentType type, String category) {
+        boolean hasCategory = category != null && !category.isBlank();
+        if (type == null && !hasCategory) {
+            return baseQuery;
+        }
+        BooleanQuery.Builder builder = new BooleanQuery.Builder()
+                .add(baseQuery, BooleanClause.Occur.MUST);
+        if (type != null) {
+            builder.add(new TermQuery(new Term(SearchFields.TYPE, type.name())), BooleanClause.Occur.FILTER);
+        }
+        if (hasCategory) {
+            builder.add(new TermQuery(new Term(SearchFields.CATEGORY, category)), BooleanClause.Occur.FILTER);
+        }
+        return builder.build();
+    }
+
+    private SearchDocumentType parseType(String type) {
+        if (type == null || type.isBlank()) {
+            return null;
+        }
+        return Arrays.stream(SearchDocumentType.values())
+                .filter(t -> t.name().equalsIgnoreCase(type.trim()))
+                .findFirst()
+                .orElse(null);
+    }
+
+    private Map<String, List<SearchResultResponse.FacetCount>> collectFacets(IndexSearcher searcher, Query baseQuery)
+            throws IOException {
+        Map<String, List<SearchResultResponse.FacetCount>> result = new LinkedHashMap<>();
+        SortedSetDocValuesReaderState state = indexManager.facetState(searcher);
+        if (state == null) {
+            return result;
+        }
+
+        FacetsCollector collector = new FacetsCollector();
+        searcher.search(baseQuery, collector);
+        Facets facets = new SortedSetDocValuesFacetCounts(state, collector);
+
+        for (String dim : List.of(SearchFields.TYPE, SearchFields.CATEGORY)) {
+            result.put(dim, topChildren(facets, dim));
+        }
+        return result;
+    }
+
+    private List<SearchResultResponse.FacetCount> topChildren(Facets facets, String dim) throws IOException {
+        FacetResult facetResult;
+        try {
+            facetResult = facets.getTopChildren(FACET_TOP_N, dim);
+        } catch (IllegalArgumentException e) {
+            // 색인에 해당 차원 값이 하나도 없는 경우
+            return List.of();
+        }
+        if (facetResult == null) {
+            return List.of();
+        }
+        List<SearchResultResponse.FacetCount> counts = new ArrayList<>();
+        for (LabelAndValue lv : facetResult.labelValues) {
+            counts.add(SearchResultResponse.FacetCount.builder()
+                    .value(lv.label)
+                    .count(lv.value.longValue())
+                    .build());
+        }
+        return counts;
+    }
+
+    private SearchResultResponse.Item toItem(Document doc, float score) {
+        return SearchResultResponse.Item.builder()
+                .type(doc.get(SearchFields.TYPE))
+                .id(storedLong(doc, SearchFields.ID))
+                .restaurantId(storedLong(doc, SearchFields.RESTAURANT_ID))
+                .title(doc.get(SearchFields.TITLE))
+                .subtitle(doc.get(SearchFields.SUBTITLE))
+                .category(doc.get(SearchFields.CATEGORY))
+                .thumbnail(doc.get(SearchFields.THUMBNAIL))
+                .score(score)
+                .build();
+    }
+
+    private Long storedLong(Document doc, String field) {
+        var value = doc.getField(field);
+        return value != null && value.numericValue() != null ? value.numericValue().longValue() : null;
+    }
+
+    private SearchResultResponse empty(String keyword, int page, int size) {
+        return SearchResultResponse.builder()
+                .query(keyword)
+                .items(List.of())
+                .page(page)
+                .size(size)
+                .totalElements(0)
+                .hasNext(false)
+                .facets(Map.of())
+                .build();
+    }
+}
@@ -0,0 +1,136 @@
+package com.ezroad.security;
+
+import java.util.Arrays;
+
+/**
+ * long → long 오픈 어드레싱 해시맵 (박싱 없음)
+ *
+ * - 선형 탐사, 삭제 시 뒤쪽 원소를 당겨오는 방식(backward shift)으로 tombstone 없음
+ * - 키 0은 빈 슬롯 표시로 사용하므로 저장 불가 (DB id는 1부터)
+ * - 동기화하지 않음: 호출 측에서 락으로 보호
+ */
+final class LongLongHashMap {
+
+    static final long NO_VALUE = 0L;
+
+    private static final float LOAD_FACTOR = 0.5f;
+
+    private long[] keys;
+    private long[] values;
+    private int mask;
+    private int size;
+
+    LongLongHashMap(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(16, (int) (expectedSize / LOAD_FACTOR)) - 1) << 1;
+        allocate(capacity);
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * @return 값, 없으면 NO_VALUE
+     */
+    long get(long key) {
+        int index = indexOf(key);
+        while (true) {
+            long k = keys[index];
+            if (k == key) {
+                return values[index];
+            }
+            if (k == 0L) {
+                return NO_VALUE;
+            }
+            index = (index + 1) & mask;
+        }
+    }
+
+    void put(long key, long value) {
+        if (key == 0L) {
+            throw new IllegalArgumentException("key 0 is reserved");
+        }
+        int index = indexOf(key);
+        while (true) {
+            long k = keys[index];
+            if (k == key) {
+                values[index] = value;
+                return;
+            }
+            if (k == 0L) {
+                keys[index] = key;
+                values[index] = value;
+                if (++size > (mask + 1) * LOAD_FACTOR) {
+                    rehash((mask + 1) << 1);
+                }
+                return;
+            }
+            index = (index + 1) & mask;
+        }
+    }
+
+    void remove(long key) {
+        int index = indexOf(key);
+        while (true) {
+            long k = keys[index];
+            if (k == 0L) {
+                return;
+            }
+            if (k == key) {
+                break;
+            }
+            index = (index + 1) & mask;
+        }
+        size--;
+
+        // 삭제 위치 뒤의 클러스터를 당겨와 탐사 경로 유지
+        int gap = index;
+        int next = (gap + 1) & mask;
+        while (keys[next] != 0L) {
+            int home = indexOf(keys[next]);
+            // home이 (gap, next] 순환 구간 밖이면 gap으로 이동 가능
+            boolean movable = gap <= next ? (home <= gap || home > next) : (home <= gap && home > next);
+            if (movable) {
+                keys[gap] = keys[next];
+                values[gap] = values[next];
+                gap = next;
+            }
+            next = (next + 1) & mask;
+        }
+        keys[gap] = 0L;
+        values[gap] = 0L;
+    }
+
+    void clear() {
+        Arrays.fill(keys, 0L);
+        Arrays.fill(values, 0L);
+        size = 0;
+    }
+
+    private int indexOf(long key) {
+        // 연속된 id가 인접 슬롯에 몰리지 않도록 혼합 (murmur3 finalizer)
+        long h = key;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        return (int) h & mask;
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new long[capacity];
+        mask = capacity - 1;
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        long[] oldValues = values;
+        allocate(capacity);
+        size = 0;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != 0L) {
+                put(oldKeys[i], oldValues[i]);
+            }
+        }
+    }
+}
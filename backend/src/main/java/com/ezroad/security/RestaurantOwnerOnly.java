@@ -0,0 +1,21 @@
+package com.ezroad.security;
+
+import org.springframework.security.access.prepost.PreAuthorize;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 식당 소유자만 호출 가능 (RestaurantOwnershipIndex 조회, 엔티티 로딩 없음)
+ *
+ * 대상 메서드에는 restaurantId 파라미터가 있어야 함. 소유자가 아니면 AccessDeniedException(403)
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@PreAuthorize("@restaurantOwnershipIndex.isOwner(#restaurantId, principal)")
+public @interface RestaurantOwnerOnly {
+}
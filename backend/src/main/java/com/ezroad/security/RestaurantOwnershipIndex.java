@@ -0,0 +1,156 @@
+package com.ezroad.security;
+
+import com.ezroad.event.RestaurantChangedEvent;
+import com.ezroad.exception.ResourceNotFoundException;
+import com.ezroad.exception.UnauthorizedException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * 식당 소유자 인덱스 (restaurantId → ownerId)
+ *
+ * - 권한 확인마다 식당/소유자 엔티티를 읽던 것을 메모리 조회로 대체
+ * - 기동 시 전체 적재, 식당 변경 이벤트(등록/삭제/상태 변경) 커밋 후 해당 식당만 DB에서 다시 읽음
+ * - 인덱스에 없으면 DB에서 한 번 읽어 채움 (다른 인스턴스에서 등록된 식당 등)
+ * - 읽기는 StampedLock 낙관적 읽기 → 쓰기와 겹친 경우에만 읽기 락으로 재시도
+ *
+ * @see RestaurantOwnerOnly
+ */
+@Slf4j
+@Component("restaurantOwnershipIndex")
+public class RestaurantOwnershipIndex {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final StampedLock lock = new StampedLock();
+    private final LongLongHashMap owners = new LongLongHashMap(1024);
+
+    public RestaurantOwnershipIndex(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        try {
+            long stamp = lock.writeLock();
+            try {
+                owners.clear();
+                jdbcTemplate.query("SELECT id, owner_id FROM restaurants",
+                        (RowCallbackHandler) rs -> owners.put(rs.getLong(1), rs.getLong(2)));
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+            log.info("식당 소유자 인덱스 적재 완료 - {}건", size());
+        } catch (Exception e) {
+            // 적재 실패 시에도 조회 시 DB에서 채워지므로 동작에는 문제 없음
+            log.error("식당 소유자 인덱스 적재 실패: {}", e.getMessage());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onRestaurantChanged(RestaurantChangedEvent event) {
+        Long ownerId = loadOwnerId(event.restaurantId());
+        long stamp = lock.writeLock();
+        try {
+            if (ownerId != null) {
+                owners.put(event.restaurantId(), ownerId);
+            } else {
+                owners.remove(event.restaurantId());
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * @return 소유자 id, 존재하지 않는 식당이면 null
+     */
+    public Long getOwnerId(Long restaurantId) {
+        if (restaurantId == null) {
+            return null;
+        }
+        long ownerId = read(restaurantId);
+        if (ownerId != LongLongHashMap.NO_VALUE) {
+            return ownerId;
+        }
+
+        Long loaded = loadOwnerId(restaurantId);
+        if (loaded != null) {
+            long stamp = lock.writeLock();
+            try {
+                owners.put(restaurantId, loaded);
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * 메서드 보안 표현식용 (@RestaurantOwnerOnly). principal이 회원 id(Long)가 아니면 false
+     */
+    public boolean isOwner(Long restaurantId, Object principal) {
+        if (!(principal instanceof Long memberId)) {
+            return false;
+        }
+        return memberId.equals(getOwnerId(restaurantId));
+    }
+
+    /**
+     * 소유자 확인 (엔티티 로딩 없이)
+     * @throws ResourceNotFoundException 존재하지 않는 식당
+     * @throws UnauthorizedException     소유자가 아님
+     */
+    public void requireOwner(Long restaurantId, Long memberId, String message) {
+        Long ownerId = getOwnerId(restaurantId);
+        if (ownerId == null) {
+            throw new ResourceNotFoundException("존재하지 않는 식당입니다");
+        }
+        if (!ownerId.equals(memberId)) {
+            throw new UnauthorizedException(message);
+        }
+    }
+
+    public int size() {
+        long stamp = lock.readLock();
+        try {
+            return owners.size();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    private long read(long restaurantId) {
+        long stamp = lock.tryOptimisticRead();
+        if (stamp != 0L) {
+            try {
+                long ownerId = owners.get(restaurantId);
+                if (lock.validate(stamp)) {
+                    return ownerId;
+                }
+            } catch (RuntimeException e) {
+                // 재해시 중 배열이 교체되면 인덱스가 어긋날 수 있음 → 읽기 락으로 재시도
+            }
+        }
+        stamp = lock.readLock();
+        try {
+            return owners.get(restaurantId);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    private Long loadOwnerId(Long restaurantId) {
+        List<Long> result = jdbcTemplate.queryForList(
+                "SELECT owner_id FROM restaurants WHERE id = ?", Long.class, restaurantId);
+        return result.isEmpty() ? null : result.get(0);
+    }
+}
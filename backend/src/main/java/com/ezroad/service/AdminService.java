@@ -7,10 +7,15 @@ import com.ezroad.entity.Member;
 import com.ezroad.entity.MemberRole;
 import com.ezroad.entity.Restaurant;
 import com.ezroad.entity.RestaurantStatus;
+import com.ezroad.entity.Review;
+import com.ezroad.event.RestaurantChangedEvent;
+import com.ezroad.event.ReviewChangedEvent;
 import com.ezroad.exception.ResourceNotFoundException;
+import com.ezroad.rating.RestaurantRatingService;
 import com.ezroad.repository.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -32,6 +37,8 @@ public class AdminService {
     private final ReviewRepository reviewRepository;
     private final ReservationRepository reservationRepository;
     private final WaitingRepository waitingRepository;
+    private final RestaurantRatingService restaurantRatingService;
+    private final ApplicationEventPublisher eventPublisher;
 
     // ==================== 대시보드 통계 ====================
 
@@ -139,6 +146,7 @@ public class AdminService {
 
         RestaurantStatus newStatus = RestaurantStatus.valueOf(status);
         restaurant.updateStatus(newStatus);
+        eventPublisher.publishEvent(new RestaurantChangedEvent(id));
 
         return RestaurantResponse.from(restaurant);
     }
@@ -149,6 +157,7 @@ public class AdminService {
                 .orElseThrow(() -> new ResourceNotFoundException("존재하지 않는 식당입니다"));
 
         restaurant.updateStatus(RestaurantStatus.DELETED);
+        eventPublisher.publishEvent(new RestaurantChangedEvent(id));
     }
 
     // ==================== 리뷰 관리 ====================
@@ -160,9 +169,13 @@ public class AdminService {
 
     @Transactional
     public void deleteReview(Long id) {
-        if (!reviewRepository.existsById(id)) {
-            throw new ResourceNotFoundException("존재하지 않는 리뷰입니다");
+        Review review = reviewRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("존재하지 않는 리뷰입니다"));
+        if (review.getDeletedAt() == null) {
+            restaurantRatingService.reviewRemoved(review.getRestaurant().getId(), id, review.getRating(),
+                    Boolean.TRUE.equals(review.getHasPhoto()));
         }
-        reviewRepository.deleteById(id);
+        reviewRepository.delete(review);
+        eventPublisher.publishEvent(new ReviewChangedEvent(id, review.getRestaurant().getId()));
     }
 }
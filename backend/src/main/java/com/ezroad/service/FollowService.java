@@ -7,13 +7,17 @@ import com.ezroad.entity.Follow;
 import com.ezroad.entity.Member;
 import com.ezroad.entity.NotificationType;
 import com.ezroad.entity.Restaurant;
+import com.ezroad.event.FollowChangedEvent;
+import com.ezroad.event.RestaurantActivityEvent;
 import com.ezroad.exception.DuplicateResourceException;
 import com.ezroad.exception.ResourceNotFoundException;
 import com.ezroad.repository.FollowRepository;
 import com.ezroad.repository.MemberRepository;
 import com.ezroad.repository.RestaurantRepository;
+import com.ezroad.trending.TrendingSignal;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -31,6 +35,7 @@ public class FollowService {
     private final MemberRepository memberRepository;
     private final RestaurantRepository restaurantRepository;
     private final NotificationService notificationService;
+    private final ApplicationEventPublisher eventPublisher;
 
     // ==================== 식당 팔로우 ====================
 
@@ -52,6 +57,8 @@ public class FollowService {
                 .build();
 
         followRepository.save(follow);
+        eventPublisher.publishEvent(new FollowChangedEvent(memberId));
+        eventPublisher.publishEvent(new RestaurantActivityEvent(restaurantId, TrendingSignal.FOLLOW));
     }
 
     @Transactional
@@ -60,6 +67,7 @@ public class FollowService {
                 .orElseThrow(() -> new ResourceNotFoundException("팔로우하지 않은 식당입니다"));
 
         followRepository.delete(follow);
+        eventPublisher.publishEvent(new FollowChangedEvent(memberId));
     }
 
     public Page<RestaurantResponse> getMyFollowedRestaurants(Long memberId, Pageable pageable) {
@@ -103,6 +111,7 @@ public class FollowService {
                 .build();
 
         followRepository.save(follow);
+        eventPublisher.publishEvent(new FollowChangedEvent(followerId));
         
         // 🔔 팔로우 당한 사람에게 알림 발송
         notificationService.sendNotification(
@@ -124,6 +133,7 @@ public class FollowService {
                 .orElseThrow(() -> new ResourceNotFoundException("팔로우하지 않은 회원입니다"));
 
         followRepository.delete(follow);
+        eventPublisher.publishEvent(new FollowChangedEvent(followerId));
     }
 
     // 나의 팔로워 목록 (나를 팔로우하는 사람들)
@@ -145,6 +155,7 @@ public class FollowService {
                 .orElseThrow(() -> new ResourceNotFoundException("해당 팔로워를 찾을 수 없습니다"));
 
         followRepository.delete(follow);
+        eventPublisher.publishEvent(new FollowChangedEvent(followerId));
     }
 
     // 회원 팔로우 여부 확인
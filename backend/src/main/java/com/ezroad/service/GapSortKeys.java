@@ -0,0 +1,118 @@
+package com.ezroad.service;
+
+import java.util.Arrays;
+
+/**
+ * 간격을 둔 정렬 키 (테마 식당 순서)
+ *
+ * - 새 항목은 마지막 키 + GAP → 사이에 끼워 넣을 자리를 남겨 둠
+ * - 순서 변경 시 기존 키 순서를 유지할 수 있는 최대 집합(최장 증가 부분 수열)은 그대로 두고,
+ *   나머지만 앞뒤 키 사이 값으로 다시 매김 → 드래그 한 번이면 한 행만 바뀜
+ * - 사이에 들어갈 정수가 없거나 int 범위를 벗어나면 전체를 GAP 간격으로 다시 매김
+ */
+public final class GapSortKeys {
+
+    public static final int GAP = 1024;
+
+    private GapSortKeys() {
+    }
+
+    /**
+     * 맨 뒤에 추가할 키
+     */
+    public static int next(Integer maxKey) {
+        long next = (maxKey != null ? maxKey : 0L) + GAP;
+        return next > Integer.MAX_VALUE ? Integer.MAX_VALUE : (int) next;
+    }
+
+    /**
+     * @param keys 새 순서대로 나열한 각 항목의 현재 키
+     * @return 새 순서대로의 키 (바뀌지 않은 항목은 현재 키 그대로)
+     */
+    public static int[] reassign(int[] keys) {
+        int n = keys.length;
+        boolean[] kept = keptPositions(keys);
+        long[] result = new long[n];
+        for (int i = 0; i < n; i++) {
+            result[i] = keys[i];
+        }
+
+        int i = 0;
+        while (i < n) {
+            if (kept[i]) {
+                i++;
+                continue;
+            }
+            int start = i;
+            while (i < n && !kept[i]) {
+                i++;
+            }
+            int count = i - start;
+            boolean hasLow = start > 0;
+            boolean hasHigh = i < n;
+            long low;
+            long high;
+            if (hasLow && hasHigh) {
+                low = keys[start - 1];
+                high = keys[i];
+            } else if (hasLow) {
+                low = keys[start - 1];
+                high = low + (long) (count + 1) * GAP;
+            } else if (hasHigh) {
+                high = keys[i];
+                low = high - (long) (count + 1) * GAP;
+            } else {
+                low = 0;
+                high = (long) (count + 1) * GAP;
+            }
+            long step = (high - low) / (count + 1);
+            if (step < 1 || low < Integer.MIN_VALUE || high > Integer.MAX_VALUE) {
+                return renumber(n);
+            }
+            for (int j = 0; j < count; j++) {
+                result[start + j] = low + step * (j + 1);
+            }
+        }
+        return Arrays.stream(result).mapToInt(key -> (int) key).toArray();
+    }
+
+    private static int[] renumber(int n) {
+        int[] result = new int[n];
+        for (int i = 0; i < n; i++) {
+            result[i] = (i + 1) * GAP;
+        }
+        return result;
+    }
+
+    /**
+     * 최장 증가 부분 수열 위치 (O(n log n))
+     */
+    private static boolean[] keptPositions(int[] keys) {
+        int n = keys.length;
+        int[] tails = new int[n];
+        int[] previous = new int[n];
+        int length = 0;
+        for (int i = 0; i < n; i++) {
+            int lo = 0;
+            int hi = length;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (keys[tails[mid]] < keys[i]) {
+                    lo = mid + 1;
+                } else {
+                    hi = mid;
+                }
+            }
+            previous[i] = lo > 0 ? tails[lo - 1] : -1;
+            tails[lo] = i;
+            if (lo == length) {
+                length++;
+            }
+        }
+        boolean[] kept = new boolean[n];
+        for (int i = length > 0 ? tails[length - 1] : -1; i >= 0; i = previous[i]) {
+            kept[i] = true;
+        }
+        return kept;
+    }
+}
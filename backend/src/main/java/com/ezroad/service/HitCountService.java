@@ -0,0 +1,109 @@
+package com.ezroad.service;
+
+import com.ezroad.ranking.BestReviewService;
+import com.ezroad.ranking.ThemeLeaderboardService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * 리뷰 조회수(hit) / 테마 조회수 버퍼링
+ *
+ * - 상세 조회마다 엔티티를 수정(쓰기 트랜잭션 + 행 UPDATE)하던 것을 메모리 버퍼에 누적하고 주기적으로 일괄 반영
+ * - 반영 방식은 식당 조회수(RestaurantViewCountService)와 동일: batch UPDATE, id 순
+ * - 응답의 조회수 = DB 값 + 아직 반영되지 않은 증가분
+ *   (테마는 상세 캐시를 무효화하지 않도록 반영된 조회수를 Redis 사본 theme:views:{id}에서 읽음)
+ * - 엔티티의 조회수 컬럼은 updatable = false (엔티티 flush가 반영분을 덮어쓰지 않도록)
+ * - 리뷰 조회수 반영 후 해당 리뷰의 베스트 리뷰 점수 갱신, 테마 조회수 반영 후 인기 테마 순위 + 조회수 사본 갱신
+ */
+@Slf4j
+@Service
+public class HitCountService {
+
+    private static final String REVIEW_UPDATE_SQL = "UPDATE reviews SET hit = hit + ? WHERE id = ?";
+    private static final String THEME_UPDATE_SQL = "UPDATE themes SET view_count = view_count + ? WHERE id = ?";
+    private static final String THEME_SELECT_SQL = "SELECT view_count FROM themes WHERE id = ?";
+    private static final Duration MIRROR_TTL = Duration.ofHours(1);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BestReviewService bestReviewService;
+    private final ThemeLeaderboardService themeLeaderboardService;
+    private final ViewCountMirror themeViewCounts;
+    private final ViewCountBuffer reviewHits = new ViewCountBuffer();
+    private final ViewCountBuffer themeViews = new ViewCountBuffer();
+
+    public HitCountService(JdbcTemplate jdbcTemplate,
+                           BestReviewService bestReviewService,
+                           ThemeLeaderboardService themeLeaderboardService,
+                           StringRedisTemplate stringRedisTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.bestReviewService = bestReviewService;
+        this.themeLeaderboardService = themeLeaderboardService;
+        this.themeViewCounts = new ViewCountMirror(stringRedisTemplate, "theme:views:", MIRROR_TTL);
+    }
+
+    public void recordReviewHits(Long reviewId, long hits) {
+        reviewHits.add(reviewId, hits);
+    }
+
+    public long getPendingReviewHits(Long reviewId) {
+        return reviewHits.pending(reviewId);
+    }
+
+    public void recordThemeView(Long themeId) {
+        themeViews.increment(themeId);
+    }
+
+    public void recordThemeViews(Long themeId, long views) {
+        themeViews.add(themeId, views);
+    }
+
+    /**
+     * 현재 테마 조회수 (반영분 + 미반영분)
+     * @param cachedViewCount 캐시 문서의 조회수 (사본을 읽을 수 없을 때 기준값)
+     */
+    public long getThemeViewCount(Long themeId, long cachedViewCount) {
+        long flushed = themeViewCounts.get(themeId, cachedViewCount, () -> {
+            Long viewCount = jdbcTemplate.queryForObject(THEME_SELECT_SQL, Long.class, themeId);
+            return viewCount != null ? viewCount : 0L;
+        });
+        return flushed + themeViews.pending(themeId);
+    }
+
+    @Scheduled(fixedDelayString = "${view-count.flush-interval-ms:10000}")
+    public void flush() {
+        Map<Long, Long> flushedHits = flush(reviewHits, REVIEW_UPDATE_SQL, "리뷰 조회수");
+        if (!flushedHits.isEmpty()) {
+            bestReviewService.onHitsFlushed(flushedHits.keySet());
+        }
+        Map<Long, Long> flushedViews = flush(themeViews, THEME_UPDATE_SQL, "테마 조회수");
+        if (!flushedViews.isEmpty()) {
+            themeLeaderboardService.onViewsFlushed(flushedViews);
+            themeViewCounts.addFlushed(flushedViews);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private Map<Long, Long> flush(ViewCountBuffer buffer, String sql, String label) {
+        try {
+            Map<Long, Long> flushed = buffer.flushTo(jdbcTemplate, sql);
+            if (!flushed.isEmpty()) {
+                log.debug("{} 반영 - {}건", label, flushed.size());
+            }
+            return flushed;
+        } catch (Exception e) {
+            log.error("{} 반영 실패 (다음 주기에 재시도): {}", label, e.getMessage());
+            return Map.of();
+        }
+    }
+}
@@ -4,12 +4,14 @@ import com.ezroad.dto.request.MenuCreateRequest;
 import com.ezroad.dto.response.MenuResponse;
 import com.ezroad.entity.Menu;
 import com.ezroad.entity.Restaurant;
+import com.ezroad.event.MenuChangedEvent;
 import com.ezroad.exception.ResourceNotFoundException;
-import com.ezroad.exception.UnauthorizedException;
 import com.ezroad.repository.MenuRepository;
 import com.ezroad.repository.RestaurantRepository;
+import com.ezroad.security.RestaurantOwnershipIndex;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,16 +25,14 @@ public class MenuService {
 
     private final MenuRepository menuRepository;
     private final RestaurantRepository restaurantRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final RestaurantOwnershipIndex restaurantOwnershipIndex;
 
     @Transactional
     public MenuResponse createMenu(Long memberId, MenuCreateRequest request) {
-        Restaurant restaurant = restaurantRepository.findById(request.getRestaurantId())
-                .orElseThrow(() -> new ResourceNotFoundException("존재하지 않는 식당입니다"));
-
-        // 권한 체크
-        if (!restaurant.getOwner().getId().equals(memberId)) {
-            throw new UnauthorizedException("메뉴 등록 권한이 없습니다");
-        }
+        // 권한 체크 (소유자 인덱스, 식당 조회 없이 확인 후 참조만 연결)
+        restaurantOwnershipIndex.requireOwner(request.getRestaurantId(), memberId, "메뉴 등록 권한이 없습니다");
+        Restaurant restaurant = restaurantRepository.getReferenceById(request.getRestaurantId());
 
         Menu menu = Menu.builder()
                 .restaurant(restaurant)
@@ -43,6 +43,7 @@ public class MenuService {
                 .build();
 
         Menu saved = menuRepository.save(menu);
+        eventPublisher.publishEvent(new MenuChangedEvent(saved.getId()));
         return MenuResponse.from(saved);
     }
 
@@ -65,11 +66,10 @@ public class MenuService {
                 .orElseThrow(() -> new ResourceNotFoundException("존재하지 않는 메뉴입니다"));
 
         // 권한 체크
-        if (!menu.getRestaurant().getOwner().getId().equals(memberId)) {
-            throw new UnauthorizedException("메뉴 수정 권한이 없습니다");
-        }
+        restaurantOwnershipIndex.requireOwner(menu.getRestaurant().getId(), memberId, "메뉴 수정 권한이 없습니다");
 
         menu.update(request.getName(), request.getPrice(), request.getDescription(), request.getThumbnail());
+        eventPublisher.publishEvent(new MenuChangedEvent(menuId));
         return MenuResponse.from(menu);
     }
 
@@ -79,11 +79,10 @@ public class MenuService {
                 .orElseThrow(() -> new ResourceNotFoundException("존재하지 않는 메뉴입니다"));
 
         // 권한 체크
-        if (!menu.getRestaurant().getOwner().getId().equals(memberId)) {
-            throw new UnauthorizedException("메뉴 수정 권한이 없습니다");
-        }
+        restaurantOwnershipIndex.requireOwner(menu.getRestaurant().getId(), memberId, "메뉴 수정 권한이 없습니다");
 
         menu.toggleVisibility();
+        eventPublisher.publishEvent(new MenuChangedEvent(menuId));
         return MenuResponse.from(menu);
     }
 
@@ -93,10 +92,9 @@ public class MenuService {
                 .orElseThrow(() -> new ResourceNotFoundException("존재하지 않는 메뉴입니다"));
 
         // 권한 체크
-        if (!menu.getRestaurant().getOwner().getId().equals(memberId)) {
-            throw new UnauthorizedException("메뉴 삭제 권한이 없습니다");
-        }
+        restaurantOwnershipIndex.requireOwner(menu.getRestaurant().getId(), memberId, "메뉴 삭제 권한이 없습니다");
 
         menuRepository.delete(menu);
+        eventPublisher.publishEvent(new MenuChangedEvent(menuId));
     }
 }
@@ -1,5 +1,7 @@
 package com.ezroad.service;
 
+import com.ezroad.dto.CursorToken;
+import com.ezroad.dto.response.CursorResponse;
 import com.ezroad.dto.response.NotificationResponse;
 import com.ezroad.entity.Member;
 import com.ezroad.entity.Notification;
@@ -10,6 +12,7 @@ import com.ezroad.repository.NotificationRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
@@ -119,6 +122,18 @@ public class NotificationService {
                 .map(NotificationResponse::from);
     }
 
+    /**
+     * 알림 목록 조회 (커서 페이지네이션)
+     */
+    public CursorResponse<NotificationResponse> getNotificationsByCursor(Long memberId, String cursor, int size) {
+        CursorToken token = CursorToken.decode(cursor, CursorToken.FIRST_BY_DATE_TIME);
+        return CursorResponse.of(
+                notificationRepository.findSliceByReceiverId(memberId, token.sortKeyAsDateTime(), token.id(),
+                        PageRequest.of(0, Math.max(1, Math.min(size, 50)))),
+                NotificationResponse::from,
+                n -> CursorToken.of(n.getCreatedAt(), n.getId()));
+    }
+
     /**
      * 읽지 않은 알림 수
      */
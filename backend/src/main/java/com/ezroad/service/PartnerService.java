@@ -2,7 +2,10 @@ package com.ezroad.service;
 
 import com.ezroad.dto.response.RestaurantResponse;
 import com.ezroad.entity.Restaurant;
+import com.ezroad.rating.RatingSummary;
+import com.ezroad.rating.RestaurantRatingService;
 import com.ezroad.repository.*;
+import com.ezroad.security.RestaurantOwnershipIndex;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -25,6 +28,8 @@ public class PartnerService {
     private final ReviewRepository reviewRepository;
     private final ReservationRepository reservationRepository;
     private final FollowRepository followRepository;
+    private final RestaurantRatingService restaurantRatingService;
+    private final RestaurantOwnershipIndex restaurantOwnershipIndex;
 
     /**
      * 내 식당 목록 조회
@@ -66,9 +71,11 @@ public class PartnerService {
         int ratingCount = 0;
         
         for (Restaurant restaurant : myRestaurants) {
-            Long reviewCount = reviewRepository.countByRestaurantIdAndDeletedAtIsNull(restaurant.getId());
+            // 리뷰 수/평점은 식당 집계 컬럼 사용
+            long reviewCount = restaurant.getReviewCount() != null ? restaurant.getReviewCount() : 0;
             Long followerCount = followRepository.countByRestaurantId(restaurant.getId());
-            Double avgRating = reviewRepository.findAverageRatingByRestaurantId(restaurant.getId()).orElse(0.0);
+            double avgRating = reviewCount > 0 && restaurant.getRatingSum() != null
+                    ? (double) restaurant.getRatingSum() / reviewCount : 0.0;
             
             totalReviews += reviewCount;
             totalFollowers += followerCount;
@@ -121,18 +128,19 @@ public class PartnerService {
     public Map<String, Object> getRestaurantStats(Long ownerId, Long restaurantId) {
         Map<String, Object> stats = new HashMap<>();
         
+        // 권한 확인
+        restaurantOwnershipIndex.requireOwner(restaurantId, ownerId, "권한이 없습니다");
+
         Restaurant restaurant = restaurantRepository.findById(restaurantId)
                 .orElseThrow(() -> new RuntimeException("식당을 찾을 수 없습니다"));
         
-        // 권한 확인
-        if (!restaurant.getOwner().getId().equals(ownerId)) {
-            throw new RuntimeException("권한이 없습니다");
-        }
+        RatingSummary rating = restaurantRatingService.getSummary(restaurantId);
         
         stats.put("restaurant", RestaurantResponse.from(restaurant));
-        stats.put("reviewCount", reviewRepository.countByRestaurantIdAndDeletedAtIsNull(restaurantId));
+        stats.put("reviewCount", rating.count());
         stats.put("followerCount", followRepository.countByRestaurantId(restaurantId));
-        stats.put("avgRating", reviewRepository.findAverageRatingByRestaurantId(restaurantId).orElse(0.0));
+        stats.put("avgRating", rating.average());
+        stats.put("ratingDistribution", rating.distribution());
         stats.put("reservationCount", reservationRepository.findByRestaurantIdOrderByReservationDateDesc(restaurantId).size());
         
         return stats;
@@ -13,6 +13,7 @@ import com.ezroad.exception.UnauthorizedException;
 import com.ezroad.repository.MemberRepository;
 import com.ezroad.repository.ReservationRepository;
 import com.ezroad.repository.RestaurantRepository;
+import com.ezroad.security.RestaurantOwnershipIndex;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -30,6 +31,7 @@ public class ReservationService {
     private final MemberRepository memberRepository;
     private final RestaurantRepository restaurantRepository;
     private final NotificationService notificationService;
+    private final RestaurantOwnershipIndex restaurantOwnershipIndex;
 
     // 예약 목록 조회 (회원별)
     public Page<ReservationResponse> getReservationsByMember(Long memberId, Pageable pageable) {
@@ -107,9 +109,7 @@ public class ReservationService {
         Reservation reservation = reservationRepository.findById(reservationId)
                 .orElseThrow(() -> new ResourceNotFoundException("존재하지 않는 예약입니다"));
         
-        if (!reservation.getRestaurant().getOwner().getId().equals(ownerId)) {
-            throw new UnauthorizedException("예약 확정 권한이 없습니다");
-        }
+        restaurantOwnershipIndex.requireOwner(reservation.getRestaurant().getId(), ownerId, "예약 확정 권한이 없습니다");
 
         reservation.updateStatus(ReservationStatus.CONFIRMED);
         
@@ -140,7 +140,7 @@ public class ReservationService {
 
         // 예약자 본인이거나 식당 주인인 경우 취소 가능
         boolean isReservationOwner = reservation.getMember().getId().equals(memberId);
-        boolean isRestaurantOwner = reservation.getRestaurant().getOwner().getId().equals(memberId);
+        boolean isRestaurantOwner = restaurantOwnershipIndex.isOwner(reservation.getRestaurant().getId(), memberId);
         
         if (!isReservationOwner && !isRestaurantOwner) {
             throw new UnauthorizedException("예약 취소 권한이 없습니다");
@@ -192,9 +192,7 @@ public class ReservationService {
         Reservation reservation = reservationRepository.findById(reservationId)
                 .orElseThrow(() -> new ResourceNotFoundException("존재하지 않는 예약입니다"));
         
-        if (!reservation.getRestaurant().getOwner().getId().equals(ownerId)) {
-            throw new UnauthorizedException("예약 완료 처리 권한이 없습니다");
-        }
+        restaurantOwnershipIndex.requireOwner(reservation.getRestaurant().getId(), ownerId, "예약 완료 처리 권한이 없습니다");
 
         reservation.updateStatus(ReservationStatus.COMPLETED);
         
@@ -0,0 +1,151 @@
+package com.ezroad.service;
+
+import com.ezroad.dto.response.RestaurantResponse;
+import com.ezroad.event.RestaurantChangedEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * 식당 상세(RestaurantResponse) 2단계 캐시
+ *
+ * 조회 순서: 로컬(Caffeine) → Redis → DB
+ * - 로컬: 크기/TTL 제한, 노드별 보관
+ * - Redis: 노드 간 공유 (JSON 직렬화), restaurant:detail:{id}
+ * - 무효화: 식당 변경 이벤트(커밋 후) → Redis 삭제 + 무효화 채널 발행 → 모든 노드의 로컬 캐시 제거
+ * - 캐시 값의 viewCount는 저장 시점 값이며, 조회 시 호출 측에서 현재 조회수로 바꿈
+ *   (RestaurantViewCountService, 조회수 반영으로는 무효화하지 않음)
+ */
+@Slf4j
+@Service
+public class RestaurantCacheService {
+
+    private static final String KEY_PREFIX = "restaurant:detail:";
+    public static final String EVICT_CHANNEL = "restaurant:cache:evict";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final Cache<Long, RestaurantResponse> localCache;
+    private final Duration redisTtl;
+    private final Counter redisHits;
+    private final Counter redisMisses;
+
+    public RestaurantCacheService(StringRedisTemplate stringRedisTemplate,
+                                  ObjectMapper objectMapper,
+                                  RedisMessageListenerContainer listenerContainer,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${cache.restaurant.local-max-size:5000}") long localMaxSize,
+                                  @Value("${cache.restaurant.local-ttl-seconds:300}") long localTtlSeconds,
+                                  @Value("${cache.restaurant.redis-ttl-seconds:1800}") long redisTtlSeconds) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.objectMapper = objectMapper;
+        this.listenerContainer = listenerContainer;
+        this.redisTtl = Duration.ofSeconds(redisTtlSeconds);
+
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(localTtlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, localCache, "restaurant.detail.local");
+
+        this.redisHits = Counter.builder("restaurant.detail.redis")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.redisMisses = Counter.builder("restaurant.detail.redis")
+                .tag("result", "miss")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 다른 노드에서 발행한 무효화 메시지 수신 → 로컬 캐시 제거
+     */
+    @PostConstruct
+    public void subscribeEvictions() {
+        listenerContainer.addMessageListener((message, pattern) -> {
+            try {
+                // 메시지: 쉼표로 구분된 식당 id 목록
+                for (String id : new String(message.getBody(), StandardCharsets.UTF_8).split(",")) {
+                    localCache.invalidate(Long.valueOf(id.trim()));
+                }
+            } catch (NumberFormatException e) {
+                log.warn("잘못된 캐시 무효화 메시지: {}", e.getMessage());
+            }
+        }, new ChannelTopic(EVICT_CHANNEL));
+    }
+
+    public RestaurantResponse get(Long restaurantId, Supplier<RestaurantResponse> loader) {
+        RestaurantResponse local = localCache.getIfPresent(restaurantId);
+        if (local != null) {
+            return local;
+        }
+
+        RestaurantResponse shared = readRedis(restaurantId);
+        if (shared != null) {
+            localCache.put(restaurantId, shared);
+            return shared;
+        }
+
+        RestaurantResponse loaded = loader.get();
+        writeRedis(restaurantId, loaded);
+        localCache.put(restaurantId, loaded);
+        return loaded;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onRestaurantChanged(RestaurantChangedEvent event) {
+        evict(event.restaurantId());
+    }
+
+    public void evict(Long restaurantId) {
+        localCache.invalidate(restaurantId);
+        try {
+            stringRedisTemplate.delete(KEY_PREFIX + restaurantId);
+            stringRedisTemplate.convertAndSend(EVICT_CHANNEL, restaurantId.toString());
+        } catch (Exception e) {
+            // Redis 장애 시 다른 노드의 로컬 캐시는 TTL 만료로 정리됨
+            log.error("식당 캐시 무효화 실패 - restaurantId: {}, {}", restaurantId, e.getMessage());
+        }
+    }
+
+    private RestaurantResponse readRedis(Long restaurantId) {
+        try {
+            String json = stringRedisTemplate.opsForValue().get(KEY_PREFIX + restaurantId);
+            if (json == null) {
+                redisMisses.increment();
+                return null;
+            }
+            redisHits.increment();
+            return objectMapper.readValue(json, RestaurantResponse.class);
+        } catch (Exception e) {
+            log.error("Redis 식당 캐시 조회 실패 - restaurantId: {}, {}", restaurantId, e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeRedis(Long restaurantId, RestaurantResponse response) {
+        try {
+            stringRedisTemplate.opsForValue().set(KEY_PREFIX + restaurantId,
+                    objectMapper.writeValueAsString(response), redisTtl);
+        } catch (Exception e) {
+            log.error("Redis 식당 캐시 저장 실패 - restaurantId: {}, {}", restaurantId, e.getMessage());
+        }
+    }
+}
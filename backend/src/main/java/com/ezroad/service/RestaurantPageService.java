@@ -0,0 +1,156 @@
+package com.ezroad.service;
+
+import com.ezroad.dto.response.CursorResponse;
+import com.ezroad.dto.response.MenuResponse;
+import com.ezroad.dto.response.RestaurantPageResponse;
+import com.ezroad.dto.response.RestaurantResponse;
+import com.ezroad.dto.response.ReviewResponse;
+import com.ezroad.rating.ReviewSummary;
+import com.ezroad.rating.ReviewSummaryService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * 식당 상세 페이지 통합 조회
+ *
+ * - 화면 진입 시 6회 가까이 나가던 API 호출(상세/메뉴/리뷰/평점/대기/팔로우)을 1회로 합침
+ * - 섹션별 조회는 pageExecutor에서 병렬 실행 (각자 독립된 읽기 트랜잭션)
+ * - 식당 본문 조회 실패(404 등)는 그대로 전파, 나머지 섹션 실패는 해당 섹션만 제외
+ */
+@Slf4j
+@Service
+public class RestaurantPageService {
+
+    public static final String MENUS = "menus";
+    public static final String REVIEWS = "reviews";
+    public static final String RATING = "rating";
+    public static final String WAITING = "waiting";
+    public static final String FOLLOW = "follow";
+    private static final Set<String> ALL_SECTIONS = Set.of(MENUS, REVIEWS, RATING, WAITING, FOLLOW);
+
+    private static final long SECTION_TIMEOUT_MS = 3000;
+
+    private final RestaurantService restaurantService;
+    private final MenuService menuService;
+    private final ReviewService reviewService;
+    private final ReviewSummaryService reviewSummaryService;
+    private final FollowService followService;
+    private final WaitingRedisService waitingRedisService;
+    private final TaskExecutor pageExecutor;
+
+    public RestaurantPageService(RestaurantService restaurantService,
+                                 MenuService menuService,
+                                 ReviewService reviewService,
+                                 ReviewSummaryService reviewSummaryService,
+                                 FollowService followService,
+                                 WaitingRedisService waitingRedisService,
+                                 @Qualifier("pageExecutor") TaskExecutor pageExecutor) {
+        this.restaurantService = restaurantService;
+        this.menuService = menuService;
+        this.reviewService = reviewService;
+        this.reviewSummaryService = reviewSummaryService;
+        this.followService = followService;
+        this.waitingRedisService = waitingRedisService;
+        this.pageExecutor = pageExecutor;
+    }
+
+    /**
+     * @param include  쉼표 구분 섹션 목록 (menus,reviews,rating,waiting,follow). 비어 있으면 전체
+     * @param memberId 로그인 회원 (팔로우 여부 판단, 비로그인 시 null)
+     */
+    public RestaurantPageResponse getRestaurantPage(Long restaurantId, Long memberId, String include, int reviewSize) {
+        Set<String> sections = parseSections(include);
+
+        CompletableFuture<RestaurantResponse> restaurant =
+                submit(() -> restaurantService.getRestaurantById(restaurantId));
+        CompletableFuture<List<MenuResponse>> menus = sections.contains(MENUS)
+                ? submit(() -> menuService.getMenusByRestaurant(restaurantId)) : null;
+        CompletableFuture<CursorResponse<ReviewResponse>> reviews = sections.contains(REVIEWS)
+                ? submit(() -> reviewService.getReviewsByRestaurantByCursor(restaurantId, null, reviewSize, false)) : null;
+        CompletableFuture<RestaurantPageResponse.RatingSection> rating = sections.contains(RATING)
+                ? submit(() -> loadRating(restaurantId)) : null;
+        CompletableFuture<RestaurantPageResponse.WaitingSection> waiting = sections.contains(WAITING)
+                ? submit(() -> RestaurantPageResponse.WaitingSection.builder()
+                        .waitingCount(waitingRedisService.getWaitingCount(restaurantId))
+                        .build()) : null;
+        CompletableFuture<RestaurantPageResponse.FollowSection> follow = sections.contains(FOLLOW)
+                ? submit(() -> loadFollow(restaurantId, memberId)) : null;
+
+        return RestaurantPageResponse.builder()
+                .restaurant(joinRequired(restaurant))
+                .menus(joinOptional(menus, MENUS, restaurantId))
+                .reviews(joinOptional(reviews, REVIEWS, restaurantId))
+                .rating(joinOptional(rating, RATING, restaurantId))
+                .waiting(joinOptional(waiting, WAITING, restaurantId))
+                .follow(joinOptional(follow, FOLLOW, restaurantId))
+                .build();
+    }
+
+    private RestaurantPageResponse.RatingSection loadRating(Long restaurantId) {
+        ReviewSummary summary = reviewSummaryService.getSummary(restaurantId);
+        return RestaurantPageResponse.RatingSection.builder()
+                .averageRating(summary.getAverageRating())
+                .reviewCount(summary.reviewCount())
+                .distribution(summary.distribution())
+                .photoReviewCount(summary.photoReviewCount())
+                .build();
+    }
+
+    private RestaurantPageResponse.FollowSection loadFollow(Long restaurantId, Long memberId) {
+        return RestaurantPageResponse.FollowSection.builder()
+                .followerCount(followService.getFollowerCount(restaurantId))
+                .following(memberId != null ? followService.isFollowing(memberId, restaurantId) : null)
+                .build();
+    }
+
+    private Set<String> parseSections(String include) {
+        if (include == null || include.isBlank()) {
+            return ALL_SECTIONS;
+        }
+        return Arrays.stream(include.split(","))
+                .map(s -> s.trim().toLowerCase())
+                .filter(ALL_SECTIONS::contains)
+                .collect(Collectors.toSet());
+    }
+
+    private <T> CompletableFuture<T> submit(Supplier<T> supplier) {
+        return CompletableFuture.supplyAsync(supplier, pageExecutor)
+                .orTimeout(SECTION_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+    }
+
+    private <T> T joinRequired(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            // 서비스 예외(ResourceNotFoundException 등)를 그대로 전파해 기존 에러 응답 유지
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private <T> T joinOptional(CompletableFuture<T> future, String section, Long restaurantId) {
+        if (future == null) {
+            return null;
+        }
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            log.warn("식당 페이지 섹션 조회 실패 - restaurantId: {}, section: {}, cause: {}",
+                    restaurantId, section, e.getCause() != null ? e.getCause().toString() : e.getMessage());
+            return null;
+        }
+    }
+}
@@ -1,23 +1,35 @@
 package com.ezroad.service;
 
+import com.ezroad.dto.CursorToken;
 import com.ezroad.dto.request.RestaurantCreateRequest;
 import com.ezroad.dto.request.RestaurantUpdateRequest;
+import com.ezroad.dto.response.CursorResponse;
 import com.ezroad.dto.response.RestaurantResponse;
 import com.ezroad.entity.Member;
 import com.ezroad.entity.Restaurant;
 import com.ezroad.entity.RestaurantStatus;
+import com.ezroad.event.RestaurantChangedEvent;
 import com.ezroad.exception.ResourceNotFoundException;
-import com.ezroad.exception.UnauthorizedException;
+import com.ezroad.hours.BusinessHours;
 import com.ezroad.repository.MemberRepository;
 import com.ezroad.repository.RestaurantRepository;
+import com.ezroad.security.RestaurantOwnershipIndex;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -26,8 +38,14 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class RestaurantService {
 
+    private static final int TRIGRAM_MIN_LENGTH = 3;
+
     private final RestaurantRepository restaurantRepository;
     private final MemberRepository memberRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final RestaurantViewCountService viewCountService;
+    private final RestaurantCacheService restaurantCacheService;
+    private final RestaurantOwnershipIndex restaurantOwnershipIndex;
 
     @Transactional
     public RestaurantResponse createRestaurant(Long ownerId, RestaurantCreateRequest request) {
@@ -51,31 +69,78 @@ public class RestaurantService {
                 .build();
 
         Restaurant saved = restaurantRepository.save(restaurant);
+        eventPublisher.publishEvent(new RestaurantChangedEvent(saved.getId()));
         return RestaurantResponse.from(saved);
     }
 
-    public Page<RestaurantResponse> getAllRestaurants(String keyword, String category, Pageable pageable) {
+    /**
+     * @param openAt 해당 시각(한국 시간)에 영업 중인 식당만 (null이면 미적용)
+     */
+    public Page<RestaurantResponse> getAllRestaurants(String keyword, String category,
+                                                      LocalDateTime openAt, Pageable pageable) {
         // keyword나 category가 빈 문자열이면 null로 처리
-        String searchKeyword = (keyword != null && !keyword.isEmpty()) ? keyword : null;
+        String searchKeyword = (keyword != null && !keyword.isBlank()) ? keyword.trim() : null;
         String searchCategory = (category != null && !category.isEmpty()) ? category : null;
-        
+        Integer openSlot = openSlotOf(openAt);
+
+        // 키워드가 있으면 trigram 인덱스 기반 관련도순 검색
+        if (searchKeyword != null) {
+            return searchByRelevance(searchKeyword, searchCategory, openSlot, pageable);
+        }
+
         return restaurantRepository.searchRestaurants(
-                RestaurantStatus.ACTIVE, searchCategory, searchKeyword, pageable)
+                RestaurantStatus.ACTIVE, searchCategory, null, openSlot, pageable)
                 .map(RestaurantResponse::from);
     }
 
-    public Page<RestaurantResponse> searchRestaurants(String keyword, Pageable pageable) {
-        return restaurantRepository.findByStatusAndNameContaining(RestaurantStatus.ACTIVE, keyword, pageable)
-                .map(RestaurantResponse::from);
+    /**
+     * 식당 목록 (커서 페이지네이션, COUNT 없음)
+     * @param sort createdAt(최신순) / avgRating(평점순, 기본)
+     */
+    public CursorResponse<RestaurantResponse> getRestaurantsByCursor(String category, String sort,
+                                                                     String cursor, int size) {
+        String categoryFilter = category != null && !category.isBlank() ? category : null;
+        Pageable limit = PageRequest.of(0, Math.max(1, Math.min(size, 50)));
+
+        if ("createdAt".equals(sort)) {
+            CursorToken token = CursorToken.decode(cursor, CursorToken.FIRST_BY_DATE_TIME);
+            Slice<Restaurant> slice = restaurantRepository.findSliceByCreatedAt(
+                    RestaurantStatus.ACTIVE, categoryFilter, token.sortKeyAsDateTime(), token.id(), limit);
+            return CursorResponse.of(slice, RestaurantResponse::from,
+                    r -> CursorToken.of(r.getCreatedAt(), r.getId()));
+        }
+
+        CursorToken token = CursorToken.decode(cursor, CursorToken.FIRST_BY_DECIMAL);
+        Slice<Restaurant> slice = restaurantRepository.findSliceByAvgRating(
+                RestaurantStatus.ACTIVE, categoryFilter, token.sortKeyAsDecimal(), token.id(), limit);
+        return CursorResponse.of(slice, RestaurantResponse::from,
+                r -> CursorToken.of(r.getAvgRating(), r.getId()));
     }
 
-    @Transactional
+    public Page<RestaurantResponse> searchRestaurants(String keyword, LocalDateTime openAt, Pageable pageable) {
+        Integer openSlot = openSlotOf(openAt);
+        if (keyword == null || keyword.isBlank()) {
+            if (openSlot != null) {
+                return restaurantRepository.searchRestaurants(
+                        RestaurantStatus.ACTIVE, null, null, openSlot, pageable)
+                        .map(RestaurantResponse::from);
+            }
+            return restaurantRepository.findByStatus(RestaurantStatus.ACTIVE, pageable)
+                    .map(RestaurantResponse::from);
+        }
+        return searchByRelevance(keyword.trim(), null, openSlot, pageable);
+    }
+
+    // 조회수는 버퍼에 누적 후 주기적으로 반영, 상세 정보는 2단계 캐시에서 조회
     public RestaurantResponse getRestaurantById(Long id) {
-        Restaurant restaurant = restaurantRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("존재하지 않는 식당입니다"));
-        
-        restaurant.incrementViewCount();
-        return RestaurantResponse.from(restaurant);
+        RestaurantResponse cached = restaurantCacheService.get(id, () ->
+                RestaurantResponse.from(restaurantRepository.findWithOwnerById(id)
+                        .orElseThrow(() -> new ResourceNotFoundException("존재하지 않는 식당입니다"))));
+
+        viewCountService.recordView(id);
+        return cached.toBuilder()
+                .viewCount((int) viewCountService.getViewCount(id, cached.getViewCount()))
+                .build();
     }
 
     public List<RestaurantResponse> getMyRestaurants(Long ownerId) {
@@ -86,12 +151,9 @@ public class RestaurantService {
 
     @Transactional
     public RestaurantResponse updateRestaurant(Long ownerId, Long restaurantId, RestaurantUpdateRequest request) {
+        restaurantOwnershipIndex.requireOwner(restaurantId, ownerId, "수정 권한이 없습니다");
         Restaurant restaurant = restaurantRepository.findById(restaurantId)
                 .orElseThrow(() -> new ResourceNotFoundException("존재하지 않는 식당입니다"));
-        
-        if (!restaurant.getOwner().getId().equals(ownerId)) {
-            throw new UnauthorizedException("수정 권한이 없습니다");
-        }
 
         if (request.getName() != null) restaurant.updateName(request.getName());
         if (request.getCategory() != null) restaurant.updateCategory(request.getCategory());
@@ -107,31 +169,70 @@ public class RestaurantService {
         if (request.getThumbnail() != null) restaurant.updateThumbnail(request.getThumbnail());
         if (request.getMenuBoardImage() != null) restaurant.updateMenuBoardImage(request.getMenuBoardImage());
 
+        eventPublisher.publishEvent(new RestaurantChangedEvent(restaurantId));
         return RestaurantResponse.from(restaurant);
     }
 
     @Transactional
     public RestaurantResponse updateNotice(Long ownerId, Long restaurantId, String notice) {
+        restaurantOwnershipIndex.requireOwner(restaurantId, ownerId, "수정 권한이 없습니다");
         Restaurant restaurant = restaurantRepository.findById(restaurantId)
                 .orElseThrow(() -> new ResourceNotFoundException("존재하지 않는 식당입니다"));
-        
-        if (!restaurant.getOwner().getId().equals(ownerId)) {
-            throw new UnauthorizedException("수정 권한이 없습니다");
-        }
 
         restaurant.updateNotice(notice);
+        eventPublisher.publishEvent(new RestaurantChangedEvent(restaurantId));
         return RestaurantResponse.from(restaurant);
     }
 
     @Transactional
     public void deleteRestaurant(Long ownerId, Long restaurantId) {
+        restaurantOwnershipIndex.requireOwner(restaurantId, ownerId, "삭제 권한이 없습니다");
         Restaurant restaurant = restaurantRepository.findById(restaurantId)
                 .orElseThrow(() -> new ResourceNotFoundException("존재하지 않는 식당입니다"));
-        
-        if (!restaurant.getOwner().getId().equals(ownerId)) {
-            throw new UnauthorizedException("삭제 권한이 없습니다");
-        }
 
         restaurant.updateStatus(RestaurantStatus.DELETED);
+        eventPublisher.publishEvent(new RestaurantChangedEvent(restaurantId));
+    }
+
+    /**
+     * 키워드 관련도순 검색
+     * - name/address/description의 pg_trgm GIN 인덱스로 후보를 찾고 word_similarity로 정렬
+     * - 형태소 분석 없이 부분 문자열 단위로 매칭되므로 한글 검색어도 그대로 동작
+     * - 정렬은 관련도 고정 (요청의 정렬 조건은 무시)
+     */
+    private Page<RestaurantResponse> searchByRelevance(String keyword, String category, Integer openSlot,
+                                                       Pageable pageable) {
+        String escaped = escapeLikePattern(keyword);
+        Pageable unsorted = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize());
+
+        // pg_trgm 인덱스는 3글자 미만 패턴에 쓰이지 않으므로 짧은 키워드는 1·2글자 부분 문자열 인덱스로 조회
+        Page<Long> ids = keyword.codePointCount(0, keyword.length()) < TRIGRAM_MIN_LENGTH
+                ? restaurantRepository.searchIdsByShortKeyword(
+                        RestaurantStatus.ACTIVE.name(), category, openSlot, keyword, escaped + "%", unsorted)
+                : restaurantRepository.searchIdsByRelevance(
+                        RestaurantStatus.ACTIVE.name(), category, openSlot, keyword,
+                        "%" + escaped + "%", escaped + "%", unsorted);
+
+        // owner까지 한 번에 로딩 후 검색 순서대로 정렬
+        Map<Long, Restaurant> restaurants = restaurantRepository.findWithOwnerByIdIn(ids.getContent()).stream()
+                .collect(Collectors.toMap(Restaurant::getId, Function.identity()));
+        List<RestaurantResponse> content = ids.getContent().stream()
+                .map(restaurants::get)
+                .filter(Objects::nonNull)
+                .map(RestaurantResponse::from)
+                .toList();
+        return new PageImpl<>(content, pageable, ids.getTotalElements());
+    }
+
+    // 영업 중 필터 슬롯 (영업시간 문자열은 저장 시 비트셋으로 컴파일되어 있으므로 비트 검사만 수행)
+    private Integer openSlotOf(LocalDateTime openAt) {
+        return openAt != null ? BusinessHours.slotOf(openAt) : null;
+    }
+
+    // LIKE 특수문자(\, %, _) 이스케이프
+    private String escapeLikePattern(String keyword) {
+        return keyword.replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
     }
 }
@@ -0,0 +1,78 @@
+package com.ezroad.service;
+
+import com.ezroad.trending.TrendingService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * 식당 조회수 버퍼링
+ *
+ * - 상세 조회마다 UPDATE 하던 것을 메모리 버퍼에 누적하고 주기적으로 일괄 반영
+ * - 반영: UPDATE restaurants SET view_count = view_count + ? (batch, id 순 → 인스턴스 간 락 순서 일정)
+ * - 종료 시 남은 증가분 반영. 비정상 종료 시 마지막 주기분은 유실될 수 있음 (조회수 특성상 허용)
+ * - 응답의 조회수 = 반영된 조회수(Redis 사본, restaurant:views:{id}) + 아직 반영되지 않은 증가분
+ *   → 상세 캐시는 조회수 반영으로 무효화하지 않음
+ */
+@Slf4j
+@Service
+public class RestaurantViewCountService {
+
+    private static final String UPDATE_SQL = "UPDATE restaurants SET view_count = view_count + ? WHERE id = ?";
+    private static final String SELECT_SQL = "SELECT view_count FROM restaurants WHERE id = ?";
+    private static final Duration MIRROR_TTL = Duration.ofHours(1);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TrendingService trendingService;
+    private final ViewCountMirror mirror;
+    private final ViewCountBuffer buffer = new ViewCountBuffer();
+
+    public RestaurantViewCountService(JdbcTemplate jdbcTemplate,
+                                      TrendingService trendingService,
+                                      StringRedisTemplate stringRedisTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.trendingService = trendingService;
+        this.mirror = new ViewCountMirror(stringRedisTemplate, "restaurant:views:", MIRROR_TTL);
+    }
+
+    public void recordView(Long restaurantId) {
+        buffer.increment(restaurantId);
+    }
+
+    /**
+     * 현재 조회수 (반영분 + 미반영분)
+     * @param cachedViewCount 캐시 문서의 조회수 (사본을 읽을 수 없을 때 기준값)
+     */
+    public long getViewCount(Long restaurantId, long cachedViewCount) {
+        long flushed = mirror.get(restaurantId, cachedViewCount, () -> {
+            Long viewCount = jdbcTemplate.queryForObject(SELECT_SQL, Long.class, restaurantId);
+            return viewCount != null ? viewCount : 0L;
+        });
+        return flushed + buffer.pending(restaurantId);
+    }
+
+    @Scheduled(fixedDelayString = "${view-count.flush-interval-ms:10000}")
+    public void flush() {
+        try {
+            Map<Long, Long> flushed = buffer.flushTo(jdbcTemplate, UPDATE_SQL);
+            if (!flushed.isEmpty()) {
+                mirror.addFlushed(flushed);
+                trendingService.recordViews(flushed);
+                log.debug("식당 조회수 반영 - {}건", flushed.size());
+            }
+        } catch (Exception e) {
+            log.error("식당 조회수 반영 실패 (다음 주기에 재시도): {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
@@ -0,0 +1,99 @@
+package com.ezroad.service;
+
+import com.ezroad.event.ReviewChangedEvent;
+import com.ezroad.repository.ReviewRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 리뷰 개수 캐시 (/api/reviews/counts)
+ *
+ * - 전체/사진 리뷰 수를 Redis 해시(review:counts)에 보관해 TTL 동안 COUNT 없이 응답
+ * - 리뷰 변경 커밋 후 캐시 삭제 → 다음 조회에서 다시 집계 (사진 리뷰는 has_photo 부분 인덱스)
+ * - 삭제와 재집계가 겹쳐 이전 값이 다시 저장되더라도 TTL 안에서 정리됨
+ * - 기동 시 컬럼 추가 이전 리뷰의 image_count/has_photo 백필
+ */
+@Slf4j
+@Service
+public class ReviewCountService {
+
+    private static final String COUNTS_KEY = "review:counts";
+    private static final String TOTAL = "total";
+    private static final String PHOTO = "photo";
+
+    private final ReviewRepository reviewRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final Duration ttl;
+
+    public ReviewCountService(ReviewRepository reviewRepository,
+                              StringRedisTemplate stringRedisTemplate,
+                              @Value("${review.counts-ttl-seconds:60}") long ttlSeconds) {
+        this.reviewRepository = reviewRepository;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillPhotoFlags() {
+        try {
+            int updated = reviewRepository.backfillPhotoFlags();
+            if (updated > 0) {
+                log.info("리뷰 사진 플래그 백필 완료 - {}건", updated);
+            }
+        } catch (Exception e) {
+            log.error("리뷰 사진 플래그 백필 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * @return total(전체 리뷰 수), photo(사진 리뷰 수)
+     */
+    public Map<String, Long> getCounts() {
+        try {
+            Map<Object, Object> cached = stringRedisTemplate.opsForHash().entries(COUNTS_KEY);
+            if (cached.containsKey(TOTAL) && cached.containsKey(PHOTO)) {
+                return counts(Long.parseLong((String) cached.get(TOTAL)), Long.parseLong((String) cached.get(PHOTO)));
+            }
+        } catch (Exception e) {
+            log.error("리뷰 개수 캐시 조회 실패: {}", e.getMessage());
+        }
+
+        Map<String, Long> counts = counts(reviewRepository.countByDeletedAtIsNull(),
+                reviewRepository.countByHasPhotoTrueAndDeletedAtIsNull());
+        try {
+            Map<String, String> values = new LinkedHashMap<>();
+            counts.forEach((field, count) -> values.put(field, String.valueOf(count)));
+            stringRedisTemplate.opsForHash().putAll(COUNTS_KEY, values);
+            stringRedisTemplate.expire(COUNTS_KEY, ttl);
+        } catch (Exception e) {
+            log.error("리뷰 개수 캐시 저장 실패: {}", e.getMessage());
+        }
+        return counts;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onReviewChanged(ReviewChangedEvent event) {
+        try {
+            stringRedisTemplate.delete(COUNTS_KEY);
+        } catch (Exception e) {
+            log.error("리뷰 개수 캐시 삭제 실패: {}", e.getMessage());
+        }
+    }
+
+    private Map<String, Long> counts(long total, long photo) {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        counts.put(TOTAL, total);
+        counts.put(PHOTO, photo);
+        return counts;
+    }
+}
@@ -0,0 +1,111 @@
+package com.ezroad.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 삭제된 리뷰 보관 이동 (reviews → reviews_archive, review_images → review_images_archive)
+ *
+ * - 삭제 후 review.purge-after-days가 지난 리뷰를 id 순으로 청크씩 옮김
+ * - 청크마다 짧은 트랜잭션 1개: 대상 행 잠금(SKIP LOCKED) → 이미지 보관/삭제 → 조회 기록 삭제 → 리뷰 보관/삭제
+ *   → 한 번에 잡는 행 락은 청크 크기로 제한되고, 다른 작업이 잡고 있는 행은 건너뜀
+ * - 청크 사이에 잠시 쉬고, 한 번 실행에 최대 청크 수를 둬서 피크 시간 부하를 제한 (남은 건 다음 실행에서)
+ * - 평점 집계/리뷰 요약/베스트 리뷰는 소프트 삭제 시점에 이미 빠졌으므로 여기서는 건드리지 않음
+ * - 보관 테이블은 V8 마이그레이션으로 생성 (없으면 실패 로그만 남기고 다음 실행에서 재시도)
+ */
+@Slf4j
+@Service
+public class ReviewPurgeService {
+
+    private static final String SELECT_TARGETS_SQL = "SELECT id FROM reviews " +
+            "WHERE deleted_at IS NOT NULL AND deleted_at < :cutoff " +
+            "ORDER BY deleted_at, id LIMIT :limit FOR UPDATE SKIP LOCKED";
+
+    private static final String ARCHIVE_IMAGES_SQL = "INSERT INTO review_images_archive " +
+            "(id, review_id, image_url, original_name, sort_order, created_at) " +
+            "SELECT id, review_id, image_url, original_name, sort_order, created_at " +
+            "FROM review_images WHERE review_id IN (:ids) ON CONFLICT (id) DO NOTHING";
+
+    private static final String DELETE_IMAGES_SQL = "DELETE FROM review_images WHERE review_id IN (:ids)";
+
+    private static final String DELETE_VIEWS_SQL = "DELETE FROM review_views WHERE review_id IN (:ids)";
+
+    private static final String ARCHIVE_REVIEWS_SQL = "INSERT INTO reviews_archive " +
+            "(id, restaurant_id, member_id, reservation_id, title, content, rating, hit, image_count, has_photo, " +
+            "created_at, updated_at, deleted_at) " +
+            "SELECT id, restaurant_id, member_id, reservation_id, title, content, rating, hit, image_count, has_photo, " +
+            "created_at, updated_at, deleted_at " +
+            "FROM reviews WHERE id IN (:ids) ON CONFLICT (id) DO NOTHING";
+
+    private static final String DELETE_REVIEWS_SQL = "DELETE FROM reviews WHERE id IN (:ids)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int retentionDays;
+    private final int chunkSize;
+    private final int maxChunks;
+    private final long pauseMs;
+
+    public ReviewPurgeService(NamedParameterJdbcTemplate jdbcTemplate,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${review.purge-after-days:90}") int retentionDays,
+                              @Value("${review.purge-chunk-size:500}") int chunkSize,
+                              @Value("${review.purge-max-chunks:200}") int maxChunks,
+                              @Value("${review.purge-pause-ms:200}") long pauseMs) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.retentionDays = retentionDays;
+        this.chunkSize = chunkSize;
+        this.maxChunks = maxChunks;
+        this.pauseMs = pauseMs;
+    }
+
+    @Scheduled(cron = "${review.purge-cron:0 0 5 * * *}", zone = "Asia/Seoul")
+    public void purge() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays);
+        int total = 0;
+        try {
+            for (int chunk = 0; chunk < maxChunks; chunk++) {
+                Integer moved = transactionTemplate.execute(status -> moveChunk(cutoff));
+                if (moved == null || moved == 0) {
+                    break;
+                }
+                total += moved;
+                if (moved < chunkSize) {
+                    break;
+                }
+                Thread.sleep(pauseMs);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.error("삭제 리뷰 보관 이동 실패 (다음 실행에서 재시도) - 이동 {}건 후, {}", total, e.getMessage());
+        }
+        if (total > 0) {
+            log.info("삭제 리뷰 보관 이동 완료 - {}건 ({}일 경과)", total, retentionDays);
+        }
+    }
+
+    private int moveChunk(LocalDateTime cutoff) {
+        List<Long> ids = jdbcTemplate.queryForList(SELECT_TARGETS_SQL,
+                new MapSqlParameterSource().addValue("cutoff", cutoff).addValue("limit", chunkSize), Long.class);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource("ids", ids);
+        jdbcTemplate.update(ARCHIVE_IMAGES_SQL, params);
+        jdbcTemplate.update(DELETE_IMAGES_SQL, params);
+        jdbcTemplate.update(DELETE_VIEWS_SQL, params);
+        jdbcTemplate.update(ARCHIVE_REVIEWS_SQL, params);
+        return jdbcTemplate.update(DELETE_REVIEWS_SQL, params);
+    }
+}
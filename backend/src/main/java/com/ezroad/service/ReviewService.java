@@ -1,24 +1,43 @@
 package com.ezroad.service;
 
+import com.ezroad.dto.CursorToken;
+import com.ezroad.dto.ReviewImageRow;
+import com.ezroad.dto.ReviewRow;
 import com.ezroad.dto.request.ReviewCreateRequest;
 import com.ezroad.dto.request.ReviewUpdateRequest;
+import com.ezroad.dto.response.CursorResponse;
 import com.ezroad.dto.response.ReviewResponse;
 import com.ezroad.entity.*;
+import com.ezroad.event.RestaurantActivityEvent;
+import com.ezroad.event.ReviewChangedEvent;
+import com.ezroad.event.ReviewCreatedEvent;
 import com.ezroad.exception.ResourceNotFoundException;
 import com.ezroad.exception.UnauthorizedException;
+import com.ezroad.ranking.BestReviewService;
+import com.ezroad.rating.RestaurantRatingService;
 import com.ezroad.repository.MemberRepository;
 import com.ezroad.repository.ReservationRepository;
 import com.ezroad.repository.RestaurantRepository;
+import com.ezroad.repository.ReviewImageRepository;
 import com.ezroad.repository.ReviewRepository;
+import com.ezroad.trending.TrendingSignal;
+import com.ezroad.view.ViewDeduplicator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -27,74 +46,112 @@ import java.time.Duration;
 public class ReviewService {
 
     private final ReviewRepository reviewRepository;
+    private final ReviewImageRepository reviewImageRepository;
     private final MemberRepository memberRepository;
     private final RestaurantRepository restaurantRepository;
     private final ReservationRepository reservationRepository;
     private final NotificationService notificationService;
-    private final RedisTemplate<String, Object> redisTemplate;
-    
-    private static final String REVIEW_VIEW_PREFIX = "review:view:";
-    private static final Duration VIEW_EXPIRY = Duration.ofHours(24);
+    private final RestaurantRatingService restaurantRatingService;
+    private final ReviewCountService reviewCountService;
+    private final ViewDeduplicator viewDeduplicator;
+    private final HitCountService hitCountService;
+    private final BestReviewService bestReviewService;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 리뷰 목록 조회 (페이지네이션, photoOnly 필터)
     public Page<ReviewResponse> getReviewList(Pageable pageable, boolean photoOnly) {
-        if (photoOnly) {
-            return reviewRepository.findAllWithImagesByDeletedAtIsNull(pageable)
-                    .map(ReviewResponse::from);
-        }
-        return reviewRepository.findAllByDeletedAtIsNull(pageable)
-                .map(ReviewResponse::from);
+        Page<ReviewRow> page = photoOnly
+                ? reviewRepository.findPhotoRows(pageable)
+                : reviewRepository.findRows(pageable);
+        return toResponsePage(page);
     }
     
-    // 전체 리뷰 개수
-    public Long getTotalReviewCount() {
-        return reviewRepository.countByDeletedAtIsNull();
+    // 리뷰 목록 조회 (커서 페이지네이션, 최신순)
+    public CursorResponse<ReviewResponse> getReviewListByCursor(String cursor, int size, boolean photoOnly) {
+        CursorToken token = CursorToken.decode(cursor, CursorToken.FIRST_BY_DATE_TIME);
+        Pageable limit = PageRequest.of(0, Math.max(1, Math.min(size, 50)));
+        Slice<ReviewRow> slice = photoOnly
+                ? reviewRepository.findPhotoRowSliceByCreatedAt(token.sortKeyAsDateTime(), token.id(), limit)
+                : reviewRepository.findRowSliceByCreatedAt(token.sortKeyAsDateTime(), token.id(), limit);
+        return CursorResponse.of(slice, toResponses(slice.getContent()), r -> CursorToken.of(r.createdAt(), r.id()));
     }
-    
-    // 사진 리뷰 개수
-    public Long getPhotoReviewCount() {
-        return reviewRepository.countWithImages();
+
+    // 식당별 리뷰 목록 조회 (커서 페이지네이션, 최신순)
+    public CursorResponse<ReviewResponse> getReviewsByRestaurantByCursor(Long restaurantId, String cursor,
+                                                                         int size, boolean photoOnly) {
+        CursorToken token = CursorToken.decode(cursor, CursorToken.FIRST_BY_DATE_TIME);
+        Pageable limit = PageRequest.of(0, Math.max(1, Math.min(size, 50)));
+        Slice<ReviewRow> slice = photoOnly
+                ? reviewRepository.findPhotoRowSliceByRestaurantIdAndCreatedAt(
+                        restaurantId, token.sortKeyAsDateTime(), token.id(), limit)
+                : reviewRepository.findRowSliceByRestaurantIdAndCreatedAt(
+                        restaurantId, token.sortKeyAsDateTime(), token.id(), limit);
+        if (slice.isEmpty()) {
+            requireRestaurant(restaurantId);
+        }
+        return CursorResponse.of(slice, toResponses(slice.getContent()), r -> CursorToken.of(r.createdAt(), r.id()));
+    }
+
+    // 전체/사진 리뷰 개수 (캐시)
+    public Map<String, Long> getReviewCounts() {
+        return reviewCountService.getCounts();
     }
 
     // 식당별 리뷰 목록 조회 (photoOnly 필터)
     public Page<ReviewResponse> getReviewsByRestaurant(Long restaurantId, Pageable pageable, boolean photoOnly) {
-        if (!restaurantRepository.existsById(restaurantId)) {
-            throw new ResourceNotFoundException("존재하지 않는 식당입니다");
+        Page<ReviewRow> page = photoOnly
+                ? reviewRepository.findPhotoRowsByRestaurantId(restaurantId, pageable)
+                : reviewRepository.findRowsByRestaurantId(restaurantId, pageable);
+        if (page.isEmpty()) {
+            requireRestaurant(restaurantId);
         }
-        if (photoOnly) {
-            return reviewRepository.findByRestaurantIdWithImagesByDeletedAtIsNull(restaurantId, pageable)
-                    .map(ReviewResponse::from);
+        return toResponsePage(page);
+    }
+
+    // 식당별 베스트 리뷰 (BestReviewService 순위 → 해당 페이지 id만 일괄 조회)
+    public Page<ReviewResponse> getBestReviewsByRestaurant(Long restaurantId, Pageable pageable, boolean photoOnly) {
+        BestReviewService.RankedPage ranked = bestReviewService.getPage(
+                restaurantId, photoOnly, pageable.getOffset(), pageable.getPageSize());
+        if (ranked.total() == 0) {
+            requireRestaurant(restaurantId);
         }
-        return reviewRepository.findByRestaurantIdAndDeletedAtIsNull(restaurantId, pageable)
-                .map(ReviewResponse::from);
+        return new PageImpl<>(getReviewsByIds(ranked.reviewIds()), pageable, ranked.total());
     }
 
     // 회원별 리뷰 목록 조회
     public Page<ReviewResponse> getReviewsByMember(Long memberId, Pageable pageable) {
-        if (!memberRepository.existsById(memberId)) {
+        Page<ReviewRow> page = reviewRepository.findRowsByMemberId(memberId, pageable);
+        if (page.isEmpty() && !memberRepository.existsById(memberId)) {
             throw new ResourceNotFoundException("존재하지 않는 회원입니다");
         }
-        return reviewRepository.findByMemberIdAndDeletedAtIsNull(memberId, pageable)
-                .map(ReviewResponse::from);
+        return toResponsePage(page);
     }
 
-    // 리뷰 상세 조회 (24시간 조회수 중복 방지)
-    @Transactional
+    // id 목록 순서대로 조회 (피드 등). 삭제되었거나 없는 리뷰는 빠짐
+    public List<ReviewResponse> getReviewsByIds(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, ReviewRow> rows = reviewRepository.findRowsByIdIn(ids).stream()
+                .collect(Collectors.toMap(ReviewRow::id, Function.identity()));
+        return toResponses(ids.stream().map(rows::get).filter(Objects::nonNull).toList());
+    }
+
+    // 리뷰 상세 조회 (조회수 중복 방지: ViewDeduplicator, 조회수 반영: HitCountService)
     public ReviewResponse getReviewById(Long id, String viewerIdentifier) {
-        Review review = reviewRepository.findById(id)
+        Review review = reviewRepository.findWithDetailsById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("존재하지 않는 리뷰입니다"));
 
-        // Redis로 24시간 내 중복 조회 체크
-        String redisKey = REVIEW_VIEW_PREFIX + id + ":" + viewerIdentifier;
-        Boolean alreadyViewed = redisTemplate.hasKey(redisKey);
-        
-        if (alreadyViewed == null || !alreadyViewed) {
-            review.incrementHit();
-            redisTemplate.opsForValue().set(redisKey, "1", VIEW_EXPIRY);
+        long newHits = viewDeduplicator.markViewed("review", id, viewerIdentifier);
+        if (newHits > 0) {
+            hitCountService.recordReviewHits(id, newHits);
             log.debug("리뷰 조회수 증가 - reviewId: {}, viewer: {}", id, viewerIdentifier);
         }
 
-        return ReviewResponse.from(review);
+        ReviewResponse response = ReviewResponse.from(review);
+        return response.toBuilder()
+                .hit(response.getHit() + (int) hitCountService.getPendingReviewHits(id))
+                .build();
     }
 
     // 리뷰 작성
@@ -127,6 +184,8 @@ public class ReviewService {
         }
 
         Review savedReview = reviewRepository.save(review);
+        restaurantRatingService.reviewAdded(restaurant.getId(), savedReview.getId(), savedReview.getRating(),
+                Boolean.TRUE.equals(savedReview.getHasPhoto()));
         
         // 🔔 사업자에게 새 리뷰 알림 발송
         notificationService.sendNotification(
@@ -143,7 +202,10 @@ public class ReviewService {
                 "REVIEW",
                 "/reviews/" + savedReview.getId()
         );
-        
+
+        eventPublisher.publishEvent(new ReviewChangedEvent(savedReview.getId(), restaurant.getId()));
+        eventPublisher.publishEvent(new ReviewCreatedEvent(savedReview.getId(), memberId, restaurant.getId()));
+        eventPublisher.publishEvent(new RestaurantActivityEvent(restaurant.getId(), TrendingSignal.REVIEW));
         return ReviewResponse.from(savedReview);
     }
 
@@ -157,7 +219,12 @@ public class ReviewService {
             throw new UnauthorizedException("리뷰 수정 권한이 없습니다");
         }
 
+        int previousRating = review.getRating();
         review.update(request.getTitle(), request.getContent(), request.getRating());
+        if (review.getDeletedAt() == null) {
+            restaurantRatingService.ratingChanged(review.getRestaurant().getId(), reviewId, previousRating, review.getRating());
+        }
+        eventPublisher.publishEvent(new ReviewChangedEvent(review.getId(), review.getRestaurant().getId()));
 
         return ReviewResponse.from(review);
     }
@@ -172,24 +239,22 @@ public class ReviewService {
             throw new UnauthorizedException("리뷰 삭제 권한이 없습니다");
         }
 
-        review.delete();
+        if (review.getDeletedAt() == null) {
+            review.delete();
+            restaurantRatingService.reviewRemoved(review.getRestaurant().getId(), reviewId, review.getRating(),
+                    Boolean.TRUE.equals(review.getHasPhoto()));
+            eventPublisher.publishEvent(new ReviewChangedEvent(review.getId(), review.getRestaurant().getId()));
+        }
     }
 
-    // 식당 평균 평점 계산
+    // 식당 평균 평점 (집계 컬럼)
     public Double getAverageRating(Long restaurantId) {
-        if (!restaurantRepository.existsById(restaurantId)) {
-            throw new ResourceNotFoundException("존재하지 않는 식당입니다");
-        }
-        return reviewRepository.findAverageRatingByRestaurantId(restaurantId)
-                .orElse(0.0);
+        return restaurantRatingService.getSummary(restaurantId).average();
     }
 
-    // 식당 리뷰 개수
+    // 식당 리뷰 개수 (집계 컬럼)
     public Long getReviewCount(Long restaurantId) {
-        if (!restaurantRepository.existsById(restaurantId)) {
-            throw new ResourceNotFoundException("존재하지 않는 식당입니다");
-        }
-        return reviewRepository.countByRestaurantIdAndDeletedAtIsNull(restaurantId);
+        return restaurantRatingService.getSummary(restaurantId).count();
     }
     
     // 예약에 대한 리뷰 작성 가능 여부 확인
@@ -216,4 +281,30 @@ public class ReviewService {
         
         return true;
     }
+
+    // 목록 변환: 이미지는 사진이 있는 리뷰만 모아 IN 쿼리 1회로 조회
+    private List<ReviewResponse> toResponses(List<ReviewRow> rows) {
+        List<Long> photoIds = rows.stream()
+                .filter(row -> Boolean.TRUE.equals(row.hasPhoto()))
+                .map(ReviewRow::id)
+                .toList();
+        Map<Long, List<String>> images = photoIds.isEmpty() ? Map.of()
+                : reviewImageRepository.findUrlsByReviewIdIn(photoIds).stream()
+                        .collect(Collectors.groupingBy(ReviewImageRow::reviewId,
+                                Collectors.mapping(ReviewImageRow::imageUrl, Collectors.toList())));
+        return rows.stream()
+                .map(row -> ReviewResponse.from(row, images.getOrDefault(row.id(), List.of())))
+                .toList();
+    }
+
+    private Page<ReviewResponse> toResponsePage(Page<ReviewRow> page) {
+        return new PageImpl<>(toResponses(page.getContent()), page.getPageable(), page.getTotalElements());
+    }
+
+    // 목록이 비었을 때만 식당 존재 확인 (결과가 있으면 존재하는 식당이므로 생략)
+    private void requireRestaurant(Long restaurantId) {
+        if (!restaurantRepository.existsById(restaurantId)) {
+            throw new ResourceNotFoundException("존재하지 않는 식당입니다");
+        }
+    }
 }
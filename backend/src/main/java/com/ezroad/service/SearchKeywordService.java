@@ -2,9 +2,11 @@ package com.ezroad.service;
 
 import com.ezroad.dto.response.SearchKeywordResponse;
 import com.ezroad.entity.SearchKeyword;
+import com.ezroad.event.SearchKeywordChangedEvent;
 import com.ezroad.repository.SearchKeywordRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,6 +20,7 @@ import java.util.stream.Collectors;
 public class SearchKeywordService {
 
     private final SearchKeywordRepository searchKeywordRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 검색어 기록 (검색 시 호출)
@@ -44,6 +47,7 @@ public class SearchKeywordService {
                                         .build()
                         )
                 );
+        eventPublisher.publishEvent(new SearchKeywordChangedEvent());
     }
 
     /**
@@ -72,6 +76,7 @@ public class SearchKeywordService {
     @Transactional
     public void deleteKeyword(Long id) {
         searchKeywordRepository.deleteById(id);
+        eventPublisher.publishEvent(new SearchKeywordChangedEvent());
         log.info("Deleted search keyword with id: {}", id);
     }
 
@@ -0,0 +1,223 @@
+package com.ezroad.service;
+
+import com.ezroad.dto.response.ThemeDetailResponse;
+import com.ezroad.event.RestaurantChangedEvent;
+import com.ezroad.event.ThemeChangedEvent;
+import com.ezroad.event.ThemeContentChangedEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * 테마 상세(ThemeDetailResponse) 2단계 캐시 + 식당 → 테마 역색인
+ *
+ * 조회 순서: 로컬(Caffeine) → Redis → DB (구성 방식은 식당 상세 캐시와 동일)
+ * - Redis: theme:detail:{themeId} (JSON), 저장 시 응답에 든 식당마다 theme:deps:{restaurantId} Set에 테마 id 추가
+ * - 식당 변경(이름/썸네일/평점 등, RestaurantChangedEvent) → 역색인에 든 테마만 무효화하고 역색인 삭제
+ *   (다시 적재될 때 등록됨, 테마에서 빠진 식당이 남아 있어도 불필요한 무효화만 생김)
+ * - 테마 변경(수정/삭제, ThemeChangedEvent), 구성 변경(식당 추가·삭제·순서 변경, ThemeContentChangedEvent)
+ *   → 해당 테마 무효화
+ * - 무효화는 채널로 발행 → 모든 노드의 로컬 캐시 제거
+ * - 캐시 값의 viewCount는 저장 시점 값, 조회 시 호출 측에서 현재 조회수로 바꿈 (조회수 반영으로는 무효화하지 않음)
+ * - 적재와 무효화가 겹치거나 작성자 닉네임/프로필이 바뀐 경우는 TTL로 상한을 둠
+ * - 역색인 스크립트가 테마 키를 직접 다루므로 단일 Redis(비클러스터) 전제
+ */
+@Slf4j
+@Service
+public class ThemeDetailCacheService {
+
+    private static final String KEY_PREFIX = "theme:detail:";
+    private static final String DEPS_PREFIX = "theme:deps:";
+    public static final String EVICT_CHANNEL = "theme:cache:evict";
+
+    // KEYS: 상세, 역색인... / ARGV: JSON, 상세 TTL(초), 테마 id, 역색인 TTL(초)
+    private static final RedisScript<Long> WRITE_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('SET', KEYS[1], ARGV[1], 'EX', ARGV[2])
+            for i = 2, #KEYS do
+              redis.call('SADD', KEYS[i], ARGV[3])
+              redis.call('EXPIRE', KEYS[i], ARGV[4])
+            end
+            return 1
+            """, Long.class);
+
+    // KEYS: 역색인 / ARGV: 상세 키 접두사 / 반환: 무효화한 테마 id 목록
+    private static final RedisScript<List> EVICT_DEPENDENTS_SCRIPT = new DefaultRedisScript<>("""
+            local ids = redis.call('SMEMBERS', KEYS[1])
+            for _, id in ipairs(ids) do
+              redis.call('DEL', ARGV[1] .. id)
+            end
+            redis.call('DEL', KEYS[1])
+            return ids
+            """, List.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final Cache<Long, ThemeDetailResponse> localCache;
+    private final Duration redisTtl;
+    private final Counter redisHits;
+    private final Counter redisMisses;
+
+    public ThemeDetailCacheService(StringRedisTemplate stringRedisTemplate,
+                                   ObjectMapper objectMapper,
+                                   RedisMessageListenerContainer listenerContainer,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${cache.theme.local-max-size:2000}") long localMaxSize,
+                                   @Value("${cache.theme.local-ttl-seconds:60}") long localTtlSeconds,
+                                   @Value("${cache.theme.redis-ttl-seconds:1800}") long redisTtlSeconds) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.objectMapper = objectMapper;
+        this.listenerContainer = listenerContainer;
+        this.redisTtl = Duration.ofSeconds(redisTtlSeconds);
+
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(localTtlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, localCache, "theme.detail.local");
+
+        this.redisHits = Counter.builder("theme.detail.redis")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.redisMisses = Counter.builder("theme.detail.redis")
+                .tag("result", "miss")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 다른 노드에서 발행한 무효화 메시지 수신 → 로컬 캐시 제거
+     */
+    @PostConstruct
+    public void subscribeEvictions() {
+        listenerContainer.addMessageListener((message, pattern) -> {
+            try {
+                // 메시지: 쉼표로 구분된 테마 id 목록
+                for (String id : new String(message.getBody(), StandardCharsets.UTF_8).split(",")) {
+                    localCache.invalidate(Long.valueOf(id.trim()));
+                }
+            } catch (NumberFormatException e) {
+                log.warn("잘못된 테마 캐시 무효화 메시지: {}", e.getMessage());
+            }
+        }, new ChannelTopic(EVICT_CHANNEL));
+    }
+
+    public ThemeDetailResponse get(Long themeId, Supplier<ThemeDetailResponse> loader) {
+        ThemeDetailResponse local = localCache.getIfPresent(themeId);
+        if (local != null) {
+            return local;
+        }
+
+        ThemeDetailResponse shared = readRedis(themeId);
+        if (shared != null) {
+            localCache.put(themeId, shared);
+            return shared;
+        }
+
+        ThemeDetailResponse loaded = loader.get();
+        writeRedis(themeId, loaded);
+        localCache.put(themeId, loaded);
+        return loaded;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onThemeChanged(ThemeChangedEvent event) {
+        evictAll(List.of(event.themeId()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onThemeContentChanged(ThemeContentChangedEvent event) {
+        evictAll(List.of(event.themeId()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onRestaurantChanged(RestaurantChangedEvent event) {
+        try {
+            List<?> ids = stringRedisTemplate.execute(EVICT_DEPENDENTS_SCRIPT,
+                    List.of(DEPS_PREFIX + event.restaurantId()), KEY_PREFIX);
+            if (ids == null || ids.isEmpty()) {
+                return;
+            }
+            List<Long> themeIds = ids.stream().map(id -> Long.valueOf(id.toString())).toList();
+            localCache.invalidateAll(themeIds);
+            stringRedisTemplate.convertAndSend(EVICT_CHANNEL,
+                    themeIds.stream().map(String::valueOf).collect(Collectors.joining(",")));
+            log.debug("식당 변경으로 테마 캐시 무효화 - restaurantId: {}, {}건", event.restaurantId(), themeIds.size());
+        } catch (Exception e) {
+            // 다른 노드의 로컬 캐시와 Redis 값은 TTL 만료로 정리됨
+            log.error("식당 변경 테마 캐시 무효화 실패 - restaurantId: {}, {}", event.restaurantId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 여러 테마 일괄 무효화
+     */
+    public void evictAll(Collection<Long> themeIds) {
+        if (themeIds.isEmpty()) {
+            return;
+        }
+        localCache.invalidateAll(themeIds);
+        try {
+            stringRedisTemplate.delete(themeIds.stream().map(id -> KEY_PREFIX + id).toList());
+            stringRedisTemplate.convertAndSend(EVICT_CHANNEL,
+                    themeIds.stream().map(String::valueOf).collect(Collectors.joining(",")));
+        } catch (Exception e) {
+            log.error("테마 캐시 무효화 실패 - {}건, {}", themeIds.size(), e.getMessage());
+        }
+    }
+
+    private ThemeDetailResponse readRedis(Long themeId) {
+        try {
+            String json = stringRedisTemplate.opsForValue().get(KEY_PREFIX + themeId);
+            if (json == null) {
+                redisMisses.increment();
+                return null;
+            }
+            redisHits.increment();
+            return objectMapper.readValue(json, ThemeDetailResponse.class);
+        } catch (Exception e) {
+            log.error("Redis 테마 캐시 조회 실패 - themeId: {}, {}", themeId, e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeRedis(Long themeId, ThemeDetailResponse response) {
+        try {
+            List<String> keys = new ArrayList<>();
+            keys.add(KEY_PREFIX + themeId);
+            response.getRestaurants().stream()
+                    .map(ThemeDetailResponse.ThemeRestaurantResponse::getRestaurantId)
+                    .distinct()
+                    .forEach(restaurantId -> keys.add(DEPS_PREFIX + restaurantId));
+            stringRedisTemplate.execute(WRITE_SCRIPT, keys,
+                    objectMapper.writeValueAsString(response),
+                    String.valueOf(redisTtl.toSeconds()),
+                    themeId.toString(),
+                    String.valueOf(redisTtl.toSeconds() * 2));
+        } catch (Exception e) {
+            log.error("Redis 테마 캐시 저장 실패 - themeId: {}, {}", themeId, e.getMessage());
+        }
+    }
+}
@@ -1,75 +1,436 @@
 package com.ezroad.service;
 
-import com.ezroad.entity.Member;
-import com.ezroad.entity.Theme;
-import com.ezroad.entity.ThemeLike;
 import com.ezroad.exception.DuplicateResourceException;
 import com.ezroad.exception.ResourceNotFoundException;
-import com.ezroad.repository.MemberRepository;
+import com.ezroad.ranking.ThemeLeaderboardService;
 import com.ezroad.repository.ThemeLikeRepository;
-import com.ezroad.repository.ThemeRepository;
-import lombok.RequiredArgsConstructor;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * 테마 좋아요 (Redis Set + 일괄 반영)
+ *
+ * - 테마별 Set theme:likes:{themeId}에 좋아요한 회원 id 저장 → SADD/SREM 결과로 중복/취소 판별, SCARD로 좋아요 수
+ *   → 좋아요마다 테마 행을 읽고 고쳐 쓰지 않으므로 인기 테마에도 행 락 경합/갱신 유실 없음
+ * - theme_likes / themes.like_count는 메모리에 쌓아 둔 변경을 주기적으로 한 트랜잭션에서 일괄 반영
+ *   (같은 회원·테마의 변경은 마지막 상태만 반영, like_count는 실제로 추가/삭제된 행 수만큼 증감)
+ * - Set이 없으면 DB(+ 아직 반영되지 않은 변경)로 구성, 빈 테마도 구성 여부를 알 수 있도록 센티널 "0"을 넣어 둠
+ * - 구성은 임시 키에 채운 뒤 RENAMENX → 여러 요청이 동시에 구성해도 먼저 만든 Set만 남음
+ * - 다른 인스턴스의 미반영 변경은 구성 시 빠질 수 있으므로 TTL(theme-like.ttl-hours)로 상한을 둠
+ * - Redis 장애 시 DB에 바로 반영 (like_count는 원자적 증감)
+ * - 반영 직후 인기 테마 순위(좋아요 수 / 최근 증가량) 갱신
+ */
+@Slf4j
 @Service
-@RequiredArgsConstructor
-@Transactional(readOnly = true)
 public class ThemeLikeService {
 
+    private static final String KEY_PREFIX = "theme:likes:";
+    private static final String SENTINEL = "0";
+    private static final int BUILD_CHUNK = 1000;
+    private static final int MAX_BULK = 100;
+
+    // ARGV: 회원 id, TTL(초) / 반환: {추가 또는 삭제 여부(1/0), 좋아요 수}, Set이 없으면 {-1, 0}
+    private static final RedisScript<List> LIKE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then return {-1, 0} end
+            local changed = redis.call('SADD', KEYS[1], ARGV[1])
+            redis.call('EXPIRE', KEYS[1], ARGV[2])
+            return {changed, redis.call('SCARD', KEYS[1]) - 1}
+            """, List.class);
+
+    private static final RedisScript<List> UNLIKE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then return {-1, 0} end
+            local changed = redis.call('SREM', KEYS[1], ARGV[1])
+            redis.call('EXPIRE', KEYS[1], ARGV[2])
+            return {changed, redis.call('SCARD', KEYS[1]) - 1}
+            """, List.class);
+
+    private static final String INSERT_SQL = "INSERT INTO theme_likes (theme_id, member_id, created_at) " +
+            "SELECT ?, ?, ? WHERE EXISTS (SELECT 1 FROM themes WHERE id = ?) " +
+            "ON CONFLICT (theme_id, member_id) DO NOTHING";
+
+    private static final String DELETE_SQL = "DELETE FROM theme_likes WHERE theme_id = ? AND member_id = ?";
+
+    private static final String ADD_COUNT_SQL = "UPDATE themes SET like_count = GREATEST(like_count + ?, 0) WHERE id = ?";
+
+    private static final String RECOUNT_SQL = "UPDATE themes SET like_count = " +
+            "(SELECT COUNT(*) FROM theme_likes WHERE theme_id = ?) WHERE id = ?";
+
+    private static final String LOAD_SQL = "SELECT t.id AS theme_id, l.member_id FROM themes t " +
+            "LEFT JOIN theme_likes l ON l.theme_id = t.id WHERE t.id IN (:ids)";
+
+    /**
+     * 좋아요 여부와 좋아요 수
+     */
+    public record LikeStatus(boolean liked, long likeCount) {
+    }
+
+    private record PendingKey(Long themeId, Long memberId) {
+    }
+
+    private final StringRedisTemplate stringRedisTemplate;
     private final ThemeLikeRepository themeLikeRepository;
-    private final ThemeRepository themeRepository;
-    private final MemberRepository memberRepository;
+    private final ThemeLeaderboardService themeLeaderboardService;
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration ttl;
+
+    // 아직 DB에 반영되지 않은 변경 (true: 좋아요, false: 취소)
+    private final Map<PendingKey, Boolean> pending = new ConcurrentHashMap<>();
+
+    public ThemeLikeService(StringRedisTemplate stringRedisTemplate,
+                            ThemeLikeRepository themeLikeRepository,
+                            ThemeLeaderboardService themeLeaderboardService,
+                            JdbcTemplate jdbcTemplate,
+                            NamedParameterJdbcTemplate namedJdbcTemplate,
+                            PlatformTransactionManager transactionManager,
+                            @Value("${theme-like.ttl-hours:24}") long ttlHours) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.themeLikeRepository = themeLikeRepository;
+        this.themeLeaderboardService = themeLeaderboardService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = namedJdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.ttl = Duration.ofHours(ttlHours);
+    }
 
-    // 좋아요
-    @Transactional
-    public void likeTheme(Long themeId, Long memberId) {
-        if (themeLikeRepository.existsByThemeIdAndMemberId(themeId, memberId)) {
+    /**
+     * 좋아요
+     * @return 좋아요 수
+     */
+    public long likeTheme(Long themeId, Long memberId) {
+        long[] result = apply(LIKE_SCRIPT, themeId, memberId);
+        long likeCount;
+        if (result == null) {
+            likeCount = likeInDb(themeId, memberId);
+        } else if (result[0] == 0) {
             throw new DuplicateResourceException("이미 좋아요한 테마입니다.");
+        } else {
+            pending.put(new PendingKey(themeId, memberId), Boolean.TRUE);
+            likeCount = result[1];
+        }
+        themeLeaderboardService.onLikeCountChanged(themeId, likeCount, 1);
+        return likeCount;
+    }
+
+    /**
+     * 좋아요 취소
+     * @return 좋아요 수
+     */
+    public long unlikeTheme(Long themeId, Long memberId) {
+        long[] result = apply(UNLIKE_SCRIPT, themeId, memberId);
+        long likeCount;
+        if (result == null) {
+            likeCount = unlikeInDb(themeId, memberId);
+        } else if (result[0] == 0) {
+            throw new ResourceNotFoundException("좋아요 기록을 찾을 수 없습니다.");
+        } else {
+            pending.put(new PendingKey(themeId, memberId), Boolean.FALSE);
+            likeCount = result[1];
+        }
+        themeLeaderboardService.onLikeCountChanged(themeId, likeCount, -1);
+        return likeCount;
+    }
+
+    /**
+     * 좋아요 여부 / 좋아요 수 (memberId가 null이면 좋아요 여부는 false)
+     */
+    public LikeStatus getLikeStatus(Long themeId, Long memberId) {
+        LikeStatus status = getLikeStatuses(List.of(themeId), memberId).get(themeId);
+        if (status == null) {
+            throw new ResourceNotFoundException("테마를 찾을 수 없습니다.");
+        }
+        return status;
+    }
+
+    /**
+     * 목록 한 페이지 분량의 좋아요 여부 / 좋아요 수 일괄 조회 (최대 100개, 요청 순서 유지, 없는 테마는 제외)
+     * - Redis 파이프라인 한 번 (SCARD + SISMEMBER), Set이 없는 테마만 모아 DB 한 번으로 구성
+     */
+    public Map<Long, LikeStatus> getLikeStatuses(Collection<Long> themeIds, Long memberId) {
+        List<Long> ids = themeIds.stream().filter(Objects::nonNull).distinct().limit(MAX_BULK).toList();
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Long, LikeStatus> found = new HashMap<>();
+        List<Long> misses = new ArrayList<>();
+        try {
+            byte[] member = memberId != null ? memberId.toString().getBytes(StandardCharsets.UTF_8) : null;
+            List<Object> replies = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (Long id : ids) {
+                    byte[] key = key(id).getBytes(StandardCharsets.UTF_8);
+                    connection.setCommands().sCard(key);
+                    if (member != null) {
+                        connection.setCommands().sIsMember(key, member);
+                    }
+                }
+                return null;
+            });
+            int step = member != null ? 2 : 1;
+            for (int i = 0; i < ids.size(); i++) {
+                Long size = (Long) replies.get(i * step);
+                if (size == null || size == 0) {
+                    misses.add(ids.get(i));
+                    continue;
+                }
+                boolean liked = member != null && Boolean.TRUE.equals(replies.get(i * step + 1));
+                found.put(ids.get(i), new LikeStatus(liked, size - 1));
+            }
+        } catch (Exception e) {
+            log.error("테마 좋아요 조회 실패 (DB 조회로 대체): {}", e.getMessage());
+            found.clear();
+            misses = ids;
+        }
+
+        if (!misses.isEmpty()) {
+            load(misses).forEach((themeId, members) -> found.put(themeId, new LikeStatus(
+                    memberId != null && members.contains(memberId.toString()), members.size())));
         }
 
-        Theme theme = themeRepository.findById(themeId)
-                .orElseThrow(() -> new ResourceNotFoundException("테마를 찾을 수 없습니다."));
-        Member member = memberRepository.findById(memberId)
-                .orElseThrow(() -> new ResourceNotFoundException("회원을 찾을 수 없습니다."));
+        Map<Long, LikeStatus> result = new LinkedHashMap<>();
+        for (Long id : ids) {
+            LikeStatus status = found.get(id);
+            if (status != null) {
+                result.put(id, status);
+            }
+        }
+        return result;
+    }
 
-        ThemeLike themeLike = ThemeLike.builder()
-                .theme(theme)
-                .member(member)
-                .build();
+    /**
+     * 내가 좋아요한 테마 ID 목록 (최근 좋아요 순, 미반영 변경 포함)
+     */
+    public List<Long> getMyLikedThemeIds(Long memberId) {
+        Set<Long> ids = new LinkedHashSet<>();
+        Set<Long> unliked = new HashSet<>();
+        pending.forEach((key, liked) -> {
+            if (key.memberId().equals(memberId)) {
+                if (liked) {
+                    ids.add(key.themeId());
+                } else {
+                    unliked.add(key.themeId());
+                }
+            }
+        });
+        themeLikeRepository.findByMemberIdWithTheme(memberId).stream()
+                .map(tl -> tl.getTheme().getId())
+                .filter(id -> !unliked.contains(id))
+                .forEach(ids::add);
+        return new ArrayList<>(ids);
+    }
+
+    @Scheduled(fixedDelayString = "${theme-like.flush-interval-ms:5000}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        // 테마 id 순으로 반영 (동시에 도는 다른 인스턴스와 락 순서를 맞춤)
+        Map<PendingKey, Boolean> snapshot = new TreeMap<>(
+                Comparator.comparing(PendingKey::themeId).thenComparing(PendingKey::memberId));
+        snapshot.putAll(pending);
+        try {
+            transactionTemplate.executeWithoutResult(status -> write(snapshot));
+            // 반영 중 다시 바뀐 항목은 남겨 두고 다음 주기에 반영
+            snapshot.forEach(pending::remove);
+            log.debug("테마 좋아요 반영 - {}건", snapshot.size());
+        } catch (Exception e) {
+            log.error("테마 좋아요 반영 실패 (다음 주기에 재시도): {}", e.getMessage());
+        }
+    }
 
-        themeLikeRepository.save(themeLike);
-        theme.incrementLikeCount();
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
     }
 
-    // 좋아요 취소
-    @Transactional
-    public void unlikeTheme(Long themeId, Long memberId) {
-        ThemeLike themeLike = themeLikeRepository.findByThemeIdAndMemberId(themeId, memberId)
-                .orElseThrow(() -> new ResourceNotFoundException("좋아요 기록을 찾을 수 없습니다."));
+    private void write(Map<PendingKey, Boolean> changes) {
+        List<PendingKey> keys = new ArrayList<>(changes.keySet());
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> inserts = new ArrayList<>();
+        List<Object[]> deletes = new ArrayList<>();
+        List<PendingKey> insertKeys = new ArrayList<>();
+        List<PendingKey> deleteKeys = new ArrayList<>();
+        for (PendingKey key : keys) {
+            if (changes.get(key)) {
+                inserts.add(new Object[]{key.themeId(), key.memberId(), now, key.themeId()});
+                insertKeys.add(key);
+            } else {
+                deletes.add(new Object[]{key.themeId(), key.memberId()});
+                deleteKeys.add(key);
+            }
+        }
+
+        Map<Long, Integer> deltas = new TreeMap<>();
+        Set<Long> recount = new HashSet<>();
+        collect(jdbcTemplate.batchUpdate(INSERT_SQL, inserts), insertKeys, 1, deltas, recount);
+        collect(jdbcTemplate.batchUpdate(DELETE_SQL, deletes), deleteKeys, -1, deltas, recount);
 
-        Theme theme = themeLike.getTheme();
-        themeLikeRepository.delete(themeLike);
-        theme.decrementLikeCount();
+        List<Object[]> adds = new ArrayList<>();
+        deltas.forEach((themeId, delta) -> {
+            if (delta != 0 && !recount.contains(themeId)) {
+                adds.add(new Object[]{delta, themeId});
+            }
+        });
+        jdbcTemplate.batchUpdate(ADD_COUNT_SQL, adds);
+        jdbcTemplate.batchUpdate(RECOUNT_SQL, recount.stream().sorted()
+                .map(themeId -> new Object[]{themeId, themeId}).toList());
     }
 
-    // 좋아요 여부 확인
-    public boolean isLiked(Long themeId, Long memberId) {
-        return themeLikeRepository.existsByThemeIdAndMemberId(themeId, memberId);
+    /**
+     * 실제로 추가/삭제된 행 수로 테마별 증감 계산 (드라이버가 행 수를 주지 않으면 다시 세기)
+     */
+    private static void collect(int[] counts, List<PendingKey> keys, int sign,
+                                Map<Long, Integer> deltas, Set<Long> recount) {
+        for (int i = 0; i < counts.length; i++) {
+            Long themeId = keys.get(i).themeId();
+            if (counts[i] < 0) {
+                recount.add(themeId);
+            } else if (counts[i] > 0) {
+                deltas.merge(themeId, sign * counts[i], Integer::sum);
+            }
+        }
     }
 
-    // 좋아요 수 조회
-    public long getLikeCount(Long themeId) {
-        return themeLikeRepository.countByThemeId(themeId);
+    /**
+     * @return {변경 여부, 좋아요 수}, Redis를 쓸 수 없으면 null
+     */
+    private long[] apply(RedisScript<List> script, Long themeId, Long memberId) {
+        try {
+            long[] result = execute(script, themeId, memberId);
+            if (result[0] < 0) {
+                if (load(List.of(themeId)).isEmpty()) {
+                    throw new ResourceNotFoundException("테마를 찾을 수 없습니다.");
+                }
+                result = execute(script, themeId, memberId);
+            }
+            return result[0] < 0 ? null : result;
+        } catch (ResourceNotFoundException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("테마 좋아요 Redis 반영 실패 (DB에 바로 반영) - themeId: {}, {}", themeId, e.getMessage());
+            return null;
+        }
     }
 
-    // 내가 좋아요한 테마 ID 목록
-    public List<Long> getMyLikedThemeIds(Long memberId) {
-        return themeLikeRepository.findByMemberIdWithTheme(memberId).stream()
-                .map(tl -> tl.getTheme().getId())
-                .collect(Collectors.toList());
+    private long[] execute(RedisScript<List> script, Long themeId, Long memberId) {
+        List<?> reply = stringRedisTemplate.execute(script, List.of(key(themeId)),
+                memberId.toString(), String.valueOf(ttl.toSeconds()));
+        return new long[]{((Number) reply.get(0)).longValue(), ((Number) reply.get(1)).longValue()};
+    }
+
+    /**
+     * DB(+ 미반영 변경)에서 Set 구성 후 Redis에 저장
+     * @return 테마 id → 좋아요한 회원 id (센티널 제외), 존재하지 않는 테마는 제외
+     */
+    private Map<Long, Set<String>> load(List<Long> themeIds) {
+        Map<Long, Set<String>> loaded = new HashMap<>();
+        namedJdbcTemplate.query(LOAD_SQL, new MapSqlParameterSource("ids", themeIds), (RowCallbackHandler) rs -> {
+            Set<String> members = loaded.computeIfAbsent(rs.getLong("theme_id"), k -> new HashSet<>());
+            long memberId = rs.getLong("member_id");
+            if (!rs.wasNull()) {
+                members.add(String.valueOf(memberId));
+            }
+        });
+        pending.forEach((key, liked) -> {
+            Set<String> members = loaded.get(key.themeId());
+            if (members != null) {
+                if (liked) {
+                    members.add(key.memberId().toString());
+                } else {
+                    members.remove(key.memberId().toString());
+                }
+            }
+        });
+        loaded.forEach(this::store);
+        return loaded;
+    }
+
+    private void store(Long themeId, Set<String> members) {
+        String key = key(themeId);
+        String buildKey = key + ":build:" + UUID.randomUUID();
+        try {
+            List<String> values = new ArrayList<>(members.size() + 1);
+            values.add(SENTINEL);
+            values.addAll(members);
+            for (int from = 0; from < values.size(); from += BUILD_CHUNK) {
+                List<String> chunk = values.subList(from, Math.min(from + BUILD_CHUNK, values.size()));
+                stringRedisTemplate.opsForSet().add(buildKey, chunk.toArray(String[]::new));
+            }
+            stringRedisTemplate.expire(buildKey, ttl);
+            if (!Boolean.TRUE.equals(stringRedisTemplate.renameIfAbsent(buildKey, key))) {
+                stringRedisTemplate.delete(buildKey);
+            }
+        } catch (Exception e) {
+            log.error("테마 좋아요 Set 구성 실패 - themeId: {}, {}", themeId, e.getMessage());
+        }
+    }
+
+    private long likeInDb(Long themeId, Long memberId) {
+        Long count = transactionTemplate.execute(status -> {
+            int inserted = jdbcTemplate.update(INSERT_SQL, themeId, memberId,
+                    Timestamp.valueOf(LocalDateTime.now()), themeId);
+            if (inserted == 0) {
+                if (countInDb(themeId) == null) {
+                    throw new ResourceNotFoundException("테마를 찾을 수 없습니다.");
+                }
+                throw new DuplicateResourceException("이미 좋아요한 테마입니다.");
+            }
+            jdbcTemplate.update(ADD_COUNT_SQL, 1, themeId);
+            return countInDb(themeId);
+        });
+        return count != null ? count : 0;
+    }
+
+    private long unlikeInDb(Long themeId, Long memberId) {
+        Long count = transactionTemplate.execute(status -> {
+            if (jdbcTemplate.update(DELETE_SQL, themeId, memberId) == 0) {
+                throw new ResourceNotFoundException("좋아요 기록을 찾을 수 없습니다.");
+            }
+            jdbcTemplate.update(ADD_COUNT_SQL, -1, themeId);
+            return countInDb(themeId);
+        });
+        return count != null ? count : 0;
+    }
+
+    private Long countInDb(Long themeId) {
+        List<Long> counts = jdbcTemplate.queryForList("SELECT like_count FROM themes WHERE id = ?", Long.class, themeId);
+        return counts.isEmpty() ? null : counts.get(0);
+    }
+
+    private static String key(Long themeId) {
+        return KEY_PREFIX + themeId;
     }
 }
@@ -1,27 +1,45 @@
 package com.ezroad.service;
 
+import com.ezroad.dto.CursorToken;
 import com.ezroad.dto.request.ThemeAddRestaurantRequest;
 import com.ezroad.dto.request.ThemeCreateRequest;
 import com.ezroad.dto.request.ThemeReorderRequest;
 import com.ezroad.dto.request.ThemeUpdateRequest;
+import com.ezroad.dto.response.CursorResponse;
 import com.ezroad.dto.response.ThemeDetailResponse;
 import com.ezroad.dto.response.ThemeResponse;
 import com.ezroad.entity.*;
+import com.ezroad.event.RestaurantActivityEvent;
+import com.ezroad.event.ThemeChangedEvent;
+import com.ezroad.event.ThemeContentChangedEvent;
 import com.ezroad.exception.DuplicateResourceException;
 import com.ezroad.exception.ResourceNotFoundException;
 import com.ezroad.exception.UnauthorizedException;
+import com.ezroad.ranking.ThemeLeaderboardService;
 import com.ezroad.repository.*;
+import com.ezroad.trending.TrendingSignal;
+import com.ezroad.view.ViewDeduplicator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -31,12 +49,14 @@ public class ThemeService {
 
     private final ThemeRepository themeRepository;
     private final ThemeRestaurantRepository themeRestaurantRepository;
-    private final ThemeViewRepository themeViewRepository;
     private final MemberRepository memberRepository;
     private final RestaurantRepository restaurantRepository;
-    
-    // 조회수 중복 방지 시간 (24시간)
-    private static final int VIEW_DEDUP_HOURS = 24;
+    private final HitCountService hitCountService;
+    private final ViewDeduplicator viewDeduplicator;
+    private final ThemeLeaderboardService themeLeaderboardService;
+    private final ThemeDetailCacheService themeDetailCacheService;
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public ThemeResponse createTheme(Long memberId, ThemeCreateRequest request) {
@@ -52,6 +72,7 @@ public class ThemeService {
                 .build();
 
         Theme saved = themeRepository.save(theme);
+        eventPublisher.publishEvent(new ThemeChangedEvent(saved.getId()));
         return ThemeResponse.from(saved);
     }
 
@@ -60,6 +81,7 @@ public class ThemeService {
         Theme theme = getThemeWithOwnerCheck(themeId, memberId);
         theme.update(request.getTitle(), request.getDescription(), 
                      request.getThumbnail(), request.getIsPublic());
+        eventPublisher.publishEvent(new ThemeChangedEvent(themeId));
         return ThemeResponse.from(theme);
     }
 
@@ -67,6 +89,7 @@ public class ThemeService {
     public void deleteTheme(Long memberId, Long themeId) {
         Theme theme = getThemeWithOwnerCheck(themeId, memberId);
         themeRepository.delete(theme);
+        eventPublisher.publishEvent(new ThemeChangedEvent(themeId));
     }
 
     public Page<ThemeResponse> getMyThemes(Long memberId, Pageable pageable) {
@@ -83,11 +106,28 @@ public class ThemeService {
 
     /**
      * 공개 테마 목록 (정렬 옵션 지원)
-     * @param sort: createdAt(최신순), viewCount(인기순), likeCount(좋아요순)
+     * @param sort: createdAt(최신순), viewCount(인기순), likeCount(좋아요순), growth(최근 인기순)
+     * - 검색어 없이 인기/좋아요/최근 인기순이면 인기 테마 순위(Redis)에서 id만 읽고 한 번에 조회,
+     *   순위를 쓸 수 없으면 DB 정렬로 대체 (최근 인기순은 조회수순)
      */
     public Page<ThemeResponse> getPublicThemes(String keyword, String sort, Pageable pageable) {
+        boolean hasKeyword = keyword != null && !keyword.isBlank();
+        ThemeLeaderboardService.Board board = switch (sort) {
+            case "viewCount" -> ThemeLeaderboardService.Board.VIEWS;
+            case "likeCount" -> ThemeLeaderboardService.Board.LIKES;
+            case "growth" -> ThemeLeaderboardService.Board.GROWTH;
+            default -> null;
+        };
+        if (board != null && !hasKeyword) {
+            ThemeLeaderboardService.RankedPage ranked = themeLeaderboardService.getPage(
+                    board, pageable.getOffset(), pageable.getPageSize());
+            if (ranked != null) {
+                return new PageImpl<>(hydrate(ranked.themeIds()), pageable, ranked.total());
+            }
+        }
+
         String sortField = switch (sort) {
-            case "viewCount" -> "viewCount";
+            case "viewCount", "growth" -> "viewCount";
             case "likeCount" -> "likeCount";
             default -> "createdAt";
         };
@@ -98,7 +138,7 @@ public class ThemeService {
             Sort.by(Sort.Direction.DESC, sortField)
         );
 
-        if (keyword != null && !keyword.isBlank()) {
+        if (hasKeyword) {
             return themeRepository.searchPublicThemes(keyword, sortedPageable)
                     .map(ThemeResponse::from);
         }
@@ -106,69 +146,100 @@ public class ThemeService {
                 .map(ThemeResponse::from);
     }
 
+    /**
+     * 공개 테마 목록 (커서 페이지네이션, 최신순)
+     */
+    public CursorResponse<ThemeResponse> getPublicThemesByCursor(String cursor, int size) {
+        CursorToken token = CursorToken.decode(cursor, CursorToken.FIRST_BY_DATE_TIME);
+        return CursorResponse.of(
+                themeRepository.findPublicSliceByCreatedAt(token.sortKeyAsDateTime(), token.id(),
+                        PageRequest.of(0, Math.max(1, Math.min(size, 50)))),
+                ThemeResponse::from,
+                t -> CursorToken.of(t.getCreatedAt(), t.getId()));
+    }
+
     public List<ThemeResponse> getTopThemes() {
+        ThemeLeaderboardService.RankedPage ranked = themeLeaderboardService.getPage(
+                ThemeLeaderboardService.Board.VIEWS, 0, 3);
+        if (ranked != null) {
+            return hydrate(ranked.themeIds());
+        }
         return themeRepository.findTop3ByIsPublicTrueOrderByViewCountDesc()
                 .stream()
                 .map(ThemeResponse::from)
                 .toList();
     }
 
+    // 순위 id 순서대로 한 번에 조회 (그 사이 비공개 전환/삭제된 테마는 제외)
+    private List<ThemeResponse> hydrate(List<Long> themeIds) {
+        if (themeIds.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Theme> themes = themeRepository.findByIdIn(themeIds).stream()
+                .collect(Collectors.toMap(Theme::getId, Function.identity()));
+        return themeIds.stream()
+                .map(themes::get)
+                .filter(Objects::nonNull)
+                .filter(t -> Boolean.TRUE.equals(t.getIsPublic()))
+                .map(ThemeResponse::from)
+                .toList();
+    }
+
     /**
-     * 테마 상세 조회 (24시간 조회수 중복 방지)
+     * 테마 상세 조회 (조회수 중복 방지: ViewDeduplicator, 조회수 반영: HitCountService → DB 쓰기 없음)
+     * - 상세 정보는 2단계 캐시(ThemeDetailCacheService)에서 조회, 공개 여부/작성자 확인은 캐시 값으로
      */
-    @Transactional
     public ThemeDetailResponse getThemeDetail(Long themeId, Long memberId, String viewerIdentifier) {
-        Theme theme = themeRepository.findByIdWithRestaurants(themeId)
-                .orElseThrow(() -> new ResourceNotFoundException("존재하지 않는 테마입니다"));
+        ThemeDetailResponse detail = getCachedDetail(themeId);
 
         // 비공개 테마는 본인만 조회 가능
-        if (!theme.getIsPublic() && !theme.getMember().getId().equals(memberId)) {
+        if (!detail.getIsPublic() && !detail.getMember().getId().equals(memberId)) {
             throw new UnauthorizedException("비공개 테마입니다");
         }
 
         // 본인 테마가 아닌 경우에만 조회수 처리
-        if (memberId == null || !theme.getMember().getId().equals(memberId)) {
-            // 24시간 내 동일 사용자 조회 여부 확인
-            LocalDateTime since = LocalDateTime.now().minusHours(VIEW_DEDUP_HOURS);
-            boolean hasRecentView = themeViewRepository.existsRecentView(themeId, viewerIdentifier, since);
-            
-            if (!hasRecentView) {
-                // 새로운 조회 → 조회수 증가 + 기록 저장
-                theme.incrementViewCount();
-                
-                ThemeView themeView = ThemeView.builder()
-                        .theme(theme)
-                        .viewerIdentifier(viewerIdentifier)
-                        .build();
-                themeViewRepository.save(themeView);
-                
-                log.debug("테마 #{} 조회수 증가: {} (viewer: {})", themeId, theme.getViewCount(), viewerIdentifier);
+        if (memberId == null || !detail.getMember().getId().equals(memberId)) {
+            long newViews = viewDeduplicator.markViewed("theme", themeId, viewerIdentifier);
+            if (newViews > 0) {
+                hitCountService.recordThemeViews(themeId, newViews);
+                log.debug("테마 #{} 조회수 증가 (viewer: {})", themeId, viewerIdentifier);
             } else {
                 log.debug("테마 #{} 중복 조회 차단 (viewer: {})", themeId, viewerIdentifier);
             }
         }
 
-        return ThemeDetailResponse.from(theme);
+        return withCurrentViews(detail);
     }
     
     /**
      * 기존 호환성을 위한 오버로드 (viewerIdentifier 없이 호출 시)
      */
-    @Transactional
     public ThemeDetailResponse getThemeDetail(Long themeId, Long memberId) {
-        Theme theme = themeRepository.findByIdWithRestaurants(themeId)
-                .orElseThrow(() -> new ResourceNotFoundException("존재하지 않는 테마입니다"));
+        ThemeDetailResponse detail = getCachedDetail(themeId);
 
-        if (!theme.getIsPublic() && !theme.getMember().getId().equals(memberId)) {
+        if (!detail.getIsPublic() && !detail.getMember().getId().equals(memberId)) {
             throw new UnauthorizedException("비공개 테마입니다");
         }
 
         // viewerIdentifier 없이 호출되면 항상 조회수 증가 (레거시 동작)
-        if (memberId == null || !theme.getMember().getId().equals(memberId)) {
-            theme.incrementViewCount();
+        if (memberId == null || !detail.getMember().getId().equals(memberId)) {
+            hitCountService.recordThemeView(themeId);
         }
 
-        return ThemeDetailResponse.from(theme);
+        return withCurrentViews(detail);
+    }
+
+    private ThemeDetailResponse getCachedDetail(Long themeId) {
+        return themeDetailCacheService.get(themeId, () ->
+                ThemeDetailResponse.from(themeRepository.findByIdWithRestaurants(themeId)
+                        .orElseThrow(() -> new ResourceNotFoundException("존재하지 않는 테마입니다"))));
+    }
+
+    // 캐시 문서의 조회수(저장 시점 값)를 현재 조회수(반영분 + 미반영분)로 바꿈
+    private ThemeDetailResponse withCurrentViews(ThemeDetailResponse response) {
+        return response.toBuilder()
+                .viewCount((int) hitCountService.getThemeViewCount(response.getId(), response.getViewCount()))
+                .build();
     }
 
     @Transactional
@@ -188,11 +259,15 @@ public class ThemeService {
         ThemeRestaurant themeRestaurant = ThemeRestaurant.builder()
                 .theme(theme)
                 .restaurant(restaurant)
-                .sortOrder(maxOrder + 1)
+                .sortOrder(GapSortKeys.next(maxOrder))
                 .memo(request.getMemo())
                 .build();
 
         themeRestaurantRepository.save(themeRestaurant);
+        eventPublisher.publishEvent(new ThemeContentChangedEvent(themeId));
+        if (Boolean.TRUE.equals(theme.getIsPublic())) {
+            eventPublisher.publishEvent(new RestaurantActivityEvent(restaurant.getId(), TrendingSignal.THEME));
+        }
 
         Theme updatedTheme = themeRepository.findByIdWithRestaurants(themeId)
                 .orElseThrow(() -> new ResourceNotFoundException("존재하지 않는 테마입니다"));
@@ -208,30 +283,70 @@ public class ThemeService {
                 .orElseThrow(() -> new ResourceNotFoundException("테마에 해당 식당이 없습니다"));
 
         themeRestaurantRepository.delete(themeRestaurant);
+        eventPublisher.publishEvent(new ThemeContentChangedEvent(themeId));
 
         Theme updatedTheme = themeRepository.findByIdWithRestaurants(themeId)
                 .orElseThrow(() -> new ResourceNotFoundException("존재하지 않는 테마입니다"));
         return ThemeDetailResponse.from(updatedTheme);
     }
 
+    /**
+     * 식당 순서 변경
+     * - 요청 순서(테마에 없는 id 무시) 뒤에 요청에 빠진 식당을 기존 순서대로 붙임
+     * - 간격을 둔 정렬 키(GapSortKeys)로 바뀐 행만 한 번의 UPDATE ... FROM (VALUES ...)로 반영
+     * - 응답은 처음 조회한 테마로 구성 (다시 조회하지 않음)
+     */
     @Transactional
     public ThemeDetailResponse reorderRestaurants(Long memberId, Long themeId, ThemeReorderRequest request) {
-        getThemeWithOwnerCheck(themeId, memberId);
-
-        List<ThemeRestaurant> themeRestaurants = themeRestaurantRepository
-                .findByThemeIdOrderBySortOrderAsc(themeId);
+        Theme theme = themeRepository.findByIdWithRestaurants(themeId)
+                .orElseThrow(() -> new ResourceNotFoundException("존재하지 않는 테마입니다"));
+        if (!theme.getMember().getId().equals(memberId)) {
+            throw new UnauthorizedException("테마 수정 권한이 없습니다");
+        }
 
-        List<Long> newOrder = request.getRestaurantIds();
-        for (ThemeRestaurant tr : themeRestaurants) {
-            int newIndex = newOrder.indexOf(tr.getRestaurant().getId());
-            if (newIndex >= 0) {
-                tr.updateSortOrder(newIndex);
+        Map<Long, ThemeRestaurant> byRestaurantId = new LinkedHashMap<>();
+        theme.getThemeRestaurants().stream()
+                .sorted(Comparator.comparing(ThemeRestaurant::getSortOrder, Comparator.nullsFirst(Comparator.naturalOrder()))
+                        .thenComparing(ThemeRestaurant::getId))
+                .forEach(tr -> byRestaurantId.put(tr.getRestaurant().getId(), tr));
+
+        List<ThemeRestaurant> ordered = new ArrayList<>(byRestaurantId.size());
+        for (Long restaurantId : request.getRestaurantIds()) {
+            ThemeRestaurant tr = byRestaurantId.remove(restaurantId);
+            if (tr != null) {
+                ordered.add(tr);
             }
         }
-
-        Theme updatedTheme = themeRepository.findByIdWithRestaurants(themeId)
-                .orElseThrow(() -> new ResourceNotFoundException("존재하지 않는 테마입니다"));
-        return ThemeDetailResponse.from(updatedTheme);
+        ordered.addAll(byRestaurantId.values());
+
+        int[] currentKeys = ordered.stream()
+                .mapToInt(tr -> tr.getSortOrder() != null ? tr.getSortOrder() : 0)
+                .toArray();
+        int[] newKeys = GapSortKeys.reassign(currentKeys);
+
+        List<Object> params = new ArrayList<>();
+        List<ThemeDetailResponse.ThemeRestaurantResponse> restaurants = new ArrayList<>(ordered.size());
+        for (int i = 0; i < ordered.size(); i++) {
+            ThemeRestaurant tr = ordered.get(i);
+            if (newKeys[i] != currentKeys[i]) {
+                params.add(tr.getId());
+                params.add(newKeys[i]);
+            }
+            restaurants.add(ThemeDetailResponse.ThemeRestaurantResponse.from(tr).toBuilder()
+                    .sortOrder(newKeys[i])
+                    .build());
+        }
+        if (!params.isEmpty()) {
+            String values = String.join(", ",
+                    Collections.nCopies(params.size() / 2, "(CAST(? AS BIGINT), CAST(? AS INTEGER))"));
+            params.add(themeId);
+            jdbcTemplate.update("UPDATE theme_restaurants tr SET sort_order = v.sort_order " +
+                    "FROM (VALUES " + values + ") AS v(id, sort_order) " +
+                    "WHERE tr.id = v.id AND tr.theme_id = ?", params.toArray());
+            log.debug("테마 #{} 식당 순서 변경 - {}건 갱신", themeId, params.size() / 2);
+            eventPublisher.publishEvent(new ThemeContentChangedEvent(themeId));
+        }
+        return ThemeDetailResponse.from(theme, restaurants);
     }
 
     private Theme getThemeWithOwnerCheck(Long themeId, Long memberId) {
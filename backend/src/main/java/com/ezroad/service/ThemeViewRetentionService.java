@@ -0,0 +1,88 @@
+package com.ezroad.service;
+
+import com.ezroad.repository.ThemeViewRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * theme_views 보관 기간 정리
+ *
+ * - 테마 조회수 중복 방지는 ViewDeduplicator로 옮겨서 더 이상 행이 쌓이지 않음 → 남은 기록을 정리
+ * - theme-view.retention-days가 지난 기록을 청크(DELETE ... LIMIT)씩 삭제, 청크마다 별도 트랜잭션
+ * - 청크 사이에 잠시 쉬고, 한 번 실행에 최대 청크 수를 둬서 부하를 제한 (남은 건 다음 실행에서)
+ *
+ * 지표: theme.views.retention.deleted (삭제 행 수), theme.views.retention.run (실행 시간),
+ *      theme.views.retention.last-deleted (마지막 실행 삭제 행 수)
+ */
+@Slf4j
+@Service
+public class ThemeViewRetentionService {
+
+    private final ThemeViewRepository themeViewRepository;
+    private final int retentionDays;
+    private final int chunkSize;
+    private final int maxChunks;
+    private final long pauseMs;
+    private final Counter deletedCounter;
+    private final Timer runTimer;
+    private final AtomicLong lastDeleted = new AtomicLong();
+
+    public ThemeViewRetentionService(ThemeViewRepository themeViewRepository,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${theme-view.retention-days:30}") int retentionDays,
+                                     @Value("${theme-view.purge-chunk-size:5000}") int chunkSize,
+                                     @Value("${theme-view.purge-max-chunks:200}") int maxChunks,
+                                     @Value("${theme-view.purge-pause-ms:100}") long pauseMs) {
+        this.themeViewRepository = themeViewRepository;
+        this.retentionDays = retentionDays;
+        this.chunkSize = chunkSize;
+        this.maxChunks = maxChunks;
+        this.pauseMs = pauseMs;
+
+        this.deletedCounter = Counter.builder("theme.views.retention.deleted")
+                .description("보관 기간이 지나 삭제된 테마 조회 기록 수")
+                .register(meterRegistry);
+        this.runTimer = Timer.builder("theme.views.retention.run").register(meterRegistry);
+        Gauge.builder("theme.views.retention.last-deleted", lastDeleted, AtomicLong::get)
+                .description("마지막 정리에서 삭제된 행 수")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${theme-view.purge-cron:0 15 5 * * *}", zone = "Asia/Seoul")
+    public void purge() {
+        runTimer.record(this::purgeChunks);
+    }
+
+    private void purgeChunks() {
+        LocalDateTime before = LocalDateTime.now().minusDays(retentionDays);
+        long total = 0;
+        try {
+            for (int chunk = 0; chunk < maxChunks; chunk++) {
+                int deleted = themeViewRepository.deleteOldViews(before, chunkSize);
+                total += deleted;
+                deletedCounter.increment(deleted);
+                if (deleted < chunkSize) {
+                    break;
+                }
+                Thread.sleep(pauseMs);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.error("테마 조회 기록 정리 실패 (다음 실행에서 재시도) - 삭제 {}건 후, {}", total, e.getMessage());
+        }
+        lastDeleted.set(total);
+        if (total > 0) {
+            log.info("테마 조회 기록 정리 완료 - {}건 ({}일 경과)", total, retentionDays);
+        }
+    }
+}
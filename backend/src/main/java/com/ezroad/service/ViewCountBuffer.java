@@ -0,0 +1,78 @@
+package com.ezroad.service;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * 조회수 메모리 버퍼 (id별 LongAdder)
+ *
+ * - increment는 락 없이 스트라이프 카운터만 증가 → 인기 게시물도 행 락 경합 없음
+ * - flush 시 현재 합계를 스냅샷으로 넘기고, 반영에 성공한 만큼만 차감
+ *   (반영 중 들어온 증가분은 남아 다음 flush에 반영, 실패 시 전체 유지 후 재시도)
+ * - 엔트리는 제거하지 않음: 제거와 동시 증가가 겹치면 증가분이 유실될 수 있으므로
+ *   (키 수는 식당/리뷰/테마 수 이내로 제한됨)
+ */
+public final class ViewCountBuffer {
+
+    private final Map<Long, LongAdder> counters = new ConcurrentHashMap<>();
+
+    public void increment(Long id) {
+        add(id, 1L);
+    }
+
+    public void add(Long id, long delta) {
+        counters.computeIfAbsent(id, k -> new LongAdder()).add(delta);
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 조회수
+     */
+    public long pending(Long id) {
+        LongAdder adder = counters.get(id);
+        return adder != null ? adder.sum() : 0L;
+    }
+
+    /**
+     * 증가분을 batch UPDATE로 반영 (id 순 → 인스턴스 간 락 순서 일정)
+     * 실패 시 예외를 그대로 던지고 버퍼는 유지됨
+     * @param sql 증가분, id 순서의 파라미터 2개를 받는 UPDATE (예: SET hit = hit + ? WHERE id = ?)
+     * @return 반영된 id → 증가분
+     */
+    public Map<Long, Long> flushTo(JdbcTemplate jdbcTemplate, String sql) {
+        return flush(deltas -> {
+            List<Object[]> args = new ArrayList<>(deltas.size());
+            deltas.entrySet().stream()
+                    .sorted(Map.Entry.comparingByKey())
+                    .forEach(e -> args.add(new Object[]{e.getValue(), e.getKey()}));
+            jdbcTemplate.batchUpdate(sql, args);
+        });
+    }
+
+    /**
+     * @param writer 증가분(id → delta)을 DB에 반영. 예외를 던지면 버퍼는 그대로 유지됨
+     * @return 반영된 id → 증가분
+     */
+    private Map<Long, Long> flush(Consumer<Map<Long, Long>> writer) {
+        Map<Long, Long> snapshot = new HashMap<>();
+        counters.forEach((id, adder) -> {
+            long sum = adder.sum();
+            if (sum > 0) {
+                snapshot.put(id, sum);
+            }
+        });
+        if (snapshot.isEmpty()) {
+            return snapshot;
+        }
+
+        writer.accept(snapshot);
+        snapshot.forEach((id, delta) -> counters.get(id).add(-delta));
+        return snapshot;
+    }
+}
@@ -0,0 +1,82 @@
+package com.ezroad.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * DB에 반영된 조회수의 Redis 사본 ({prefix}{id})
+ *
+ * - 상세 캐시 문서를 조회수 반영마다 무효화하지 않도록 조회수만 따로 보관 (노드 간 공유)
+ * - 버퍼 반영(flush) 후 키가 있는 id만 INCRBY, 없으면 다음 조회 때 DB 값으로 채움
+ * - 채우기와 반영이 겹쳐 어긋난 값은 TTL로 상한
+ * - Redis 장애/DB 조회 실패 시 호출 측이 넘긴 값(캐시 문서의 조회수) 사용
+ */
+@Slf4j
+public final class ViewCountMirror {
+
+    // KEYS: 사본... / ARGV: 증가분... (KEYS와 같은 순서)
+    private static final RedisScript<Long> ADD_SCRIPT = new DefaultRedisScript<>("""
+            for i = 1, #KEYS do
+              if redis.call('EXISTS', KEYS[i]) == 1 then redis.call('INCRBY', KEYS[i], ARGV[i]) end
+            end
+            return 1
+            """, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final String keyPrefix;
+    private final Duration ttl;
+
+    public ViewCountMirror(StringRedisTemplate stringRedisTemplate, String keyPrefix, Duration ttl) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.keyPrefix = keyPrefix;
+        this.ttl = ttl;
+    }
+
+    /**
+     * @param fallback 사본을 읽거나 채울 수 없을 때 쓸 값
+     * @param dbLoader 사본이 없을 때 DB의 현재 조회수
+     */
+    public long get(Long id, long fallback, LongSupplier dbLoader) {
+        try {
+            String value = stringRedisTemplate.opsForValue().get(keyPrefix + id);
+            if (value != null) {
+                return Long.parseLong(value);
+            }
+            long loaded = dbLoader.getAsLong();
+            stringRedisTemplate.opsForValue().setIfAbsent(keyPrefix + id, String.valueOf(loaded), ttl);
+            return loaded;
+        } catch (Exception e) {
+            log.error("조회수 사본 조회 실패 - {}{}, {}", keyPrefix, id, e.getMessage());
+            return fallback;
+        }
+    }
+
+    /**
+     * DB에 반영된 증가분을 사본에 더함
+     */
+    public void addFlushed(Map<Long, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        List<String> keys = new ArrayList<>(deltas.size());
+        List<String> args = new ArrayList<>(deltas.size());
+        deltas.forEach((id, delta) -> {
+            keys.add(keyPrefix + id);
+            args.add(String.valueOf(delta));
+        });
+        try {
+            stringRedisTemplate.execute(ADD_SCRIPT, keys, args.toArray());
+        } catch (Exception e) {
+            // 사본은 TTL 만료 후 DB 값으로 다시 채워짐
+            log.error("조회수 사본 갱신 실패 - {} {}건, {}", keyPrefix, deltas.size(), e.getMessage());
+        }
+    }
+}
@@ -8,13 +8,17 @@ import com.ezroad.entity.NotificationType;
 import com.ezroad.entity.Restaurant;
 import com.ezroad.entity.Waiting;
 import com.ezroad.entity.WaitingStatus;
+import com.ezroad.event.RestaurantActivityEvent;
 import com.ezroad.exception.ResourceNotFoundException;
 import com.ezroad.exception.UnauthorizedException;
 import com.ezroad.repository.MemberRepository;
 import com.ezroad.repository.RestaurantRepository;
 import com.ezroad.repository.WaitingRepository;
+import com.ezroad.security.RestaurantOwnershipIndex;
+import com.ezroad.trending.TrendingSignal;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -37,6 +41,8 @@ public class WaitingService {
     private final RestaurantRepository restaurantRepository;
     private final NotificationService notificationService;
     private final WaitingRedisService waitingRedisService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final RestaurantOwnershipIndex restaurantOwnershipIndex;
     
     // 한국 시간대
     private static final ZoneId KOREA_ZONE = ZoneId.of("Asia/Seoul");
@@ -109,7 +115,8 @@ public class WaitingService {
         
         // 🔔 대기 인원 변경 브로드캐스트 + 기존 대기자들에게 순번 업데이트
         broadcastWaitingUpdate(restaurant.getId(), restaurant.getName());
-        
+
+        eventPublisher.publishEvent(new RestaurantActivityEvent(restaurant.getId(), TrendingSignal.WAITING));
         return WaitingResponse.from(savedWaiting);
     }
 
@@ -132,7 +139,7 @@ public class WaitingService {
         
         // 본인 또는 사업자만 조회 가능
         if (!waiting.getMember().getId().equals(memberId) &&
-            !waiting.getRestaurant().getOwner().getId().equals(memberId)) {
+            !restaurantOwnershipIndex.isOwner(waiting.getRestaurant().getId(), memberId)) {
             throw new UnauthorizedException("조회 권한이 없습니다");
         }
         
@@ -178,9 +185,7 @@ public class WaitingService {
                 .orElseThrow(() -> new ResourceNotFoundException("존재하지 않는 대기입니다"));
         
         // 사업자 권한 확인
-        if (!waiting.getRestaurant().getOwner().getId().equals(ownerId)) {
-            throw new UnauthorizedException("권한이 없습니다");
-        }
+        restaurantOwnershipIndex.requireOwner(waiting.getRestaurant().getId(), ownerId, "권한이 없습니다");
         
         waiting.call();
         
@@ -220,9 +225,7 @@ public class WaitingService {
                 .orElseThrow(() -> new ResourceNotFoundException("존재하지 않는 대기입니다"));
         
         // 사업자 권한 확인
-        if (!waiting.getRestaurant().getOwner().getId().equals(ownerId)) {
-            throw new UnauthorizedException("권한이 없습니다");
-        }
+        restaurantOwnershipIndex.requireOwner(waiting.getRestaurant().getId(), ownerId, "권한이 없습니다");
         
         waiting.seat();
         
@@ -261,9 +264,7 @@ public class WaitingService {
                 .orElseThrow(() -> new ResourceNotFoundException("존재하지 않는 대기입니다"));
         
         // 사업자 권한 확인
-        if (!waiting.getRestaurant().getOwner().getId().equals(ownerId)) {
-            throw new UnauthorizedException("권한이 없습니다");
-        }
+        restaurantOwnershipIndex.requireOwner(waiting.getRestaurant().getId(), ownerId, "권한이 없습니다");
         
         Long restaurantId = waiting.getRestaurant().getId();
         String restaurantName = waiting.getRestaurant().getName();
@@ -0,0 +1,274 @@
+package com.ezroad.trending;
+
+import com.ezroad.dto.response.RestaurantResponse;
+import com.ezroad.entity.Restaurant;
+import com.ezroad.entity.RestaurantStatus;
+import com.ezroad.event.RestaurantActivityEvent;
+import com.ezroad.repository.RestaurantRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 트렌딩 식당 랭킹 (Redis Sorted Set, 지수 감쇠)
+ *
+ * 점수: Σ w · e^{-(now - t)/τ}  (τ = 반감기 / ln2)
+ * - 매번 전체 점수를 감쇠시키는 대신, 기준 시각 t0(epoch) 대비 e^{(t - t0)/τ} 배로 키워서 더함
+ *   → 모든 멤버가 같은 배율이라 순위는 그대로, 조회 시 e^{-(now - t0)/τ}를 곱하면 실제 점수
+ * - 배율이 커지면(주기 점검) 전체 키를 ZUNIONSTORE WEIGHTS로 재정규화하고 t0를 현재로 이동,
+ *   이때 임계값 미만 멤버 제거 + 키별 최대 크기 유지
+ * - 가산/재정규화 모두 Lua 스크립트로 원자 실행 (epoch 읽기와 가산 사이에 재정규화가 끼지 않음)
+ *
+ * 키:
+ * - trending:restaurants:all / trending:restaurants:category:{category} / trending:restaurants:region:{region}
+ * - trending:restaurants:epoch → t0 (초), trending:restaurants:keys → 사용 중인 ZSET 키 목록
+ * - 스크립트가 keys 세트에 등록된 키를 직접 다루므로 단일 Redis(비클러스터) 전제
+ */
+@Slf4j
+@Service
+public class TrendingService {
+
+    private static final String KEY_PREFIX = "trending:restaurants:";
+    private static final String GLOBAL_KEY = KEY_PREFIX + "all";
+    private static final String CATEGORY_KEY_PREFIX = KEY_PREFIX + "category:";
+    private static final String REGION_KEY_PREFIX = KEY_PREFIX + "region:";
+    private static final String EPOCH_KEY = KEY_PREFIX + "epoch";
+    private static final String REGISTRY_KEY = KEY_PREFIX + "keys";
+
+    private static final int MAX_LIMIT = 50;
+
+    // ARGV: now, tau, [member, weight, keyCount, key...]...
+    private static final RedisScript<Long> INCREMENT_SCRIPT = new DefaultRedisScript<>("""
+            local now = tonumber(ARGV[1])
+            local epoch = tonumber(redis.call('GET', KEYS[1]))
+            if not epoch then
+              epoch = now
+              redis.call('SET', KEYS[1], ARGV[1])
+            end
+            local factor = math.exp((now - epoch) / tonumber(ARGV[2]))
+            local i = 3
+            while i <= #ARGV do
+              local inc = tonumber(ARGV[i + 1]) * factor
+              local n = tonumber(ARGV[i + 2])
+              for j = 1, n do
+                local key = ARGV[i + 2 + j]
+                redis.call('ZINCRBY', key, inc, ARGV[i])
+                redis.call('SADD', KEYS[2], key)
+              end
+              i = i + 3 + n
+            end
+            return 1
+            """, Long.class);
+
+    // ARGV: now, tau, 재정규화 임계 지수, 최소 점수, 키별 최대 크기
+    private static final RedisScript<Long> RENORMALIZE_SCRIPT = new DefaultRedisScript<>("""
+            local epoch = tonumber(redis.call('GET', KEYS[1]))
+            if not epoch then return 0 end
+            local now = tonumber(ARGV[1])
+            local exponent = (now - epoch) / tonumber(ARGV[2])
+            if exponent < tonumber(ARGV[3]) then return 0 end
+            local factor = math.exp(-exponent)
+            for _, key in ipairs(redis.call('SMEMBERS', KEYS[2])) do
+              redis.call('ZUNIONSTORE', key, 1, key, 'WEIGHTS', factor)
+              redis.call('ZREMRANGEBYSCORE', key, '-inf', '(' .. ARGV[4])
+              redis.call('ZREMRANGEBYRANK', key, 0, -(tonumber(ARGV[5]) + 1))
+              if redis.call('EXISTS', key) == 0 then
+                redis.call('SREM', KEYS[2], key)
+              end
+            end
+            redis.call('SET', KEYS[1], ARGV[1])
+            return 1
+            """, Long.class);
+
+    // 주소 앞부분 → 시/도 약칭
+    private static final Map<String, String> REGION_ALIASES = new LinkedHashMap<>();
+
+    static {
+        String[][] aliases = {
+                {"서울", "서울"}, {"부산", "부산"}, {"대구", "대구"}, {"인천", "인천"},
+                {"광주", "광주"}, {"대전", "대전"}, {"울산", "울산"}, {"세종", "세종"},
+                {"경기", "경기"}, {"강원", "강원"}, {"제주", "제주"},
+                {"충청북", "충북"}, {"충북", "충북"}, {"충청남", "충남"}, {"충남", "충남"},
+                {"전라북", "전북"}, {"전북", "전북"}, {"전라남", "전남"}, {"전남", "전남"},
+                {"경상북", "경북"}, {"경북", "경북"}, {"경상남", "경남"}, {"경남", "경남"}
+        };
+        for (String[] alias : aliases) {
+            REGION_ALIASES.put(alias[0], alias[1]);
+        }
+    }
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RestaurantRepository restaurantRepository;
+    private final double tauSeconds;
+    private final double renormalizeExponent;
+    private final double minScore;
+    private final int maxSize;
+
+    public TrendingService(StringRedisTemplate stringRedisTemplate,
+                           RestaurantRepository restaurantRepository,
+                           @Value("${trending.half-life-hours:24}") double halfLifeHours,
+                           @Value("${trending.renormalize-exponent:5}") double renormalizeExponent,
+                           @Value("${trending.min-score:0.01}") double minScore,
+                           @Value("${trending.max-size:1000}") int maxSize) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.restaurantRepository = restaurantRepository;
+        this.tauSeconds = halfLifeHours * 3600 / Math.log(2);
+        this.renormalizeExponent = renormalizeExponent;
+        this.minScore = minScore;
+        this.maxSize = maxSize;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onRestaurantActivity(RestaurantActivityEvent event) {
+        record(Map.of(event.restaurantId(), event.signal().getWeight()));
+    }
+
+    /**
+     * 조회수 버퍼 반영분 (restaurantId → 조회 수)
+     */
+    public void recordViews(Map<Long, Long> views) {
+        Map<Long, Double> weights = new LinkedHashMap<>();
+        views.forEach((id, count) -> weights.put(id, count * TrendingSignal.VIEW.getWeight()));
+        record(weights);
+    }
+
+    /**
+     * 트렌딩 식당 Top-N
+     * @param category 카테고리별 랭킹 (선택)
+     * @param region   시/도별 랭킹 (선택, 예: 서울, 경기). category와 함께 오면 category 우선
+     */
+    public List<RestaurantResponse> getTrending(String category, String region, int limit) {
+        String key = rankingKey(category, region);
+        int size = Math.max(1, Math.min(limit, MAX_LIMIT));
+
+        List<Long> ids;
+        try {
+            // 비활성 식당 제외분을 감안해 여유 있게 조회
+            Set<String> members = stringRedisTemplate.opsForZSet().reverseRange(key, 0, size * 2L - 1);
+            if (members == null || members.isEmpty()) {
+                return List.of();
+            }
+            ids = members.stream().map(Long::valueOf).toList();
+        } catch (Exception e) {
+            log.error("트렌딩 랭킹 조회 실패 - key: {}, {}", key, e.getMessage());
+            return List.of();
+        }
+
+        Map<Long, Restaurant> restaurants = restaurantRepository.findWithOwnerByIdIn(ids).stream()
+                .collect(Collectors.toMap(Restaurant::getId, Function.identity()));
+        return ids.stream()
+                .map(restaurants::get)
+                .filter(Objects::nonNull)
+                .filter(r -> r.getStatus() == RestaurantStatus.ACTIVE)
+                .limit(size)
+                .map(RestaurantResponse::from)
+                .toList();
+    }
+
+    /**
+     * 배율이 임계값을 넘으면 재정규화 (스크립트가 epoch를 직접 확인하므로 여러 인스턴스가 실행해도 1회만 적용)
+     */
+    @Scheduled(fixedDelayString = "${trending.renormalize-check-interval-ms:600000}")
+    public void renormalizeIfNeeded() {
+        try {
+            Long applied = stringRedisTemplate.execute(RENORMALIZE_SCRIPT, List.of(EPOCH_KEY, REGISTRY_KEY),
+                    nowSeconds(), String.valueOf(tauSeconds), String.valueOf(renormalizeExponent),
+                    String.valueOf(minScore), String.valueOf(maxSize));
+            if (applied != null && applied > 0) {
+                log.info("트렌딩 점수 재정규화 완료");
+            }
+        } catch (Exception e) {
+            log.error("트렌딩 점수 재정규화 실패: {}", e.getMessage());
+        }
+    }
+
+    private void record(Map<Long, Double> weights) {
+        if (weights.isEmpty()) {
+            return;
+        }
+        try {
+            Map<Long, TrendingTarget> targets = restaurantRepository.findTrendingTargetsByIdIn(weights.keySet()).stream()
+                    .collect(Collectors.toMap(TrendingTarget::id, Function.identity()));
+
+            List<String> args = new ArrayList<>();
+            args.add(nowSeconds());
+            args.add(String.valueOf(tauSeconds));
+            weights.forEach((id, weight) -> {
+                TrendingTarget target = targets.get(id);
+                if (target == null) {
+                    return;
+                }
+                List<String> keys = keysOf(target);
+                args.add(id.toString());
+                args.add(String.valueOf(weight));
+                args.add(String.valueOf(keys.size()));
+                args.addAll(keys);
+            });
+            if (args.size() > 2) {
+                stringRedisTemplate.execute(INCREMENT_SCRIPT, List.of(EPOCH_KEY, REGISTRY_KEY), args.toArray());
+            }
+        } catch (Exception e) {
+            // 트렌딩은 부가 기능이므로 실패해도 원 요청에 영향 없음
+            log.error("트렌딩 점수 반영 실패 - {}건, {}", weights.size(), e.getMessage());
+        }
+    }
+
+    private List<String> keysOf(TrendingTarget target) {
+        List<String> keys = new ArrayList<>(3);
+        keys.add(GLOBAL_KEY);
+        if (target.category() != null && !target.category().isBlank()) {
+            keys.add(CATEGORY_KEY_PREFIX + target.category());
+        }
+        String region = regionOf(target.address());
+        if (region != null) {
+            keys.add(REGION_KEY_PREFIX + region);
+        }
+        return keys;
+    }
+
+    private String rankingKey(String category, String region) {
+        if (category != null && !category.isBlank()) {
+            return CATEGORY_KEY_PREFIX + category;
+        }
+        String normalized = regionOf(region);
+        if (normalized != null) {
+            return REGION_KEY_PREFIX + normalized;
+        }
+        return GLOBAL_KEY;
+    }
+
+    /**
+     * 주소(또는 지역명) → 시/도 약칭. 예: "서울특별시 강남구 ..." → 서울, "경상남도 창원시" → 경남
+     */
+    private static String regionOf(String address) {
+        if (address == null || address.isBlank()) {
+            return null;
+        }
+        String head = address.trim();
+        for (Map.Entry<String, String> alias : REGION_ALIASES.entrySet()) {
+            if (head.startsWith(alias.getKey())) {
+                return alias.getValue();
+            }
+        }
+        return null;
+    }
+
+    private String nowSeconds() {
+        return String.valueOf(System.currentTimeMillis() / 1000.0);
+    }
+}
@@ -0,0 +1,22 @@
+package com.ezroad.trending;
+
+/**
+ * 트렌딩 점수 신호와 가중치
+ */
+public enum TrendingSignal {
+    VIEW(1.0),       // 상세 조회
+    THEME(2.0),      // 공개 테마에 추가
+    FOLLOW(3.0),     // 식당 팔로우
+    WAITING(4.0),    // 대기 등록
+    REVIEW(5.0);     // 리뷰 작성
+
+    private final double weight;
+
+    TrendingSignal(double weight) {
+        this.weight = weight;
+    }
+
+    public double getWeight() {
+        return weight;
+    }
+}
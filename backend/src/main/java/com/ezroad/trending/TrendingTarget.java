@@ -0,0 +1,7 @@
+package com.ezroad.trending;
+
+/**
+ * 트렌딩 키 계산용 식당 정보 (JPQL 생성자 프로젝션)
+ */
+public record TrendingTarget(Long id, String category, String address) {
+}
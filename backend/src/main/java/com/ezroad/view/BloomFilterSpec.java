@@ -0,0 +1,65 @@
+package com.ezroad.view;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 블룸 필터 크기/해시 계산
+ *
+ * - 비트 수 m = -n·ln(p) / (ln2)², 해시 수 k = m/n · ln2 (n: 예상 원소 수, p: 오탐률)
+ * - 비트 위치는 64비트 해시 2개로 이중 해싱: h1 + i·h2 (mod m)
+ * - Redis 문자열 최대 크기(2^32 비트)를 넘지 않도록 제한
+ */
+final class BloomFilterSpec {
+
+    static final long MAX_BITS = 1L << 32;
+
+    private final long bits;
+    private final int hashCount;
+
+    BloomFilterSpec(long expectedInsertions, double falsePositiveRate) {
+        if (expectedInsertions <= 0 || falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("블룸 필터 설정이 올바르지 않습니다");
+        }
+        double ln2 = Math.log(2);
+        long m = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (ln2 * ln2));
+        this.bits = Math.max(64, Math.min(m, MAX_BITS));
+        this.hashCount = Math.max(1, (int) Math.round((double) bits / expectedInsertions * ln2));
+    }
+
+    long bits() {
+        return bits;
+    }
+
+    int hashCount() {
+        return hashCount;
+    }
+
+    long[] offsets(String element) {
+        long h1 = fnv1a64(element.getBytes(StandardCharsets.UTF_8));
+        long h2 = mix64(h1 ^ 0x9E3779B97F4A7C15L) | 1L;
+        long[] offsets = new long[hashCount];
+        for (int i = 0; i < hashCount; i++) {
+            offsets[i] = Math.floorMod(h1 + i * h2, bits);
+        }
+        return offsets;
+    }
+
+    private static long fnv1a64(byte[] bytes) {
+        long hash = 0xCBF29CE484222325L;
+        for (byte b : bytes) {
+            hash ^= b & 0xFF;
+            hash *= 0x100000001B3L;
+        }
+        return mix64(hash);
+    }
+
+    // murmur3 fmix64
+    private static long mix64(long h) {
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,13 @@
+package com.ezroad.view;
+
+/**
+ * 조회수 중복 방지 저장 방식
+ */
+public enum ViewDedupMode {
+    /** 네임스페이스별 일별 블룸 필터 1개 (Redis 비트맵, 크기 고정) */
+    BLOOM,
+    /** 대상별 일별 HyperLogLog (대상당 최대 12KB, 조회수는 고유 조회자 추정치인 근사값) */
+    HLL,
+    /** 조회마다 24시간 키 1개 (정확, 키 수 = 고유 조회 수) */
+    KEY
+}
@@ -0,0 +1,118 @@
+package com.ezroad.view;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * 조회수 중복 방지 (같은 조회자가 다시 봐도 조회수를 올리지 않음)
+ *
+ * - BLOOM: {ns}:view:bloom:{yyyyMMdd} 비트맵 1개에 "대상id:조회자"를 기록. 메모리는 예상 조회 수/오탐률로 고정,
+ *          오탐 시 처음 본 조회도 중복으로 취급 (조회수가 약간 덜 오름)
+ * - HLL:   {ns}:view:hll:{대상id}:{yyyyMMdd} 에 조회자 PFADD, 추가 전후 PFCOUNT 차이만큼 증가.
+ *          HLL은 원소 포함 여부를 알 수 없으므로 조회 1건 단위로 판정하지 않음 → 대상별 하루 조회수 합이
+ *          고유 조회자 추정치(표준 오차 약 0.81%)가 되는 근사 집계. 같은 조회자의 재조회는 레지스터가 바뀌지 않아 0
+ * - KEY:   {ns}:view:{대상id}:{조회자} 키를 24시간 보관 (기존 방식, 정확하지만 키 수 = 고유 조회 수)
+ * - BLOOM/HLL은 한국 시간 날짜 단위로 교체 (자정 이후 다시 집계), 키는 이틀 뒤 만료
+ * - 확인과 기록은 스크립트/SET NX로 한 번에 처리. Redis 장애 시 조회수를 올리지 않음
+ */
+@Slf4j
+@Component
+public class ViewDeduplicator {
+
+    private static final ZoneId KOREA_ZONE = ZoneId.of("Asia/Seoul");
+    private static final DateTimeFormatter DAY_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+    private static final Duration KEY_EXPIRY = Duration.ofHours(24);
+    private static final Duration DAILY_EXPIRY = Duration.ofDays(2);
+
+    // ARGV: 비트 위치..., 만료(초). 하나라도 0이었으면 처음 보는 원소
+    private static final RedisScript<Long> BLOOM_SCRIPT = new DefaultRedisScript<>("""
+            local added = 0
+            for i = 1, #ARGV - 1 do
+              if redis.call('SETBIT', KEYS[1], ARGV[i], 1) == 0 then added = 1 end
+            end
+            if redis.call('TTL', KEYS[1]) < 0 then redis.call('EXPIRE', KEYS[1], ARGV[#ARGV]) end
+            return added
+            """, Long.class);
+
+    // ARGV: 조회자, 만료(초) / 반환: 추정 고유 조회자 수 증가분
+    private static final RedisScript<Long> HLL_SCRIPT = new DefaultRedisScript<>("""
+            local before = redis.call('PFCOUNT', KEYS[1])
+            if redis.call('PFADD', KEYS[1], ARGV[1]) == 0 then return 0 end
+            if redis.call('TTL', KEYS[1]) < 0 then redis.call('EXPIRE', KEYS[1], ARGV[2]) end
+            local delta = redis.call('PFCOUNT', KEYS[1]) - before
+            if delta < 0 then return 0 end
+            return delta
+            """, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ViewDedupMode mode;
+    private final BloomFilterSpec bloom;
+
+    public ViewDeduplicator(StringRedisTemplate stringRedisTemplate,
+                            @Value("${view-dedup.mode:BLOOM}") ViewDedupMode mode,
+                            @Value("${view-dedup.expected-daily-views:1000000}") long expectedDailyViews,
+                            @Value("${view-dedup.false-positive-rate:0.001}") double falsePositiveRate) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.mode = mode;
+        this.bloom = new BloomFilterSpec(expectedDailyViews, falsePositiveRate);
+        if (mode == ViewDedupMode.BLOOM) {
+            log.info("조회 중복 방지: 블룸 필터 {}KB/일, 해시 {}개", bloom.bits() / 8 / 1024, bloom.hashCount());
+        }
+    }
+
+    /**
+     * 조회 기록
+     * @param namespace 대상 종류 (review, theme 등)
+     * @return 올릴 조회수 (BLOOM/KEY: 처음 보는 조회면 1, 중복이면 0 / HLL: 추정 고유 조회자 수 증가분)
+     */
+    public long markViewed(String namespace, Long targetId, String viewerIdentifier) {
+        try {
+            return switch (mode) {
+                case BLOOM -> markBloom(namespace, targetId, viewerIdentifier) ? 1L : 0L;
+                case HLL -> markHll(namespace, targetId, viewerIdentifier);
+                case KEY -> Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(
+                        namespace + ":view:" + targetId + ":" + viewerIdentifier, "1", KEY_EXPIRY)) ? 1L : 0L;
+            };
+        } catch (Exception e) {
+            log.error("조회 중복 확인 실패 - {}:{}, {}", namespace, targetId, e.getMessage());
+            return 0L;
+        }
+    }
+
+    public ViewDedupMode getMode() {
+        return mode;
+    }
+
+    private boolean markBloom(String namespace, Long targetId, String viewerIdentifier) {
+        long[] offsets = bloom.offsets(targetId + ":" + viewerIdentifier);
+        Object[] args = new Object[offsets.length + 1];
+        for (int i = 0; i < offsets.length; i++) {
+            args[i] = String.valueOf(offsets[i]);
+        }
+        args[offsets.length] = String.valueOf(DAILY_EXPIRY.toSeconds());
+        Long added = stringRedisTemplate.execute(BLOOM_SCRIPT,
+                List.of(namespace + ":view:bloom:" + today()), args);
+        return added != null && added == 1L;
+    }
+
+    private long markHll(String namespace, Long targetId, String viewerIdentifier) {
+        Long delta = stringRedisTemplate.execute(HLL_SCRIPT,
+                List.of(namespace + ":view:hll:" + targetId + ":" + today()),
+                viewerIdentifier, String.valueOf(DAILY_EXPIRY.toSeconds()));
+        return delta != null ? delta : 0L;
+    }
+
+    private String today() {
+        return LocalDate.now(KOREA_ZONE).format(DAY_FORMAT);
+    }
+}
@@ -0,0 +1,17 @@
+-- EzRoad 식당 검색 - 1~2글자 키워드용 인덱스
+-- 실행 방법: Neon Dashboard > SQL Editor에서 실행
+--
+-- pg_trgm GIN 인덱스는 3글자 미만 ILIKE 패턴('%국밥%')에 쓰이지 않아 전체 스캔이 된다.
+-- 이름/주소의 1·2글자 부분 문자열(소문자) 배열에 GIN 인덱스를 두고
+-- RestaurantRepository.searchIdsByShortKeyword 에서 short_grams(...) @> ARRAY[키워드] 로 조회한다.
+
+CREATE OR REPLACE FUNCTION short_grams(value text) RETURNS text[]
+    LANGUAGE sql IMMUTABLE PARALLEL SAFE AS $$
+SELECT COALESCE(array_agg(DISTINCT gram), '{}')
+FROM (SELECT lower(substr(value, i, 1)) AS gram FROM generate_series(1, char_length(value)) AS i
+      UNION
+      SELECT lower(substr(value, i, 2)) FROM generate_series(1, char_length(value) - 1) AS i) grams
+$$;
+
+CREATE INDEX IF NOT EXISTS idx_restaurants_name_short_grams ON restaurants USING gin (short_grams(name));
+CREATE INDEX IF NOT EXISTS idx_restaurants_address_short_grams ON restaurants USING gin (short_grams(address));
@@ -0,0 +1,14 @@
+-- EzRoad 식당 검색 최적화 - pg_trgm 인덱스 추가
+-- 실행 방법: SQL Editor에서 실행
+-- 작성일: 2026-10-19
+--
+-- RestaurantRepository.searchByRelevance 의 ILIKE '%키워드%' 조건과
+-- word_similarity 정렬이 인덱스를 사용하도록 trigram GIN 인덱스를 생성한다.
+-- GIN 인덱스는 INSERT/UPDATE 시 자동으로 갱신된다.
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- ==================== restaurants 테이블 ====================
+CREATE INDEX IF NOT EXISTS idx_restaurants_name_trgm ON restaurants USING gin (name gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_restaurants_address_trgm ON restaurants USING gin (address gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_restaurants_description_trgm ON restaurants USING gin (description gin_trgm_ops);
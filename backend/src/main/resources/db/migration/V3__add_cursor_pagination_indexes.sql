@@ -0,0 +1,28 @@
+-- EzRoad 커서(keyset) 페이지네이션용 복합 인덱스
+-- 실행 방법: Neon Dashboard > SQL Editor에서 실행
+-- 조건 형태: sort_key <= :key AND (sort_key < :key OR id < :id) ORDER BY sort_key DESC, id DESC
+-- → 인덱스 순서 그대로 읽다가 LIMIT에서 멈추므로 페이지 깊이와 무관하게 일정한 비용
+
+-- ==================== restaurants 테이블 ====================
+CREATE INDEX IF NOT EXISTS idx_restaurants_status_created_id
+    ON restaurants(status, created_at DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_restaurants_status_category_created_id
+    ON restaurants(status, category, created_at DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_restaurants_status_rating_id
+    ON restaurants(status, avg_rating DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_restaurants_status_category_rating_id
+    ON restaurants(status, category, avg_rating DESC, id DESC);
+
+-- ==================== reviews 테이블 ====================
+CREATE INDEX IF NOT EXISTS idx_reviews_active_created_id
+    ON reviews(created_at DESC, id DESC) WHERE deleted_at IS NULL;
+CREATE INDEX IF NOT EXISTS idx_reviews_restaurant_active_created_id
+    ON reviews(restaurant_id, created_at DESC, id DESC) WHERE deleted_at IS NULL;
+
+-- ==================== notifications 테이블 ====================
+CREATE INDEX IF NOT EXISTS idx_notifications_receiver_created_id
+    ON notifications(receiver_id, created_at DESC, id DESC);
+
+-- ==================== themes 테이블 ====================
+CREATE INDEX IF NOT EXISTS idx_themes_public_created_id
+    ON themes(created_at DESC, id DESC) WHERE is_public = true;
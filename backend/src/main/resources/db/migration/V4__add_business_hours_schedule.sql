@@ -0,0 +1,7 @@
+-- EzRoad 영업시간 비트셋 컬럼
+-- 실행 방법: Neon Dashboard > SQL Editor에서 실행
+-- business_hours(자유 형식 문자열)를 15분 단위 주간 비트셋(672비트 = 84바이트)으로 컴파일해 저장
+-- 슬롯 = 요일(월=0) * 96 + 분/15 (한국 시간), get_bit(business_hours_schedule, 슬롯) = 1 이면 영업 중
+-- 기존 데이터는 애플리케이션 기동 시 BusinessHoursBackfill이 채움
+
+ALTER TABLE restaurants ADD COLUMN IF NOT EXISTS business_hours_schedule BYTEA;
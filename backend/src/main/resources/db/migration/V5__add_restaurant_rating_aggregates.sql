@@ -0,0 +1,36 @@
+-- EzRoad 식당 평점 집계 컬럼
+-- 실행 방법: Neon Dashboard > SQL Editor에서 실행
+-- 리뷰 작성/수정/삭제 시 UPDATE 한 번으로 증감 (RestaurantRatingService)
+-- 평균 = rating_sum / review_count, avg_rating은 목록 정렬용으로 함께 갱신
+
+ALTER TABLE restaurants ADD COLUMN IF NOT EXISTS rating_sum BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE restaurants ADD COLUMN IF NOT EXISTS rating1_count INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE restaurants ADD COLUMN IF NOT EXISTS rating2_count INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE restaurants ADD COLUMN IF NOT EXISTS rating3_count INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE restaurants ADD COLUMN IF NOT EXISTS rating4_count INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE restaurants ADD COLUMN IF NOT EXISTS rating5_count INTEGER NOT NULL DEFAULT 0;
+
+-- 기존 데이터 집계 (애플리케이션 기동 시 복구 작업도 같은 집계를 수행)
+UPDATE restaurants r SET
+    review_count = a.cnt,
+    rating_sum = a.total,
+    rating1_count = a.c1,
+    rating2_count = a.c2,
+    rating3_count = a.c3,
+    rating4_count = a.c4,
+    rating5_count = a.c5,
+    avg_rating = CASE WHEN a.cnt > 0 THEN ROUND(CAST(a.total AS NUMERIC) / a.cnt, 2) ELSE 0 END
+FROM (
+    SELECT res.id,
+           COUNT(rv.id) AS cnt,
+           COALESCE(SUM(rv.rating), 0) AS total,
+           COUNT(rv.id) FILTER (WHERE rv.rating = 1) AS c1,
+           COUNT(rv.id) FILTER (WHERE rv.rating = 2) AS c2,
+           COUNT(rv.id) FILTER (WHERE rv.rating = 3) AS c3,
+           COUNT(rv.id) FILTER (WHERE rv.rating = 4) AS c4,
+           COUNT(rv.id) FILTER (WHERE rv.rating = 5) AS c5
+    FROM restaurants res
+    LEFT JOIN reviews rv ON rv.restaurant_id = res.id AND rv.deleted_at IS NULL
+    GROUP BY res.id
+) a
+WHERE r.id = a.id;
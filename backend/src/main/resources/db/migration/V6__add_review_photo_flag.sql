@@ -0,0 +1,19 @@
+-- EzRoad 리뷰 사진 플래그
+-- 실행 방법: Neon Dashboard > SQL Editor에서 실행
+-- 사진 리뷰 필터/개수를 review_images EXISTS 서브쿼리 대신 has_photo 조건 + 부분 인덱스로 처리
+
+ALTER TABLE reviews ADD COLUMN IF NOT EXISTS image_count INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE reviews ADD COLUMN IF NOT EXISTS has_photo BOOLEAN NOT NULL DEFAULT false;
+
+-- 기존 데이터
+UPDATE reviews r SET
+    image_count = i.cnt,
+    has_photo = true
+FROM (SELECT review_id, COUNT(*) AS cnt FROM review_images GROUP BY review_id) i
+WHERE r.id = i.review_id;
+
+-- 사진 리뷰 목록 (최신순, 커서 페이지네이션) / 개수
+CREATE INDEX IF NOT EXISTS idx_reviews_photo_created_id
+    ON reviews(created_at DESC, id DESC) WHERE deleted_at IS NULL AND has_photo;
+CREATE INDEX IF NOT EXISTS idx_reviews_restaurant_photo_created_id
+    ON reviews(restaurant_id, created_at DESC, id DESC) WHERE deleted_at IS NULL AND has_photo;
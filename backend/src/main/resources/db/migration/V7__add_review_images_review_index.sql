@@ -0,0 +1,7 @@
+-- EzRoad 리뷰 이미지 조회 인덱스
+-- 실행 방법: Neon Dashboard > SQL Editor에서 실행
+-- 리뷰 목록은 페이지의 리뷰 id로 이미지를 한 번에 조회 (review_id IN (...) ORDER BY review_id, sort_order)
+-- PostgreSQL은 FK 컬럼에 인덱스를 자동 생성하지 않음
+
+CREATE INDEX IF NOT EXISTS idx_review_images_review_sort
+    ON review_images(review_id, sort_order);
@@ -0,0 +1,49 @@
+-- EzRoad 리뷰 부분 인덱스 정리 + 삭제 리뷰 보관 테이블
+-- 실행 방법: Neon Dashboard > SQL Editor에서 실행
+-- 리뷰 조회는 모두 deleted_at IS NULL 조건 → 삭제된 행은 인덱스에서 빼고, 정렬 순서까지 맞춘 부분 인덱스로 대체
+-- 삭제 후 보관 기간이 지난 리뷰/이미지는 ReviewPurgeService가 청크 단위로 *_archive 테이블로 옮김
+
+-- ==================== reviews 테이블 ====================
+-- 회원별 리뷰 목록/개수 (식당별은 V3 idx_reviews_restaurant_active_created_id)
+CREATE INDEX IF NOT EXISTS idx_reviews_member_active_created_id
+    ON reviews(member_id, created_at DESC, id DESC) WHERE deleted_at IS NULL;
+
+-- 보관 대상 조회 (삭제된 리뷰만)
+CREATE INDEX IF NOT EXISTS idx_reviews_deleted_at_id
+    ON reviews(deleted_at, id) WHERE deleted_at IS NOT NULL;
+
+-- 위 부분 인덱스로 대체 (삭제 여부만 구분하던 인덱스)
+DROP INDEX IF EXISTS idx_reviews_restaurant_deleted;
+DROP INDEX IF EXISTS idx_reviews_member_deleted;
+
+-- ==================== 보관 테이블 ====================
+-- 원본 FK 없이 보관 (식당/회원이 삭제돼도 유지)
+CREATE TABLE IF NOT EXISTS reviews_archive (
+    id              BIGINT PRIMARY KEY,
+    restaurant_id   BIGINT NOT NULL,
+    member_id       BIGINT NOT NULL,
+    reservation_id  BIGINT,
+    title           VARCHAR(200),
+    content         TEXT NOT NULL,
+    rating          INTEGER NOT NULL,
+    hit             INTEGER,
+    image_count     INTEGER,
+    has_photo       BOOLEAN,
+    created_at      TIMESTAMP NOT NULL,
+    updated_at      TIMESTAMP,
+    deleted_at      TIMESTAMP NOT NULL,
+    archived_at     TIMESTAMP NOT NULL DEFAULT now()
+);
+CREATE INDEX IF NOT EXISTS idx_reviews_archive_restaurant ON reviews_archive(restaurant_id);
+CREATE INDEX IF NOT EXISTS idx_reviews_archive_member ON reviews_archive(member_id);
+
+CREATE TABLE IF NOT EXISTS review_images_archive (
+    id              BIGINT PRIMARY KEY,
+    review_id       BIGINT NOT NULL,
+    image_url       VARCHAR(500) NOT NULL,
+    original_name   VARCHAR(255),
+    sort_order      INTEGER,
+    created_at      TIMESTAMP NOT NULL,
+    archived_at     TIMESTAMP NOT NULL DEFAULT now()
+);
+CREATE INDEX IF NOT EXISTS idx_review_images_archive_review ON review_images_archive(review_id);
@@ -0,0 +1,6 @@
+-- EzRoad 테마 조회 기록 정리용 인덱스
+-- 실행 방법: Neon Dashboard > SQL Editor에서 실행
+-- ThemeViewRetentionService가 viewed_at 순으로 청크 삭제 (viewed_at < :before ORDER BY viewed_at, id LIMIT n)
+
+CREATE INDEX IF NOT EXISTS idx_theme_views_viewed_at_id
+    ON theme_views(viewed_at, id);
@@ -0,0 +1,47 @@
+package com.ezroad.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ExportWriterTest {
+
+    private static final List<String> COLUMNS = List.of("id", "content", "photo");
+
+    @Test
+    @DisplayName("CSV - BOM/헤더, 쉼표·따옴표·줄바꿈 인용, 수식 시작 문자 무력화")
+    void csv() throws IOException {
+        String text = write(ExportFormat.CSV);
+
+        assertThat(text).isEqualTo("\uFEFFid,content,photo\r\n"
+                + "1,\"맛있어요, \"\"또\"\"\n갈게요\",\r\n"
+                + "2,'=SUM(A1),true\r\n");
+    }
+
+    @Test
+    @DisplayName("NDJSON - 줄마다 JSON 객체 하나")
+    void ndjson() throws IOException {
+        String text = write(ExportFormat.NDJSON);
+
+        assertThat(text).isEqualTo("{\"id\":1,\"content\":\"맛있어요, \\\"또\\\"\\n갈게요\",\"photo\":null}\n"
+                + "{\"id\":2,\"content\":\"=SUM(A1)\",\"photo\":true}\n");
+    }
+
+    private String write(ExportFormat format) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ExportWriter writer = new ExportWriter(format, COLUMNS, new ObjectMapper(), out);
+        writer.writeHeader();
+        writer.writeRow(Arrays.asList(1L, "맛있어요, \"또\"\n갈게요", null));
+        writer.writeRow(Arrays.asList(2L, "=SUM(A1)", true));
+        writer.flush();
+        return out.toString(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,87 @@
+package com.ezroad.hours;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BusinessHoursParserTest {
+
+    // 2025-01-06은 월요일
+    private static boolean openAt(String businessHours, int dayOffset, int hour, int minute) {
+        byte[] schedule = BusinessHours.compile(businessHours);
+        return BusinessHours.isOpen(schedule,
+                BusinessHours.slotOf(LocalDateTime.of(2025, 1, 6 + dayOffset, hour, minute)));
+    }
+
+    @Test
+    @DisplayName("요일 지정 없는 구간은 매일 적용, 라스트오더 시각은 무시")
+    void everyDay() {
+        String hours = "매일 10:00 - 22:00 (라스트오더 21:00)";
+        assertThat(openAt(hours, 0, 10, 0)).isTrue();
+        assertThat(openAt(hours, 6, 21, 45)).isTrue();
+        assertThat(openAt(hours, 3, 22, 0)).isFalse();
+        assertThat(openAt(hours, 3, 9, 59)).isFalse();
+    }
+
+    @Test
+    @DisplayName("요일별 구간과 휴무")
+    void daysAndClosed() {
+        String hours = "월~금 11:00~21:00 / 토 12:00~20:00 / 일 휴무";
+        assertThat(openAt(hours, 4, 11, 30)).isTrue();
+        assertThat(openAt(hours, 5, 11, 30)).isFalse();
+        assertThat(openAt(hours, 5, 19, 45)).isTrue();
+        assertThat(openAt(hours, 6, 13, 0)).isFalse();
+    }
+
+    @Test
+    @DisplayName("브레이크타임 제외 및 요일이 뒤에 오는 휴무 표기")
+    void breakTimeAndTrailingClosedDays() {
+        String hours = "11:00-22:00 브레이크타임 15:00-17:00, 정기휴무: 화, 목";
+        assertThat(openAt(hours, 0, 14, 45)).isTrue();
+        assertThat(openAt(hours, 0, 16, 0)).isFalse();
+        assertThat(openAt(hours, 1, 12, 0)).isFalse();
+        assertThat(openAt(hours, 3, 12, 0)).isFalse();
+        assertThat(openAt(hours, 2, 12, 0)).isTrue();
+    }
+
+    @Test
+    @DisplayName("앞에 오는 휴무 표기는 휴무 요일에만 적용")
+    void leadingClosedNotice() {
+        String weekly = "매주 월요일 휴무, 11:00-22:00";
+        assertThat(openAt(weekly, 0, 12, 0)).isFalse();
+        assertThat(openAt(weekly, 1, 12, 0)).isTrue();
+        assertThat(openAt(weekly, 6, 21, 45)).isTrue();
+
+        String slashed = "월요일 휴무 / 11:00-21:00";
+        assertThat(openAt(slashed, 0, 12, 0)).isFalse();
+        assertThat(openAt(slashed, 3, 12, 0)).isTrue();
+
+        String labeled = "휴무일: 일요일, 월-토 09:00-18:00";
+        assertThat(openAt(labeled, 6, 10, 0)).isFalse();
+        assertThat(openAt(labeled, 0, 10, 0)).isTrue();
+        assertThat(openAt(labeled, 5, 17, 45)).isTrue();
+        assertThat(openAt(labeled, 5, 18, 0)).isFalse();
+    }
+
+    @Test
+    @DisplayName("자정을 넘기는 구간은 다음 날로 이어지고 일요일은 월요일로 순환")
+    void overnight() {
+        String hours = "오후 6시 - 새벽 2시";
+        assertThat(openAt(hours, 0, 23, 0)).isTrue();
+        assertThat(openAt(hours, 1, 1, 45)).isTrue();
+        assertThat(openAt(hours, 1, 2, 0)).isFalse();
+        assertThat(openAt(hours, 0, 1, 0)).isTrue(); // 일요일 밤 → 월요일 새벽
+    }
+
+    @Test
+    @DisplayName("해석 불가 문자열은 empty, 저장 형식은 항상 영업 종료")
+    void unparseable() {
+        assertThat(BusinessHoursParser.parse("전화 문의")).isEmpty();
+        assertThat(BusinessHoursParser.parse(null)).isEmpty();
+        assertThat(BusinessHours.compile("전화 문의")).hasSize(BusinessHours.BYTES).containsOnly(0);
+        assertThat(openAt("24시간", 2, 3, 0)).isTrue();
+    }
+}
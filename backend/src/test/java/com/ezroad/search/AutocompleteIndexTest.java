@@ -0,0 +1,59 @@
+package com.ezroad.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AutocompleteIndexTest {
+
+    private final AutocompleteIndex index = AutocompleteIndex.of(List.of(
+            new AutocompleteIndex.Entry("김밥", "KEYWORD", null, 50),
+            new AutocompleteIndex.Entry("김밥천국 강남점", "RESTAURANT", 1L, 30),
+            new AutocompleteIndex.Entry("김치찌개", "MENU", null, 80),
+            new AutocompleteIndex.Entry("닭갈비", "MENU", null, 10),
+            new AutocompleteIndex.Entry("Burger King", "RESTAURANT", 2L, 5)
+    ));
+
+    private List<String> texts(List<AutocompleteIndex.Entry> entries) {
+        return entries.stream().map(AutocompleteIndex.Entry::text).toList();
+    }
+
+    @Test
+    @DisplayName("완성형 접두사 검색 - 가중치 내림차순")
+    void syllablePrefix() {
+        assertThat(texts(index.suggest("김", 10)))
+                .containsExactly("김치찌개", "김밥", "김밥천국 강남점");
+    }
+
+    @Test
+    @DisplayName("초성 검색 - ㄱㅂ 입력 시 김밥 매칭")
+    void chosungPrefix() {
+        assertThat(texts(index.suggest("ㄱㅂ", 10)))
+                .containsExactly("김밥", "김밥천국 강남점");
+    }
+
+    @Test
+    @DisplayName("자모 단위 접두사 - 입력 중인 글자(김바, 달)도 매칭")
+    void jamoPrefix() {
+        assertThat(texts(index.suggest("김바", 10))).containsExactly("김밥", "김밥천국 강남점");
+        assertThat(texts(index.suggest("달", 10))).containsExactly("닭갈비");
+    }
+
+    @Test
+    @DisplayName("단어 시작 위치 매칭 및 대소문자 무시")
+    void wordStartAndCase() {
+        assertThat(texts(index.suggest("강남", 10))).containsExactly("김밥천국 강남점");
+        assertThat(texts(index.suggest("king", 10))).containsExactly("Burger King");
+    }
+
+    @Test
+    @DisplayName("limit 적용 및 빈 입력 처리")
+    void limitAndBlank() {
+        assertThat(index.suggest("ㄱ", 1)).hasSize(1);
+        assertThat(index.suggest("  ", 10)).isEmpty();
+        assertThat(AutocompleteIndex.empty().suggest("김", 10)).isEmpty();
+    }
+}
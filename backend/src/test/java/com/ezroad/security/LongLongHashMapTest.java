@@ -0,0 +1,55 @@
+package com.ezroad.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LongLongHashMapTest {
+
+    @Test
+    @DisplayName("put/get/remove 및 재해시")
+    void basicOperations() {
+        LongLongHashMap map = new LongLongHashMap(4);
+        for (long id = 1; id <= 1000; id++) {
+            map.put(id, id * 10);
+        }
+        map.put(7, 70_000);
+        map.remove(500);
+
+        assertThat(map.size()).isEqualTo(999);
+        assertThat(map.get(7)).isEqualTo(70_000);
+        assertThat(map.get(1000)).isEqualTo(10_000);
+        assertThat(map.get(500)).isEqualTo(LongLongHashMap.NO_VALUE);
+        assertThat(map.get(5000)).isEqualTo(LongLongHashMap.NO_VALUE);
+    }
+
+    @Test
+    @DisplayName("무작위 삽입/삭제 후에도 HashMap과 동일한 결과 (삭제 시 탐사 경로 유지)")
+    void matchesHashMapUnderRandomOperations() {
+        LongLongHashMap map = new LongLongHashMap(16);
+        Map<Long, Long> expected = new HashMap<>();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 200_000; i++) {
+            long key = 1 + random.nextInt(3000);
+            if (random.nextBoolean()) {
+                long value = 1 + random.nextInt(1_000_000);
+                map.put(key, value);
+                expected.put(key, value);
+            } else {
+                map.remove(key);
+                expected.remove(key);
+            }
+        }
+
+        assertThat(map.size()).isEqualTo(expected.size());
+        for (long key = 1; key <= 3000; key++) {
+            assertThat(map.get(key)).isEqualTo(expected.getOrDefault(key, LongLongHashMap.NO_VALUE));
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.ezroad.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GapSortKeysTest {
+
+    @Test
+    @DisplayName("한 항목만 옮기면 그 항목의 키만 바뀜")
+    void singleMove() {
+        // 1024, 2048, 3072, 4096 에서 마지막 항목을 두 번째로
+        int[] keys = GapSortKeys.reassign(new int[]{1024, 4096, 2048, 3072});
+
+        assertThat(keys).containsExactly(1024, 1536, 2048, 3072);
+    }
+
+    @Test
+    @DisplayName("맨 앞/맨 뒤로 옮기면 이웃 키에서 GAP만큼 떨어진 키")
+    void moveToEnds() {
+        assertThat(GapSortKeys.reassign(new int[]{3072, 1024, 2048})).containsExactly(0, 1024, 2048);
+        assertThat(GapSortKeys.reassign(new int[]{2048, 3072, 1024})).containsExactly(2048, 3072, 4096);
+    }
+
+    @Test
+    @DisplayName("사이에 들어갈 정수가 없으면 전체를 GAP 간격으로 다시 매김")
+    void renumberWhenNoRoom() {
+        // 기존 1, 2, 3 키에서 세 번째를 가운데로
+        int[] keys = GapSortKeys.reassign(new int[]{1, 3, 2});
+
+        assertThat(keys).containsExactly(1024, 2048, 3072);
+    }
+
+    @Test
+    @DisplayName("순서가 그대로면 키도 그대로")
+    void unchanged() {
+        assertThat(GapSortKeys.reassign(new int[]{1, 2, 3})).containsExactly(1, 2, 3);
+        assertThat(GapSortKeys.next(3072)).isEqualTo(4096);
+        assertThat(GapSortKeys.next(null)).isEqualTo(1024);
+    }
+}
@@ -0,0 +1,113 @@
+package com.ezroad.view;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.BitSet;
+import java.util.Properties;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 조회 중복 방지 방식 비교
+ *
+ * Redis 벤치마크는 기본 비활성. 실행: ./gradlew test --tests '*ViewDedupBenchmarkTest' -Dbenchmark.redis=localhost:6379
+ * (지정한 Redis의 15번 DB를 비우고 사용)
+ */
+class ViewDedupBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ViewDedupBenchmarkTest.class);
+
+    private static final int TARGETS = 5_000;
+    private static final int VIEWERS = 20_000;
+    private static final int VIEWS = 200_000;
+
+    @Test
+    @DisplayName("블룸 필터 크기 계산 - 예상 원소 수만큼 넣었을 때 오탐률이 목표 근처")
+    void bloomFalsePositiveRate() {
+        BloomFilterSpec spec = new BloomFilterSpec(100_000, 0.01);
+        BitSet bits = new BitSet((int) spec.bits());
+        for (int i = 0; i < 100_000; i++) {
+            for (long offset : spec.offsets("in:" + i)) {
+                bits.set((int) offset);
+            }
+        }
+
+        int falsePositives = 0;
+        int probes = 100_000;
+        for (int i = 0; i < probes; i++) {
+            boolean all = true;
+            for (long offset : spec.offsets("out:" + i)) {
+                all &= bits.get((int) offset);
+            }
+            if (all) falsePositives++;
+        }
+
+        assertThat(spec.hashCount()).isEqualTo(7);
+        assertThat((double) falsePositives / probes).isLessThan(0.015);
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark.redis", matches = ".+")
+    @DisplayName("Redis 메모리/지연 비교 (KEY vs BLOOM vs HLL)")
+    void compareModes() {
+        String[] hostPort = System.getProperty("benchmark.redis").split(":");
+        RedisStandaloneConfiguration config = new RedisStandaloneConfiguration(hostPort[0], Integer.parseInt(hostPort[1]));
+        config.setDatabase(15);
+        LettuceConnectionFactory factory = new LettuceConnectionFactory(config);
+        factory.afterPropertiesSet();
+        StringRedisTemplate redis = new StringRedisTemplate(factory);
+        redis.afterPropertiesSet();
+
+        try {
+            long keyMemory = run(redis, ViewDedupMode.KEY);
+            long bloomMemory = run(redis, ViewDedupMode.BLOOM);
+            run(redis, ViewDedupMode.HLL);
+            assertThat(bloomMemory).isLessThan(keyMemory);
+        } finally {
+            flush(redis);
+            factory.destroy();
+        }
+    }
+
+    private long run(StringRedisTemplate redis, ViewDedupMode mode) {
+        flush(redis);
+        long before = usedMemory(redis);
+        ViewDeduplicator deduplicator = new ViewDeduplicator(redis, mode, VIEWS, 0.001);
+
+        Random random = new Random(7);
+        long counted = 0;
+        long started = System.nanoTime();
+        for (int i = 0; i < VIEWS; i++) {
+            long target = random.nextInt(TARGETS);
+            String viewer = "viewer-" + random.nextInt(VIEWERS);
+            counted += deduplicator.markViewed("bench", target, viewer);
+        }
+        long elapsedMs = (System.nanoTime() - started) / 1_000_000;
+        long memory = usedMemory(redis) - before;
+
+        log.info("{} keys={} memory={}KB counted={}/{} elapsed={}ms ({}µs/op)",
+                mode, redis.execute(c -> c.serverCommands().dbSize(), true), memory / 1024, counted, VIEWS,
+                elapsedMs, String.format("%.1f", elapsedMs * 1000.0 / VIEWS));
+        return memory;
+    }
+
+    private long usedMemory(StringRedisTemplate redis) {
+        Properties info = redis.execute(c -> c.serverCommands().info("memory"), true);
+        return Long.parseLong(info.getProperty("used_memory"));
+    }
+
+    private void flush(StringRedisTemplate redis) {
+        redis.execute(c -> {
+            c.serverCommands().flushDb();
+            return null;
+        }, true);
+    }
+}